@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.ralleytn.simple.input.Direction;
+import de.ralleytn.simple.input.DirectionClassifier;
+
+/**
+ * Compares the {@linkplain DirectionClassifier} with the {@code atan2} based direction calculation that was used before version 1.2.0.
+ * <p>The score is in nanoseconds per stick position.</p>
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DirectionBenchmark {
+
+	private static final int POSITIONS = 1024;
+	
+	/**
+	 * The stick positions. Shared by both benchmarks and free of parameters so that {@link DirectionBenchmark#atan2(Positions, Blackhole)} runs only once.
+	 */
+	@State(Scope.Thread)
+	public static class Positions {
+		
+		private float[] x;
+		private float[] y;
+		
+		@Setup(Level.Trial)
+		public void setUp() {
+			
+			this.x = new float[POSITIONS];
+			this.y = new float[POSITIONS];
+			Random random = new Random(42);
+			
+			// A STICK THAT WANDERS AROUND LIKE A REAL ONE SO THAT THE SECTOR DOES NOT CHANGE WITH EVERY SAMPLE
+			double angle = 0.0;
+			
+			for(int index = 0; index < POSITIONS; index++) {
+				
+				angle += random.nextGaussian() * 0.2;
+				double radius = 0.2 + random.nextDouble() * 0.8;
+				this.x[index] = (float)(Math.cos(angle) * radius);
+				this.y[index] = (float)(Math.sin(angle) * radius);
+			}
+		}
+	}
+	
+	/**
+	 * The classifier and its parameter matrix.
+	 */
+	@State(Scope.Thread)
+	public static class Classifier {
+		
+		@Param({"4", "8", "16"})
+		public int sectors;
+		
+		@Param({"0", "5"})
+		public float hysteresis;
+		
+		private DirectionClassifier classifier;
+		
+		@Setup(Level.Trial)
+		public void setUp() {
+			
+			this.classifier = new DirectionClassifier(this.sectors, this.hysteresis);
+		}
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(POSITIONS)
+	public void atan2(Positions positions, Blackhole blackhole) {
+		
+		for(int index = 0; index < POSITIONS; index++) {
+			
+			blackhole.consume(DirectionBenchmark.getAnalogStickDirection(1.0F, positions.x[index], positions.y[index]));
+		}
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(POSITIONS)
+	public void classifier(Positions positions, Classifier classifier, Blackhole blackhole) {
+		
+		int sector = -1;
+		
+		for(int index = 0; index < POSITIONS; index++) {
+			
+			sector = classifier.classifier.classify(positions.x[index], positions.y[index], sector);
+			blackhole.consume(sector);
+		}
+	}
+	
+	// THE IMPLEMENTATION OF XIGamepadButtonMapping BEFORE VERSION 1.2.0
+	private static final Direction getAnalogStickDirection(float value, float x, float y) {
+		
+		if(value != 0.0F) {
+			
+			double angle = Math.toDegrees(Math.atan2(y, x));
+			
+			       if(angle == -90.0F) {return Direction.SOUTH;
+			} else if(angle == 0.0F)   {return Direction.EAST;
+			} else if(angle == 180.0F) {return Direction.WEST;
+			} else if(angle == 90.0F)  {return Direction.NORTH;
+			} else if(angle < -90.0F)  {return Direction.SOUTH_WEST;
+			} else if(angle < 0.0F)    {return Direction.SOUTH_EAST;
+			} else if(angle > 90.0F)   {return Direction.NORTH_WEST;
+			} else if(angle > 0.0F)    {return Direction.NORTH_EAST;
+			}
+		}
+		
+		return null;
+	}
+}
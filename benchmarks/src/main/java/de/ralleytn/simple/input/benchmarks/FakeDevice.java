@@ -0,0 +1,338 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.benchmarks;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.ralleytn.simple.input.BatchListener;
+import de.ralleytn.simple.input.Device;
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.EventBatch;
+import de.ralleytn.simple.input.Gamepad;
+import de.ralleytn.simple.input.GamepadEvent;
+import de.ralleytn.simple.input.Keyboard;
+import de.ralleytn.simple.input.KeyboardAdapter;
+import de.ralleytn.simple.input.KeyboardEvent;
+import de.ralleytn.simple.input.Mouse;
+import de.ralleytn.simple.input.MouseAdapter;
+import de.ralleytn.simple.input.MouseEvent;
+import de.ralleytn.simple.input.SyntheticController;
+import de.ralleytn.simple.input.SyntheticEnvironment;
+import de.ralleytn.simple.input.XIGamepadAdapter;
+import de.ralleytn.simple.input.XIGamepadEvent;
+import net.java.games.input.Component.Identifier;
+import net.java.games.input.Component.Identifier.Axis;
+import net.java.games.input.Component.Identifier.Button;
+import net.java.games.input.Component.Identifier.Key;
+import net.java.games.input.Controller;
+import net.java.games.input.Controller.Type;
+
+/**
+ * The device types that can be benchmarked, each with a script that exercises all of its event paths.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public enum FakeDevice {
+
+	/**
+	 * Presses and releases all letter keys.
+	 * @since 1.2.0
+	 */
+	KEYBOARD {
+		
+		@Override
+		Controller createController(int eventsPerPoll) {
+			
+			Identifier[] keys = {Key.A, Key.B, Key.C, Key.D, Key.E, Key.F, Key.G, Key.H, Key.I, Key.J, Key.K, Key.L, Key.M,
+								 Key.N, Key.O, Key.P, Key.Q, Key.R, Key.S, Key.T, Key.U, Key.V, Key.W, Key.X, Key.Y, Key.Z};
+			return FakeDevice.perPoll(new SyntheticController("Fake Keyboard", Type.KEYBOARD, keys, new boolean[keys.length], FakeDevice.pressAndRelease(keys.length), 0.0D), eventsPerPoll);
+		}
+		
+		@Override
+		Device getDevice() {
+			
+			return DeviceManager.getKeyboards().get(0);
+		}
+		
+		@Override
+		void addListener(Device device, Blackhole blackhole) {
+			
+			((Keyboard)device).addKeyboardListener(new KeyboardAdapter() {
+				
+				@Override
+				public void onKeyPress(KeyboardEvent event) {
+					
+					blackhole.consume(event);
+				}
+				
+				@Override
+				public void onKeyRelease(KeyboardEvent event) {
+					
+					blackhole.consume(event);
+				}
+			});
+		}
+	},
+	
+	/**
+	 * Moves, drags, clicks and scrolls.
+	 * @since 1.2.0
+	 */
+	MOUSE {
+		
+		@Override
+		Controller createController(int eventsPerPoll) {
+			
+			Identifier[] components = {Axis.X, Axis.Y, Axis.Z, Button.LEFT, Button.RIGHT};
+			boolean[] relative = {true, true, true, false, false};
+			float[] script = {
+				0, 3, 1, -2, 0, 1, 1, 1,
+				3, 1, 0, 5, 1, 4, 3, 0,
+				2, 1, 2, -1, 4, 1, 4, 0
+			};
+			
+			return FakeDevice.perPoll(new SyntheticController("Fake Mouse", Type.MOUSE, components, relative, script, 0.0D), eventsPerPoll);
+		}
+		
+		@Override
+		Device getDevice() {
+			
+			return DeviceManager.getMice().get(0);
+		}
+		
+		@Override
+		void addListener(Device device, Blackhole blackhole) {
+			
+			((Mouse)device).addMouseListener(new MouseAdapter() {
+				
+				@Override
+				public void onMove(MouseEvent event) {
+					
+					blackhole.consume(event);
+				}
+				
+				@Override
+				public void onDrag(MouseEvent event) {
+					
+					blackhole.consume(event);
+				}
+				
+				@Override
+				public void onScroll(MouseEvent event) {
+					
+					blackhole.consume(event);
+				}
+				
+				@Override
+				public void onClick(MouseEvent event) {
+					
+					blackhole.consume(event);
+				}
+				
+				@Override
+				public void onRelease(MouseEvent event) {
+					
+					blackhole.consume(event);
+				}
+			});
+		}
+	},
+	
+	/**
+	 * Uses buttons, POV, both analog sticks and both triggers of an XInput gamepad.
+	 * @since 1.2.0
+	 */
+	XINPUT_GAMEPAD {
+		
+		@Override
+		Controller createController(int eventsPerPoll) {
+			
+			Identifier[] components = {Button._0, Button._1, Button._2, Button._3, Button._4, Button._5, Button._6, Button._7, Button._8, Button._9,
+									   Axis.POV, Axis.X, Axis.Y, Axis.RX, Axis.RY, Axis.Z, Axis.RZ};
+			return FakeDevice.perPoll(new SyntheticController("Fake XInput Gamepad", Type.GAMEPAD, true, components, new boolean[components.length], FakeDevice.gamepadScript(10, 17), 0.0D), eventsPerPoll);
+		}
+		
+		@Override
+		Device getDevice() {
+			
+			return DeviceManager.getGamepads().get(0);
+		}
+		
+		@Override
+		void addListener(Device device, Blackhole blackhole) {
+			
+			((Gamepad)device).addGamepadListener(new XIGamepadAdapter() {
+				
+				@Override
+				public void onAnalogStickPush(GamepadEvent event) {
+					
+					blackhole.consume(event);
+				}
+				
+				@Override
+				public void onButtonPress(GamepadEvent event) {
+					
+					blackhole.consume(event);
+				}
+				
+				@Override
+				public void onButtonRelease(GamepadEvent event) {
+					
+					blackhole.consume(event);
+				}
+				
+				@Override
+				public void onPOVPress(GamepadEvent event) {
+					
+					blackhole.consume(event);
+				}
+				
+				@Override
+				public void onPOVRelease(GamepadEvent event) {
+					
+					blackhole.consume(event);
+				}
+				
+				@Override
+				public void onTriggerPush(XIGamepadEvent event) {
+					
+					blackhole.consume(event);
+				}
+			});
+		}
+	},
+	
+	/**
+	 * Uses buttons, POV and both analog sticks of a DirectInput gamepad.
+	 * @since 1.2.0
+	 */
+	DEFAULT_GAMEPAD {
+		
+		@Override
+		Controller createController(int eventsPerPoll) {
+			
+			Identifier[] components = {Button._0, Button._1, Button._2, Button._3, Button._4, Button._5, Button._6, Button._7, Button._8, Button._9,
+									   Axis.POV, Axis.X, Axis.Y, Axis.Z, Axis.RZ};
+			return FakeDevice.perPoll(new SyntheticController("Fake Gamepad", Type.STICK, components, new boolean[components.length], FakeDevice.gamepadScript(10, 15), 0.0D), eventsPerPoll);
+		}
+		
+		@Override
+		Device getDevice() {
+			
+			return DeviceManager.getGamepads().get(0);
+		}
+		
+		@Override
+		void addListener(Device device, Blackhole blackhole) {
+			
+			XINPUT_GAMEPAD.addListener(device, blackhole);
+		}
+	};
+	
+	abstract Controller createController(int eventsPerPoll);
+	abstract Device getDevice();
+	abstract void addListener(Device device, Blackhole blackhole);
+	
+	/**
+	 * Creates the controller, creates the {@linkplain DeviceManager} with it and attaches the listeners.
+	 * @param eventsPerPoll how many events the controller emits with each poll
+	 * @param listeners the number of listeners
+	 * @param batch {@code true} to attach {@linkplain BatchListener}s instead of the typed listeners
+	 * @param blackhole consumes the events
+	 * @return the device
+	 * @since 1.2.0
+	 */
+	public Device setUp(int eventsPerPoll, int listeners, boolean batch, Blackhole blackhole) {
+		
+		DeviceManager.create(new SyntheticEnvironment(this.createController(eventsPerPoll)));
+		Device device = this.getDevice();
+		
+		for(int index = 0; index < listeners; index++) {
+			
+			if(batch) {
+				
+				device.addBatchListener(new BatchListener() {
+					
+					@Override
+					public void onBatch(EventBatch events) {
+						
+						for(int event = 0; event < events.size(); event++) {
+							
+							blackhole.consume(events.getValue(event));
+						}
+					}
+				});
+				
+			} else {
+				
+				this.addListener(device, blackhole);
+			}
+		}
+		
+		return device;
+	}
+	
+	private static final Controller perPoll(SyntheticController controller, int eventsPerPoll) {
+		
+		controller.setEventsPerPoll(eventsPerPoll);
+		return controller;
+	}
+	
+	private static final float[] pressAndRelease(int components) {
+		
+		float[] script = new float[components * 4];
+		
+		for(int component = 0; component < components; component++) {
+			
+			script[component * 4] = component;
+			script[component * 4 + 1] = 1.0F;
+			script[component * 4 + 2] = component;
+			script[component * 4 + 3] = 0.0F;
+		}
+		
+		return script;
+	}
+	
+	private static final float[] gamepadScript(int buttons, int components) {
+		
+		float[] buttonScript = FakeDevice.pressAndRelease(buttons);
+		float[] axisValues = {0.25F, 0.5F, 0.0F, -0.75F, 1.0F, 0.05F};
+		int axes = components - buttons;
+		float[] script = new float[buttonScript.length + axes * axisValues.length * 2];
+		System.arraycopy(buttonScript, 0, script, 0, buttonScript.length);
+		int position = buttonScript.length;
+		
+		for(float value : axisValues) {
+			
+			for(int axis = 0; axis < axes; axis++) {
+				
+				script[position++] = buttons + axis;
+				script[position++] = value;
+			}
+		}
+		
+		return script;
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.ralleytn.simple.input.Device;
+import de.ralleytn.simple.input.DeviceManager;
+
+/**
+ * Measures how long it takes to deliver a single event from the JInput event queue to the listeners.
+ * <p>The score is in nanoseconds per event. Use {@code -bm thrpt -tu s} for events per second and
+ * {@code -prof gc} for the allocation rate.</p>
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PollBenchmark {
+
+	private static final int EVENTS_PER_POLL = 64;
+	
+	@Param({"KEYBOARD", "MOUSE", "XINPUT_GAMEPAD", "DEFAULT_GAMEPAD"})
+	public FakeDevice device;
+	
+	@Param({"0", "1", "8"})
+	public int listeners;
+	
+	@Param({"true", "false"})
+	public boolean reusingEvents;
+	
+	@Param({"false", "true"})
+	public boolean batch;
+	
+	private Device polledDevice;
+	
+	@Setup(Level.Trial)
+	public void setUp(Blackhole blackhole) {
+		
+		this.polledDevice = this.device.setUp(EVENTS_PER_POLL, this.listeners, this.batch, blackhole);
+		this.polledDevice.setReusingEvents(this.reusingEvents);
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		
+		DeviceManager.destroy();
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(EVENTS_PER_POLL)
+	public boolean poll() {
+		
+		return this.polledDevice.poll();
+	}
+}
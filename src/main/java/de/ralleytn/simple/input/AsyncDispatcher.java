@@ -0,0 +1,750 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import net.java.games.input.Component;
+import net.java.games.input.Event;
+
+/**
+ * Decouples the listeners of a device from its polling thread.
+ * <p>The polling thread publishes every event into a preallocated ring buffer and a consumer invokes the listeners.
+ * The consumer is either a dedicated thread or an {@linkplain Executor}. Slow listeners therefore no longer delay the polling,
+ * which would otherwise cause the event queue of JInput to overflow. What happens if the ring buffer itself is full is decided by the
+ * {@linkplain OverflowPolicy}.</p>
+ * <p>The raw component values and the {@linkplain BatchListener}s still belong to the polling thread.
+ * The {@linkplain DeviceState}s are captured by the consumer at the end of each poll, because the buttons and the POV are tracked
+ * by the listener calls. A state therefore always shows the device as its listeners saw it after the whole poll.</p>
+ * <p>Disabling the dispatcher is a hand-off. The consumer dispatches everything that is left in the ring buffer and stops,
+ * then the disabling thread dispatches the coalesced events. Only after that the polling thread calls the listeners again,
+ * so the listeners are never called by two threads at once and never out of order.</p>
+ * <p>No thread ever waits for the consumer while it holds the lock of the device. Events that do not fit into the ring buffer with
+ * {@link OverflowPolicy#BLOCK} are kept in a backlog, and the polling thread waits for the consumer after the poll, when the lock is released.
+ * Listeners can therefore call {@link Device#getState()}, {@link DeviceManager#snapshot()} or {@link Device#poll()} without deadlocking.</p>
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see Device#enableAsyncDispatch(int, OverflowPolicy)
+ */
+public final class AsyncDispatcher {
+
+	// -1 IS THE INDEX OF A COMPONENT THE CONTROLLER DOES NOT KNOW
+	private static final int END_OF_POLL = Integer.MIN_VALUE;
+	private static final int SPINS_BEFORE_PARKING = 100;
+	private static final long BLOCK_PARK_NANOS = 1_000L;
+	
+	private final Device device;
+	private final Component[] components;
+	private final boolean[] relative;
+	private final OverflowPolicy policy;
+	private final int mask;
+	
+	// RING BUFFER
+	private final AtomicLongArray sequences;
+	private final int[] componentIndices;
+	private final Component[] foreignComponents;
+	private final float[] values;
+	private final long[] nanos;
+	private final long[] observedNanos;
+	private final AtomicLong head;
+	private final AtomicLong tail;
+	
+	// ONLY USED BY THE POLLING THREAD
+	private final float[] pendingValues;
+	private final long[] pendingNanos;
+	private final long[] pendingObservedNanos;
+	private final boolean[] pending;
+	private final int[] pendingOrder;
+	private int pendingCount;
+	private boolean pendingEndOfPoll;
+	private long pendingPollCount;
+	private int[] backlogIndices;
+	private Component[] backlogComponents;
+	private float[] backlogValues;
+	private long[] backlogNanos;
+	private long[] backlogObservedNanos;
+	private int backlogStart;
+	private int backlogEnd;
+	private volatile long dropped;
+	private volatile long coalesced;
+	
+	// CONSUMER
+	private final Executor executor;
+	private final Thread thread;
+	private final AtomicBoolean scheduled;
+	private final AtomicReference<Thread> consumer;
+	private final Runnable drainTask;
+	private final Event event;
+	private volatile boolean waiting;
+	private volatile boolean running;
+	
+	// ONLY WRITTEN BY THE CONSUMER; THE VALUES AFTER THE EVENTS IT DISPATCHED
+	private final AtomicLongArray dispatchedValues;
+	private volatile long dispatchedPollCount;
+	private boolean dispatchedEvents;
+	
+	AsyncDispatcher(Device device, Component[] components, int capacity, OverflowPolicy policy, Executor executor, ThreadFactory threadFactory) {
+		
+		if(capacity < 1 || capacity > 1 << 30) {
+			
+			throw new IllegalArgumentException("The capacity must be between 1 and " + (1 << 30));
+		}
+		
+		// WITH A SINGLE SLOT THE SEQUENCE OF A PUBLISHED EVENT WOULD BE THE SAME AS THE ONE OF THE NEXT FREE SLOT
+		int size = Math.max(Integer.highestOneBit(capacity * 2 - 1), 2);
+		this.device = device;
+		this.components = components;
+		this.relative = new boolean[components.length];
+		this.policy = policy;
+		this.mask = size - 1;
+		this.sequences = new AtomicLongArray(size);
+		this.componentIndices = new int[size];
+		this.foreignComponents = new Component[size];
+		this.values = new float[size];
+		this.nanos = new long[size];
+		this.observedNanos = new long[size];
+		this.head = new AtomicLong();
+		this.tail = new AtomicLong();
+		this.pendingValues = new float[components.length];
+		this.pendingNanos = new long[components.length];
+		this.pendingObservedNanos = new long[components.length];
+		this.pending = new boolean[components.length];
+		this.pendingOrder = new int[components.length];
+		this.backlogIndices = new int[0];
+		this.backlogComponents = new Component[0];
+		this.backlogValues = new float[0];
+		this.backlogNanos = new long[0];
+		this.backlogObservedNanos = new long[0];
+		this.scheduled = new AtomicBoolean();
+		this.consumer = new AtomicReference<>();
+		this.event = new Event();
+		this.dispatchedValues = new AtomicLongArray(components.length);
+		this.running = true;
+		
+		for(int index = 0; index < size; index++) {
+			
+			this.sequences.set(index, index);
+		}
+		
+		for(int index = 0; index < components.length; index++) {
+			
+			this.relative[index] = components[index].isRelative();
+		}
+		
+		if(executor != null) {
+			
+			this.executor = executor;
+			this.thread = null;
+			this.drainTask = this::drainScheduled;
+			
+		} else {
+			
+			this.executor = null;
+			this.drainTask = null;
+			this.thread = threadFactory.newThread(this::runDedicated);
+			this.thread.setDaemon(true);
+			this.thread.start();
+		}
+	}
+	
+	// ==== PRODUCER
+	
+	/**
+	 * Publishes an event.
+	 * @param componentIndex the index of the component or {@code -1} if the controller does not know the component
+	 * @param component the component; only kept if the index is {@code -1}
+	 * @param value the value of the event
+	 * @param nanos the timestamp of the event
+	 * @param observedNanos the time at which the polling thread took the event from the driver
+	 */
+	final void publish(int componentIndex, Component component, float value, long nanos, long observedNanos) {
+		
+		Component foreign = componentIndex < 0 ? component : null;
+		
+		if(this.backlogStart < this.backlogEnd && !this.flushBacklog()) {
+			
+			// KEEP THE ORDER; NOTHING OVERTAKES THE BACKLOG
+			this.appendBacklog(componentIndex, foreign, value, nanos, observedNanos);
+			return;
+		}
+		
+		if(this.pendingCount > 0 || this.pendingEndOfPoll) {
+			
+			// KEEP THE ORDER; NOTHING OVERTAKES THE COALESCED EVENTS
+			if(!this.flushPending()) {
+				
+				this.coalesce(componentIndex, value, nanos, observedNanos);
+				return;
+			}
+		}
+		
+		if(!this.tryPublish(componentIndex, foreign, value, nanos, observedNanos)) {
+			
+			this.handleOverflow(componentIndex, foreign, value, nanos, observedNanos);
+		}
+	}
+	
+	/**
+	 * Publishes the end of a poll. The consumer updates the device and captures its state when it reaches it.
+	 * @param pollCount the number of polls the device had after this one
+	 */
+	final void endOfPoll(long pollCount) {
+		
+		// THE TIMESTAMP OF THE END OF A POLL IS THE POLL COUNT
+		this.publish(END_OF_POLL, null, 0.0F, pollCount, 0L);
+		this.signal();
+	}
+	
+	private final boolean tryPublish(int componentIndex, Component foreign, float value, long nanos, long observedNanos) {
+		
+		long position = this.tail.get();
+		int slot = (int)position & this.mask;
+		
+		if(this.sequences.get(slot) != position) {
+			
+			return false;
+		}
+		
+		this.componentIndices[slot] = componentIndex;
+		this.foreignComponents[slot] = foreign;
+		this.values[slot] = value;
+		this.nanos[slot] = nanos;
+		this.observedNanos[slot] = observedNanos;
+		this.sequences.lazySet(slot, position + 1);
+		
+		// A FULL FENCE; THE PRODUCER READS THE WAITING FLAG RIGHT AFTER THIS AND THE CONSUMER DOES IT THE OTHER WAY AROUND
+		this.tail.set(position + 1);
+		return true;
+	}
+	
+	private final void handleOverflow(int componentIndex, Component foreign, float value, long nanos, long observedNanos) {
+		
+		if(this.policy == OverflowPolicy.BLOCK) {
+			
+			// THE POLLING THREAD HOLDS THE LOCK OF THE DEVICE; IT WAITS IN awaitBacklog AFTER RELEASING IT
+			this.appendBacklog(componentIndex, foreign, value, nanos, observedNanos);
+			
+		} else if(this.policy == OverflowPolicy.DROP_OLDEST) {
+			
+			while(!this.tryPublish(componentIndex, foreign, value, nanos, observedNanos)) {
+				
+				if(this.tryTake(false)) {
+					
+					this.dropped++;
+				}
+			}
+			
+		} else {
+			
+			this.coalesce(componentIndex, value, nanos, observedNanos);
+		}
+	}
+	
+	private final void coalesce(int componentIndex, float value, long nanos, long observedNanos) {
+		
+		if(componentIndex == END_OF_POLL) {
+			
+			this.pendingEndOfPoll = true;
+			this.pendingPollCount = nanos;
+			return;
+		}
+		
+		if(componentIndex < 0) {
+			
+			// A COMPONENT THE CONTROLLER DOES NOT KNOW HAS NO SLOT TO BE COALESCED IN
+			this.dropped++;
+			return;
+		}
+		
+		if(this.pending[componentIndex]) {
+			
+			this.pendingValues[componentIndex] = this.relative[componentIndex] ? this.pendingValues[componentIndex] + value : value;
+			this.coalesced++;
+			
+		} else {
+			
+			this.pending[componentIndex] = true;
+			this.pendingValues[componentIndex] = value;
+			this.pendingOrder[this.pendingCount++] = componentIndex;
+		}
+		
+		this.pendingNanos[componentIndex] = nanos;
+		this.pendingObservedNanos[componentIndex] = observedNanos;
+	}
+	
+	private final void appendBacklog(int componentIndex, Component foreign, float value, long nanos, long observedNanos) {
+		
+		if(this.backlogEnd == this.backlogIndices.length) {
+			
+			// ONLY GROWS IF MORE THAN HALF OF IT IS IN USE, OTHERWISE THE EVENTS ARE MOVED TO THE FRONT
+			int size = this.backlogEnd - this.backlogStart;
+			boolean grow = size * 2 > this.backlogIndices.length || this.backlogIndices.length == 0;
+			int capacity = grow ? Math.max(size * 2, this.mask + 1) : this.backlogIndices.length;
+			this.backlogIndices = AsyncDispatcher.move(this.backlogIndices, grow ? new int[capacity] : this.backlogIndices, this.backlogStart, size);
+			this.backlogComponents = AsyncDispatcher.move(this.backlogComponents, grow ? new Component[capacity] : this.backlogComponents, this.backlogStart, size);
+			this.backlogValues = AsyncDispatcher.move(this.backlogValues, grow ? new float[capacity] : this.backlogValues, this.backlogStart, size);
+			this.backlogNanos = AsyncDispatcher.move(this.backlogNanos, grow ? new long[capacity] : this.backlogNanos, this.backlogStart, size);
+			this.backlogObservedNanos = AsyncDispatcher.move(this.backlogObservedNanos, grow ? new long[capacity] : this.backlogObservedNanos, this.backlogStart, size);
+			this.backlogStart = 0;
+			this.backlogEnd = size;
+		}
+		
+		int index = this.backlogEnd++;
+		this.backlogIndices[index] = componentIndex;
+		this.backlogComponents[index] = foreign;
+		this.backlogValues[index] = value;
+		this.backlogNanos[index] = nanos;
+		this.backlogObservedNanos[index] = observedNanos;
+	}
+	
+	private static final <T> T move(T source, T target, int start, int length) {
+		
+		System.arraycopy(source, start, target, 0, length);
+		return target;
+	}
+	
+	private final boolean flushBacklog() {
+		
+		while(this.backlogStart < this.backlogEnd) {
+			
+			int index = this.backlogStart;
+			
+			if(!this.tryPublish(this.backlogIndices[index], this.backlogComponents[index], this.backlogValues[index], this.backlogNanos[index], this.backlogObservedNanos[index])) {
+				
+				return false;
+			}
+			
+			this.backlogComponents[index] = null;
+			this.backlogStart++;
+		}
+		
+		this.backlogStart = 0;
+		this.backlogEnd = 0;
+		return true;
+	}
+	
+	/**
+	 * @return {@code true} if events of the polling thread are waiting for room in the ring buffer
+	 */
+	final boolean hasBacklog() {
+		
+		return this.backlogStart < this.backlogEnd;
+	}
+	
+	/**
+	 * Waits until the backlog of {@link OverflowPolicy#BLOCK} was moved into the ring buffer or the dispatcher stopped.
+	 * The lock is only held while moving events, never while waiting for the consumer.
+	 * @param lock the lock of the device that guards the producer side
+	 */
+	final void awaitBacklog(Object lock) {
+		
+		int spins = 0;
+		
+		while(true) {
+			
+			boolean flushed;
+			
+			synchronized(lock) {
+				
+				// A STOPPED DISPATCHER IS FLUSHED BY THE THREAD THAT COMPLETES THE HAND-OFF
+				flushed = this.flushBacklog() || !this.running;
+			}
+			
+			// THE CONSUMER MAY HAVE EMPTIED THE RING BUFFER AND GONE TO SLEEP IN THE MEANTIME
+			this.signal();
+			
+			if(flushed) {
+				
+				return;
+			}
+			
+			if(spins++ < SPINS_BEFORE_PARKING) {
+				
+				Thread.onSpinWait();
+				
+			} else {
+				
+				LockSupport.parkNanos(BLOCK_PARK_NANOS);
+			}
+		}
+	}
+	
+	private final boolean flushPending() {
+		
+		int flushed = 0;
+		
+		while(flushed < this.pendingCount) {
+			
+			int componentIndex = this.pendingOrder[flushed];
+			
+			if(!this.tryPublish(componentIndex, null, this.pendingValues[componentIndex], this.pendingNanos[componentIndex], this.pendingObservedNanos[componentIndex])) {
+				
+				break;
+			}
+			
+			this.pending[componentIndex] = false;
+			flushed++;
+		}
+		
+		System.arraycopy(this.pendingOrder, flushed, this.pendingOrder, 0, this.pendingCount - flushed);
+		this.pendingCount -= flushed;
+		
+		if(this.pendingCount == 0 && this.pendingEndOfPoll && this.tryPublish(END_OF_POLL, null, 0.0F, this.pendingPollCount, 0L)) {
+			
+			this.pendingEndOfPoll = false;
+		}
+		
+		return this.pendingCount == 0 && !this.pendingEndOfPoll;
+	}
+	
+	private final void signal() {
+		
+		if(this.thread != null) {
+			
+			if(this.waiting) {
+				
+				LockSupport.unpark(this.thread);
+			}
+			
+		} else if(this.scheduled.compareAndSet(false, true)) {
+			
+			this.executor.execute(this.drainTask);
+		}
+	}
+	
+	// ==== CONSUMER
+	
+	/**
+	 * Takes the oldest event out of the ring buffer.
+	 * Used by the consumer and, for {@link OverflowPolicy#DROP_OLDEST}, by the producer.
+	 * @param dispatch {@code true} to dispatch the event, {@code false} to drop it
+	 * @return {@code true} if there was an event, else {@code false}
+	 */
+	private final boolean tryTake(boolean dispatch) {
+		
+		while(true) {
+			
+			long position = this.head.get();
+			int slot = (int)position & this.mask;
+			long sequence = this.sequences.get(slot);
+			
+			if(sequence != position + 1) {
+				
+				// EMPTY, OR ANOTHER THREAD IS TAKING THIS EVENT RIGHT NOW
+				if(sequence - (position + 1) < 0) {
+					
+					return false;
+				}
+				
+				continue;
+			}
+			
+			if(this.head.compareAndSet(position, position + 1)) {
+				
+				int componentIndex = this.componentIndices[slot];
+				Component foreign = this.foreignComponents[slot];
+				float value = this.values[slot];
+				long nanos = this.nanos[slot];
+				long observedNanos = this.observedNanos[slot];
+				this.sequences.lazySet(slot, position + this.mask + 1);
+				
+				if(dispatch) {
+					
+					this.dispatch(componentIndex, foreign, value, nanos, observedNanos);
+				}
+				
+				return true;
+			}
+		}
+	}
+	
+	private final void dispatch(int componentIndex, Component foreign, float value, long nanos, long observedNanos) {
+		
+		try {
+			
+			if(componentIndex == END_OF_POLL) {
+				
+				this.dispatchedPollCount = nanos;
+				this.device.update();
+				
+				if(this.dispatchedEvents && this.device.isPublishingState()) {
+					
+					this.device.publishState(this.captureState());
+				}
+				
+				this.dispatchedEvents = false;
+				
+			} else {
+				
+				if(componentIndex >= 0) {
+					
+					double dispatched = Double.longBitsToDouble(this.dispatchedValues.get(componentIndex));
+					double total = this.relative[componentIndex] ? dispatched + value : value;
+					this.dispatchedValues.lazySet(componentIndex, Double.doubleToRawLongBits(total));
+				}
+				
+				this.dispatchedEvents = true;
+				this.event.set(componentIndex >= 0 ? this.components[componentIndex] : foreign, value, nanos);
+				this.device.dispatch(this.event, componentIndex, observedNanos);
+			}
+			
+		} catch(RuntimeException exception) {
+			
+			// A BROKEN LISTENER MUST NOT KILL THE CONSUMER
+			exception.printStackTrace();
+		}
+	}
+	
+	private final void runDedicated() {
+		
+		while(this.running || this.head.get() != this.tail.get()) {
+			
+			if(!this.tryTake(true)) {
+				
+				this.waiting = true;
+				
+				if(this.running && this.head.get() == this.tail.get()) {
+					
+					LockSupport.park(this);
+				}
+				
+				this.waiting = false;
+			}
+		}
+	}
+	
+	private final void drainScheduled() {
+		
+		Thread current = Thread.currentThread();
+		
+		do {
+			
+			if(!this.consumer.compareAndSet(null, current)) {
+				
+				// THE DISPATCHER WAS CLOSED AND THE CLOSING THREAD TOOK OVER
+				return;
+			}
+			
+			while(this.tryTake(true)) {
+				
+				// DISPATCH UNTIL EMPTY
+			}
+			
+			this.consumer.set(null);
+			this.scheduled.set(false);
+			
+		} while(this.head.get() != this.tail.get() && this.scheduled.compareAndSet(false, true));
+	}
+	
+	/**
+	 * Stops the consumer as soon as the ring buffer is empty, without waiting for it.
+	 * Used if a listener disables the dispatcher; the next poll completes the hand-off with {@link #stop()} and {@link #finish()}.
+	 */
+	final void shutdown() {
+		
+		this.running = false;
+		
+		if(this.thread != null) {
+			
+			LockSupport.unpark(this.thread);
+		}
+	}
+	
+	/**
+	 * Stops the consumer and waits until it has dispatched everything that was left in the ring buffer.
+	 * For an executor the calling thread takes over instead, so a task that is still queued does nothing.
+	 * Must never be called by the consumer itself or while holding the lock of the device, because its listeners may need that lock.
+	 * Afterwards the calling thread has to call {@link #finish()}.
+	 */
+	final void stop() {
+		
+		this.shutdown();
+		
+		if(this.thread != null) {
+			
+			boolean interrupted = false;
+			
+			while(this.thread.isAlive()) {
+				
+				try {
+					
+					this.thread.join();
+					
+				} catch(InterruptedException exception) {
+					
+					interrupted = true;
+				}
+			}
+			
+			if(interrupted) {
+				
+				Thread.currentThread().interrupt();
+			}
+		}
+		
+		// ANOTHER THREAD THAT COMPLETES THE HAND-OFF AT THE SAME TIME OWNS THE CONSUMER UNTIL IT FINISHED
+		while(!this.consumer.compareAndSet(null, Thread.currentThread())) {
+			
+			LockSupport.parkNanos(BLOCK_PARK_NANOS);
+		}
+	}
+	
+	/**
+	 * Dispatches the events that were published after the consumer stopped, the backlog and the coalesced events on the calling thread.
+	 * Must be called after {@link #stop()} while holding the lock of the device, so the polling thread does not publish.
+	 * Does nothing but releasing the consumer if another thread finished the dispatcher before.
+	 */
+	final void finish() {
+		
+		// THE CALLING THREAD IS THE ONLY PRODUCER AND CONSUMER NOW
+		boolean flushed;
+		
+		do {
+			
+			flushed = this.flushBacklog();
+			flushed = this.flushPending() && flushed;
+			
+			while(this.tryTake(true)) {
+				
+				// DISPATCH UNTIL EMPTY
+			}
+			
+		} while(!flushed);
+		
+		this.consumer.set(null);
+	}
+	
+	/**
+	 * Takes over the values of the device before the dispatcher is installed.
+	 * Must be called while holding the lock of the device.
+	 * @param values the values of the components after the latest poll
+	 * @param pollCount the number of polls the device had
+	 */
+	final void seed(double[] values, long pollCount) {
+		
+		for(int index = 0; index < values.length; index++) {
+			
+			this.dispatchedValues.set(index, Double.doubleToRawLongBits(values[index]));
+		}
+		
+		this.dispatchedPollCount = pollCount;
+	}
+	
+	/**
+	 * Captures the state of the device after the events that were dispatched so far.
+	 * On the consumer the state is always consistent. Any other thread may see a poll that is being dispatched right now
+	 * partially, just like it would see the buttons of a device that is being polled synchronously.
+	 * @return the state of the device as its listeners saw it
+	 */
+	final DeviceState captureState() {
+		
+		double[] values = new double[this.dispatchedValues.length()];
+		
+		for(int index = 0; index < values.length; index++) {
+			
+			values[index] = Double.longBitsToDouble(this.dispatchedValues.get(index));
+		}
+		
+		return this.device.createState(this.dispatchedPollCount, values);
+	}
+	
+	/**
+	 * @return {@code true} if the current thread is the one that calls the listeners right now
+	 */
+	final boolean isConsumerThread() {
+		
+		Thread current = Thread.currentThread();
+		return current == this.thread || current == this.consumer.get();
+	}
+	
+	/**
+	 * @return the device whose events are dispatched
+	 * @since 1.2.0
+	 */
+	public Device getDevice() {
+		
+		return this.device;
+	}
+	
+	/**
+	 * @return the number of events the ring buffer can hold (the requested capacity rounded up to a power of two, at least 2)
+	 * @since 1.2.0
+	 */
+	public int getCapacity() {
+		
+		return this.mask + 1;
+	}
+	
+	/**
+	 * @return what happens if the ring buffer is full
+	 * @since 1.2.0
+	 */
+	public OverflowPolicy getOverflowPolicy() {
+		
+		return this.policy;
+	}
+	
+	/**
+	 * @return the number of events in the ring buffer that were not dispatched yet
+	 * @since 1.2.0
+	 */
+	public int getPendingEventCount() {
+		
+		return (int)Math.max(this.tail.get() - this.head.get(), 0L);
+	}
+	
+	/**
+	 * @return the number of events that were dropped because of {@link OverflowPolicy#DROP_OLDEST}
+	 * @since 1.2.0
+	 */
+	public long getDroppedEventCount() {
+		
+		return this.dropped;
+	}
+	
+	/**
+	 * @return the number of events that were merged into another event because of {@link OverflowPolicy#COALESCE}
+	 * @since 1.2.0
+	 */
+	public long getCoalescedEventCount() {
+		
+		return this.coalesced;
+	}
+	
+	/**
+	 * @return {@code true} if the listeners are still being invoked, {@code false} after the dispatcher was disabled
+	 * @since 1.2.0
+	 */
+	public boolean isRunning() {
+		
+		return this.running;
+	}
+}
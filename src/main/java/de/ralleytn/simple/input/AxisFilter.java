@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+import java.time.Duration;
+
+/**
+ * Immutable change filter for a single analog axis of a {@linkplain Gamepad}.
+ * <p>The filter is applied to the raw value before any event is created. The value is first rounded to the nearest
+ * multiple of the quantization step. It only counts as a change if it differs from the last delivered value by at least the epsilon.
+ * The values {@code -1.0F}, {@code 0.0F} and {@code 1.0F} always count as a change, so that a released stick or trigger is never missed.
+ * A change that arrives earlier than the minimum interval after the last delivered one is held back and delivered
+ * after the first poll in which the interval has elapsed. Only the newest held back value is delivered.</p>
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see Gamepad#setAxisFilter(int, AxisFilter)
+ */
+public final class AxisFilter {
+
+	/**
+	 * Filter that lets every change through.
+	 * @since 1.2.0
+	 */
+	public static final AxisFilter NONE = new AxisFilter(0.0F, 0.0F, Duration.ZERO);
+	
+	private final float epsilon;
+	private final float quantization;
+	private final float inverseQuantization;
+	private final long minInterval;
+	
+	/**
+	 * @param epsilon the minimum difference between two delivered values
+	 * @param quantization the step to which the values are rounded ({@code 0.0F} disables the rounding)
+	 * @param minInterval the minimum time between two delivered values
+	 * @throws IllegalArgumentException if one of the parameters is negative
+	 * @since 1.2.0
+	 */
+	public AxisFilter(float epsilon, float quantization, Duration minInterval) {
+		
+		if(!(epsilon >= 0.0F) || !(quantization >= 0.0F) || minInterval.isNegative()) {
+			
+			throw new IllegalArgumentException("Negative filter parameter: " + epsilon + ", " + quantization + ", " + minInterval);
+		}
+		
+		this.epsilon = epsilon;
+		this.quantization = quantization;
+		this.inverseQuantization = quantization > 0.0F ? 1.0F / quantization : 0.0F;
+		this.minInterval = minInterval.toNanos();
+	}
+	
+	/**
+	 * @param epsilon the minimum difference between two delivered values
+	 * @return a copy of this filter with the given epsilon
+	 * @throws IllegalArgumentException if the epsilon is negative
+	 * @since 1.2.0
+	 */
+	public AxisFilter withEpsilon(float epsilon) {
+		
+		return new AxisFilter(epsilon, this.quantization, Duration.ofNanos(this.minInterval));
+	}
+	
+	/**
+	 * @param quantization the step to which the values are rounded ({@code 0.0F} disables the rounding)
+	 * @return a copy of this filter with the given quantization step
+	 * @throws IllegalArgumentException if the quantization step is negative
+	 * @since 1.2.0
+	 */
+	public AxisFilter withQuantization(float quantization) {
+		
+		return new AxisFilter(this.epsilon, quantization, Duration.ofNanos(this.minInterval));
+	}
+	
+	/**
+	 * @param minInterval the minimum time between two delivered values
+	 * @return a copy of this filter with the given minimum interval
+	 * @throws IllegalArgumentException if the interval is negative
+	 * @since 1.2.0
+	 */
+	public AxisFilter withMinInterval(Duration minInterval) {
+		
+		return new AxisFilter(this.epsilon, this.quantization, minInterval);
+	}
+	
+	/**
+	 * Rounds the given value to the nearest multiple of the quantization step.
+	 * @param value the raw axis value
+	 * @return the rounded value, clamped to the range from {@code -1.0F} to {@code 1.0F}
+	 * @since 1.2.0
+	 */
+	public float quantize(float value) {
+		
+		if(this.quantization == 0.0F) {
+			
+			return value;
+		}
+		
+		float quantized = Math.round(value * this.inverseQuantization) * this.quantization;
+		return quantized > 1.0F ? 1.0F : (quantized < -1.0F ? -1.0F : quantized);
+	}
+	
+	/**
+	 * @param value the new (quantized) value
+	 * @param previous the last delivered value
+	 * @return {@code true} if the new value is a meaningful change, else {@code false}
+	 * @since 1.2.0
+	 */
+	public boolean isChange(float value, float previous) {
+		
+		return value != previous && (value == 0.0F || value == 1.0F || value == -1.0F || Math.abs(value - previous) >= this.epsilon);
+	}
+	
+	/**
+	 * @return the minimum difference between two delivered values
+	 * @since 1.2.0
+	 */
+	public float getEpsilon() {
+		
+		return this.epsilon;
+	}
+	
+	/**
+	 * @return the step to which the values are rounded
+	 * @since 1.2.0
+	 */
+	public float getQuantization() {
+		
+		return this.quantization;
+	}
+	
+	/**
+	 * @return the minimum time between two delivered values
+	 * @since 1.2.0
+	 */
+	public Duration getMinInterval() {
+		
+		return Duration.ofNanos(this.minInterval);
+	}
+	
+	final long getMinIntervalNanos() {
+		
+		return this.minInterval;
+	}
+}
@@ -0,0 +1,276 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Immutable dead zone and response curve of an analog stick or trigger.
+ * <p>Values inside the inner dead zone become {@code 0.0F}, values beyond the outer dead zone become {@code 1.0F}.
+ * How the values in between are treated depends on the {@linkplain DeadZoneType}.
+ * The response curve is applied last and is sampled into a lookup table once, so that processing a sample
+ * costs a few comparisons, one square root and one table lookup and allocates nothing.</p>
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see Gamepad#setAnalogStickDeadZone(int, DeadZone)
+ * @see XIGamepad#setTriggerDeadZone(int, DeadZone)
+ */
+public final class DeadZone {
+
+	/**
+	 * Dead zone that keeps every value.
+	 * @since 1.2.0
+	 */
+	public static final DeadZone NONE = new DeadZone(DeadZoneType.AXIAL, 0.0F, 1.0F);
+	
+	/**
+	 * The dead zone of the analog sticks before version 1.2.0; an axial dead zone of {@code 0.1F}.
+	 * @since 1.2.0
+	 */
+	public static final DeadZone DEFAULT = new DeadZone(DeadZoneType.AXIAL, 0.1F, 1.0F);
+	
+	private static final int CURVE_SIZE = 1024;
+	
+	private final DeadZoneType type;
+	private final float inner;
+	private final float outer;
+	private final float innerSquared;
+	private final float inverseOuter;
+	private final float inverseRange;
+	private final DoubleUnaryOperator responseCurve;
+	private final float[] curve;
+	
+	/**
+	 * Creates a dead zone with a linear response curve.
+	 * @param type the type
+	 * @param inner the inner dead zone
+	 * @param outer the outer dead zone; everything beyond it counts as a full push
+	 * @throws IllegalArgumentException if the dead zones are not in the order {@code 0.0F <= inner < outer <= 1.0F}
+	 * @since 1.2.0
+	 */
+	public DeadZone(DeadZoneType type, float inner, float outer) {
+		
+		this(type, inner, outer, null);
+	}
+	
+	private DeadZone(DeadZoneType type, float inner, float outer, DoubleUnaryOperator responseCurve) {
+		
+		if(!(inner >= 0.0F && inner < outer && outer <= 1.0F)) {
+			
+			throw new IllegalArgumentException("Invalid dead zone: " + inner + " - " + outer);
+		}
+		
+		this.type = type;
+		this.inner = inner;
+		this.outer = outer;
+		this.innerSquared = inner * inner;
+		this.inverseOuter = 1.0F / outer;
+		this.inverseRange = 1.0F / (outer - inner);
+		this.responseCurve = responseCurve;
+		this.curve = responseCurve != null ? DeadZone.sample(responseCurve) : null;
+	}
+	
+	private static final float[] sample(DoubleUnaryOperator responseCurve) {
+		
+		// ONE ADDITIONAL ENTRY SO THAT THE INTERPOLATION NEVER READS BEYOND THE TABLE
+		float[] curve = new float[CURVE_SIZE + 2];
+		
+		for(int index = 0; index <= CURVE_SIZE; index++) {
+			
+			double value = responseCurve.applyAsDouble((double)index / CURVE_SIZE);
+			curve[index] = (float)(value < 0.0 ? 0.0 : (value > 1.0 ? 1.0 : value));
+		}
+		
+		curve[CURVE_SIZE + 1] = curve[CURVE_SIZE];
+		return curve;
+	}
+	
+	/**
+	 * @param type the type
+	 * @return a copy of this dead zone with the given type
+	 * @since 1.2.0
+	 */
+	public DeadZone withType(DeadZoneType type) {
+		
+		return new DeadZone(type, this.inner, this.outer, this.responseCurve);
+	}
+	
+	/**
+	 * @param inner the inner dead zone
+	 * @return a copy of this dead zone with the given inner dead zone
+	 * @throws IllegalArgumentException if the inner dead zone is negative or not smaller than the outer dead zone
+	 * @since 1.2.0
+	 */
+	public DeadZone withInner(float inner) {
+		
+		return new DeadZone(this.type, inner, this.outer, this.responseCurve);
+	}
+	
+	/**
+	 * @param outer the outer dead zone; everything beyond it counts as a full push
+	 * @return a copy of this dead zone with the given outer dead zone
+	 * @throws IllegalArgumentException if the outer dead zone is greater than {@code 1.0F} or not greater than the inner dead zone
+	 * @since 1.2.0
+	 */
+	public DeadZone withOuter(float outer) {
+		
+		return new DeadZone(this.type, this.inner, outer, this.responseCurve);
+	}
+	
+	/**
+	 * Uses {@code value^exponent} as response curve.
+	 * Exponents greater than {@code 1.0F} give more precision near the center, smaller ones make the stick more sensitive.
+	 * @param exponent the exponent
+	 * @return a copy of this dead zone with the given response curve
+	 * @throws IllegalArgumentException if the exponent is not positive
+	 * @since 1.2.0
+	 */
+	public DeadZone withExponent(float exponent) {
+		
+		if(!(exponent > 0.0F)) {
+			
+			throw new IllegalArgumentException("Invalid exponent: " + exponent);
+		}
+		
+		return new DeadZone(this.type, this.inner, this.outer, exponent == 1.0F ? null : value -> Math.pow(value, exponent));
+	}
+	
+	/**
+	 * Uses a custom response curve.
+	 * The curve is sampled once with values from {@code 0.0} to {@code 1.0}; its results are clamped to the same range.
+	 * @param responseCurve the response curve or {@code null} for a linear response
+	 * @return a copy of this dead zone with the given response curve
+	 * @since 1.2.0
+	 */
+	public DeadZone withResponseCurve(DoubleUnaryOperator responseCurve) {
+		
+		return new DeadZone(this.type, this.inner, this.outer, responseCurve);
+	}
+	
+	private final float applyCurve(float value) {
+		
+		if(this.curve == null) {
+			
+			return value;
+		}
+		
+		float position = value * CURVE_SIZE;
+		int index = (int)position;
+		return this.curve[index] + (this.curve[index + 1] - this.curve[index]) * (position - index);
+	}
+	
+	private final float processMagnitude(float magnitude) {
+		
+		if(magnitude < this.inner) {
+			
+			return 0.0F;
+		}
+		
+		float value = this.type == DeadZoneType.SCALED_RADIAL ? (magnitude - this.inner) * this.inverseRange : magnitude * this.inverseOuter;
+		return this.applyCurve(value > 1.0F ? 1.0F : value);
+	}
+	
+	/**
+	 * Processes a single axis like a trigger.
+	 * The value is cut at the inner dead zone and reaches {@code 1.0F} at the outer dead zone.
+	 * Only {@link DeadZoneType#SCALED_RADIAL} rescales the range in between, the other types only cut.
+	 * @param value the raw value
+	 * @return the processed value with the same sign
+	 * @since 1.2.0
+	 */
+	public float process(float value) {
+		
+		return value < 0.0F ? -this.processMagnitude(-value) : this.processMagnitude(value);
+	}
+	
+	/**
+	 * Processes both axes of an analog stick.
+	 * @param x the raw horizontal value
+	 * @param y the raw vertical value
+	 * @param result array in which the processed horizontal and vertical value are stored at index {@code 0} and {@code 1}
+	 * @since 1.2.0
+	 */
+	public void process(float x, float y, float[] result) {
+		
+		if(this.type == DeadZoneType.AXIAL) {
+			
+			result[0] = this.process(x);
+			result[1] = this.process(y);
+			
+		} else {
+			
+			float squared = x * x + y * y;
+			
+			if(squared < this.innerSquared || squared == 0.0F) {
+				
+				result[0] = 0.0F;
+				result[1] = 0.0F;
+				
+			} else {
+				
+				float magnitude = (float)Math.sqrt(squared);
+				float scale = this.processMagnitude(magnitude) / magnitude;
+				result[0] = x * scale;
+				result[1] = y * scale;
+			}
+		}
+	}
+	
+	/**
+	 * @return the type
+	 * @since 1.2.0
+	 */
+	public DeadZoneType getType() {
+		
+		return this.type;
+	}
+	
+	/**
+	 * @return the inner dead zone
+	 * @since 1.2.0
+	 */
+	public float getInner() {
+		
+		return this.inner;
+	}
+	
+	/**
+	 * @return the outer dead zone
+	 * @since 1.2.0
+	 */
+	public float getOuter() {
+		
+		return this.outer;
+	}
+	
+	/**
+	 * @return the response curve or {@code null} if the response is linear
+	 * @since 1.2.0
+	 */
+	public DoubleUnaryOperator getResponseCurve() {
+		
+		return this.responseCurve;
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+/**
+ * Decides how a {@linkplain DeadZone} treats the two axes of an analog stick.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public enum DeadZoneType {
+
+	/**
+	 * Every axis is cut on its own.
+	 * Values inside the inner dead zone become {@code 0.0F}, all other values are kept.
+	 * This makes it easy to hold the stick exactly on one axis, but snaps diagonal movement to the axes near the center.
+	 * @since 1.2.0
+	 */
+	AXIAL,
+	
+	/**
+	 * The stick is cut by its distance from the center.
+	 * If the distance is inside the inner dead zone both axes become {@code 0.0F}, otherwise they are kept.
+	 * The output jumps from {@code 0.0F} to the size of the inner dead zone when the stick leaves it.
+	 * @since 1.2.0
+	 */
+	RADIAL,
+	
+	/**
+	 * Like {@link #RADIAL}, but the distance between the inner and the outer dead zone is rescaled to the full range.
+	 * The output starts at {@code 0.0F} at the edge of the inner dead zone, which gives the smoothest control.
+	 * For triggers this rescales the range between the threshold and the full press.
+	 * @since 1.2.0
+	 */
+	SCALED_RADIAL;
+}
@@ -33,7 +33,7 @@ import net.java.games.input.Event;
 /**
  * Represents a gamepad that uses the DirectInput API.
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 1.1.0
+ * @version 1.2.0
  * @since 1.0.0
  */
 public class DefaultGamepad extends Gamepad {
@@ -45,7 +45,7 @@ public class DefaultGamepad extends Gamepad {
 
 	DefaultGamepad(Controller controller) {
 		
-		super(controller, DefaultGamepadButtonMapping.getDownButtonArraySize(), new MouseControl());
+		super(controller, DefaultGamepadButtonMapping.getMap(), DefaultGamepadButtonMapping.getDownButtonArraySize(), new MouseControl());
 	}
 	
 	@Override
@@ -67,6 +67,8 @@ public class DefaultGamepad extends Gamepad {
 	@Override
 	protected void update() {
 		
+		this.flushAxisFilters();
+		this.flushAnalogStickEvents();
 		this.mouseControl.updateCursorPosition(this.axisX, this.axisY, this.axisZ, this.axisRZ);
 	}
 	
@@ -76,39 +78,68 @@ public class DefaultGamepad extends Gamepad {
 		Component component = event.getComponent();
 		Identifier id = component.getIdentifier();
 		float value = event.getValue();
+		int button = this.getCode(this.buttonCodes, component);
 		
 		if(Axis.POV.equals(id)) {
 			
 			this.processPOVEvent(id, value);
 			
-		} else if(DefaultGamepadButtonMapping.isValidButton(id)) {
+		} else if(button != GamepadEvent.BUTTON_NONE) {
 			
-			int button = DefaultGamepadButtonMapping.getMap().get(id);
 			this.processButtonEvent(button, value);
 			       
 		} else if(Axis.Y.equals(id)) {
-			System.out.println(component.isAnalog());
-			this.axisY = Gamepad.isDead(value) ? 0.0F : value;
-			Direction direction = DefaultGamepadButtonMapping.getAnalogStickDirection(value, this.axisX, this.axisY);
-			this.processAnalogStickEvent(GamepadEvent.ANALOG_STICK_LEFT, value, id, this.axisX, this.axisY, direction);
+			
+			this.filterAxisEvent(GamepadEvent.AXIS_LEFT_Y, value);
 			
 		} else if(Axis.X.equals(id)) {
 			
-			this.axisX = Gamepad.isDead(value) ? 0.0F : value;
-			Direction direction = DefaultGamepadButtonMapping.getAnalogStickDirection(value, this.axisX, this.axisY);
-			this.processAnalogStickEvent(GamepadEvent.ANALOG_STICK_LEFT, value, id, this.axisX, this.axisY, direction);
+			this.filterAxisEvent(GamepadEvent.AXIS_LEFT_X, value);
 			
 		} else if(Axis.RZ.equals(id)) {
 			
-			this.axisRZ = Gamepad.isDead(value) ? 0.0F : value;
-			Direction direction = DefaultGamepadButtonMapping.getAnalogStickDirection(value, this.axisZ, this.axisRZ);
-			this.processAnalogStickEvent(GamepadEvent.ANALOG_STICK_RIGHT, value, id, this.axisZ, this.axisRZ, direction);
+			this.filterAxisEvent(GamepadEvent.AXIS_RIGHT_Y, value);
 
 		} else if(Axis.Z.equals(id)) {
 			
-			this.axisZ = Gamepad.isDead(value) ? 0.0F : value;
-			Direction direction = DefaultGamepadButtonMapping.getAnalogStickDirection(value, this.axisZ, this.axisRZ);
-			this.processAnalogStickEvent(GamepadEvent.ANALOG_STICK_RIGHT, value, id, this.axisZ, this.axisRZ, direction);
+			this.filterAxisEvent(GamepadEvent.AXIS_RIGHT_X, value);
+		}
+	}
+	
+	@Override
+	protected void processAxisEvent(int axis, float value) {
+		
+		if(axis == GamepadEvent.AXIS_LEFT_Y) {
+			
+			float[] stick = this.applyDeadZone(GamepadEvent.AXIS_LEFT_Y, value);
+			this.axisX = stick[0];
+			this.axisY = stick[1];
+			Direction direction = this.getAnalogStickDirection(GamepadEvent.ANALOG_STICK_LEFT, value, this.axisX, -this.axisY);
+			this.processAnalogStickEvent(GamepadEvent.ANALOG_STICK_LEFT, value, Axis.Y, this.axisX, this.axisY, direction);
+			
+		} else if(axis == GamepadEvent.AXIS_LEFT_X) {
+			
+			float[] stick = this.applyDeadZone(GamepadEvent.AXIS_LEFT_X, value);
+			this.axisX = stick[0];
+			this.axisY = stick[1];
+			Direction direction = this.getAnalogStickDirection(GamepadEvent.ANALOG_STICK_LEFT, value, this.axisX, -this.axisY);
+			this.processAnalogStickEvent(GamepadEvent.ANALOG_STICK_LEFT, value, Axis.X, this.axisX, this.axisY, direction);
+			
+		} else if(axis == GamepadEvent.AXIS_RIGHT_Y) {
+			
+			float[] stick = this.applyDeadZone(GamepadEvent.AXIS_RIGHT_Y, value);
+			this.axisZ = stick[0];
+			this.axisRZ = stick[1];
+			Direction direction = this.getAnalogStickDirection(GamepadEvent.ANALOG_STICK_RIGHT, value, this.axisZ, -this.axisRZ);
+			this.processAnalogStickEvent(GamepadEvent.ANALOG_STICK_RIGHT, value, Axis.RZ, this.axisZ, this.axisRZ, direction);
+
+		} else if(axis == GamepadEvent.AXIS_RIGHT_X) {
+			
+			float[] stick = this.applyDeadZone(GamepadEvent.AXIS_RIGHT_X, value);
+			this.axisZ = stick[0];
+			this.axisRZ = stick[1];
+			Direction direction = this.getAnalogStickDirection(GamepadEvent.ANALOG_STICK_RIGHT, value, this.axisZ, -this.axisRZ);
+			this.processAnalogStickEvent(GamepadEvent.ANALOG_STICK_RIGHT, value, Axis.Z, this.axisZ, this.axisRZ, direction);
 		}
 	}
 }
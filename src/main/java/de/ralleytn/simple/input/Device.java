@@ -23,6 +23,18 @@
  */
 package de.ralleytn.simple.input;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import de.ralleytn.simple.input.internal.ComponentIndex;
+import de.ralleytn.simple.input.internal.ListenerList;
+import de.ralleytn.simple.input.internal.jfr.DrainEvent;
+import de.ralleytn.simple.input.internal.jfr.JfrEvents;
+import de.ralleytn.simple.input.internal.jfr.PollEvent;
+import de.ralleytn.simple.input.internal.jfr.SlowListenerEvent;
+import net.java.games.input.Component;
 import net.java.games.input.Controller;
 import net.java.games.input.Event;
 import net.java.games.input.EventQueue;
@@ -30,53 +42,444 @@ import net.java.games.input.EventQueue;
 /**
  * Represents an input device.
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 1.0.0
+ * @version 1.2.0
  * @since 1.0.0
  */
 public abstract class Device {
 
 	protected Controller controller;
-	protected Thread thread;
-	protected boolean listening;
-	protected long timeBetweenUpdates;
+	protected volatile boolean listening;
+	protected volatile long pollInterval;
+	protected volatile long maxPollInterval;
+	protected volatile boolean adaptivePolling;
+	protected volatile boolean reusingEvents;
+	protected volatile boolean coalescingMotion;
+	volatile long nextPoll;
+	volatile long currentPollInterval;
+	private final Event event;
+	private final Component[] components;
+	private final ComponentIndex componentIndex;
+	private final ListenerList<BatchListener> batchListeners;
+	private final EventBatch batch;
+	private final double[] values;
+	private final boolean[] relative;
+	private Component eventComponent;
+	private int eventComponentIndex;
+	private long eventNanos;
+	private long eventObservedNanos;
+	private long pollCount;
+	private volatile DeviceState state;
+	private volatile boolean publishingState;
+	private volatile AsyncDispatcher dispatcher;
+	private final DeviceMetrics metrics;
+	private final Object pollLock;
+	private boolean connected;
 
 	Device(Controller controller) {
 		
 		this.controller = controller;
-		this.timeBetweenUpdates = 10;
-		this.thread = new Thread(() -> {
+		this.components = controller.getComponents();
+		this.componentIndex = new ComponentIndex(this.components);
+		this.batchListeners = new ListenerList<>(new BatchListener[0]);
+		this.batch = new EventBatch(this, this.components);
+		this.pollInterval = TimeUnit.MILLISECONDS.toNanos(10);
+		this.maxPollInterval = TimeUnit.MILLISECONDS.toNanos(100);
+		this.currentPollInterval = this.pollInterval;
+		this.event = new Event();
+		this.metrics = new DeviceMetrics(this);
+		this.pollLock = new Object();
+		this.connected = true;
+		this.values = new double[this.components.length];
+		this.relative = new boolean[this.components.length];
+		
+		for(int index = 0; index < this.components.length; index++) {
+			
+			this.relative[index] = this.components[index].isRelative();
+		}
+		
+		this.state = new DeviceState(this, 0, System.nanoTime(), new long[0], new double[this.components.length], null);
+	}
+	
+	/**
+	 * Polls the device once and delivers all pending events to the listeners.
+	 * This is normally done by the {@linkplain PollingScheduler} while the device is listening,
+	 * but it can also be called manually on a device that does not listen.
+	 * If the device was disconnected, it will be removed from the {@linkplain DeviceManager}.
+	 * @return {@code true} if the device is still connected, else {@code false}
+	 * @since 1.2.0
+	 */
+	public boolean poll() {
+		
+		return this.poll(false, 0L);
+	}
+	
+	/**
+	 * Polls the device on the thread that calls {@link DeviceManager#tick(long)}.
+	 * @param nanoTime the time of the tick which is used as observation time of all events
+	 * @return {@code true} if the device is still connected, else {@code false}
+	 * @since 1.2.0
+	 */
+	final boolean tick(long nanoTime) {
+		
+		return this.poll(true, nanoTime);
+	}
+	
+	private final boolean poll(boolean ticked, long tickNanos) {
+		
+		AsyncDispatcher dispatcher = this.dispatcher;
+		
+		if(dispatcher != null && !dispatcher.isRunning() && !dispatcher.isConsumerThread()) {
+			
+			// A LISTENER DISABLED THE DISPATCHER; COMPLETE THE HAND-OFF BEFORE THE LISTENERS ARE CALLED ON THIS THREAD
+			this.completeHandOff(dispatcher);
+		}
+		
+		boolean connected;
+		AsyncDispatcher blocked = null;
+		
+		// THE LOCK IS NEVER HELD WHILE CALLING INTO THE DEVICE MANAGER OR WAITING FOR THE CONSUMER
+		synchronized(this.pollLock) {
+			
+			connected = this.connected && this.pollController(ticked, tickNanos);
+			dispatcher = this.dispatcher;
+			
+			if(dispatcher != null && dispatcher.hasBacklog() && !dispatcher.isConsumerThread()) {
+				
+				blocked = dispatcher;
+			}
+		}
+		
+		if(blocked != null) {
+			
+			blocked.awaitBacklog(this.pollLock);
+		}
+		
+		if(connected) {
+			
+			return true;
+		}
+		
+		this.disconnect();
+		return false;
+	}
+	
+	/**
+	 * Tears this device down after it was disconnected, no matter whether the polling or the {@linkplain DeviceScanner} noticed it.
+	 * The events that are still queued in the {@linkplain AsyncDispatcher} are dispatched first, then the {@linkplain BatchListener}s and
+	 * the listeners of the device are notified and the device is removed from the {@linkplain DeviceManager}. Polls after that do nothing.
+	 * Only the first call does anything.
+	 * @return {@code true} if this call removed the device, {@code false} if it was removed before
+	 * @since 1.2.0
+	 */
+	final boolean disconnect() {
+		
+		synchronized(this.pollLock) {
+			
+			if(!this.connected) {
+				
+				return false;
+			}
+			
+			// NO POLL AFTER THIS ONE CALLS THE BATCH LISTENERS
+			this.connected = false;
+		}
+		
+		this.disableAsyncDispatch();
+		this.metrics.recordDisconnect();
+		
+		for(BatchListener listener : this.batchListeners.getSnapshot()) {
+			
+			listener.onRemove();
+		}
+		
+		this.remove();
+		DeviceManager.removeDevice(this);
+		return true;
+	}
+	
+	private final boolean pollController(boolean ticked, long tickNanos) {
+		
+		long startNanos = System.nanoTime();
+		PollEvent pollEvent = JfrEvents.POLL.isEnabled() ? new PollEvent() : null;
+		
+		if(pollEvent != null) {
 			
-			try {
+			pollEvent.begin();
+		}
+		
+		if(this.controller.poll()) {
+			
+			long observedNanos = ticked ? tickNanos : System.nanoTime();
+			EventQueue queue = this.controller.getEventQueue();
+			BatchListener[] batchListeners = this.batchListeners.getSnapshot();
+			AsyncDispatcher dispatcher = this.dispatcher;
+			boolean batching = batchListeners.length > 0;
+			int eventCount = 0;
+			DrainEvent drainEvent = JfrEvents.DRAIN.isEnabled() ? new DrainEvent() : null;
+			this.batch.clear();
+			
+			if(drainEvent != null) {
 				
-				while(this.listening) {
+				drainEvent.begin();
+			}
+			
+			while(queue.getNextEvent(this.event)) {
+				
+				int componentIndex = this.componentIndex.indexOf(this.event.getComponent());
+				float value = this.event.getValue();
+				
+				if(componentIndex != -1) {
 					
-					boolean stillConnected = this.controller.poll();
+					this.values[componentIndex] = this.relative[componentIndex] ? this.values[componentIndex] + value : value;
+				}
+				
+				if(batching && componentIndex != -1) {
 					
-					if(stillConnected) {
-						
-						EventQueue queue = this.controller.getEventQueue();
-						Event event = new Event();
-						
-						while(queue.getNextEvent(event)) {
-							
-							this.onEvent(event);
-						}
-						
-						this.update();
-						Thread.sleep(this.timeBetweenUpdates);
+					// THE BATCH ONLY CONTAINS COMPONENTS OF THE CONTROLLER; THE LISTENERS STILL GET THE EVENT
+					this.batch.add(componentIndex, value, this.event.getNanos());
+				}
+				
+				if(dispatcher != null) {
 					
-					} else {
-						
-						this.remove();
-						DeviceManager.removeDevice(this);
-					}
+					dispatcher.publish(componentIndex, this.event.getComponent(), value, this.event.getNanos(), observedNanos);
+					
+				} else {
+					
+					this.dispatch(this.event, componentIndex, observedNanos);
+				}
+				
+				eventCount++;
+			}
+			
+			if(drainEvent != null) {
+				
+				drainEvent.end();
+				
+				if(drainEvent.shouldCommit()) {
+					
+					drainEvent.device = this.getName();
+					drainEvent.eventCount = eventCount;
+					drainEvent.asynchronous = dispatcher != null;
+					drainEvent.commit();
+				}
+			}
+			
+			if(batching && this.batch.size() > 0) {
+				
+				for(BatchListener listener : batchListeners) {
+					
+					listener.onBatch(this.batch);
 				}
+			}
+			
+			this.pollCount++;
+			
+			if(dispatcher != null) {
+				
+				// THE CONSUMER CAPTURES THE STATE; THE BUTTONS AND THE POV ARE NOT UPDATED BEFORE IT DISPATCHED THE EVENTS
+				dispatcher.endOfPoll(this.pollCount);
+				
+			} else {
+				
+				this.update();
+				
+				if(this.publishingState && eventCount > 0) {
+					
+					this.state = this.createState(this.pollCount, this.values.clone());
+				}
+			}
+			
+			this.adaptPollInterval(eventCount);
+			
+			this.metrics.recordPoll(startNanos, System.nanoTime(), observedNanos, eventCount);
+			
+			if(pollEvent != null) {
+				
+				pollEvent.end();
+				
+				if(pollEvent.shouldCommit()) {
+					
+					pollEvent.device = this.getName();
+					pollEvent.eventCount = eventCount;
+					pollEvent.commit();
+				}
+			}
+			
+			return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Passes an event to {@link #onEvent(Event)}.
+	 * Only one thread at a time dispatches events of a device, either the polling thread or the consumer of the {@linkplain AsyncDispatcher}.
+	 * @param event the event
+	 * @param componentIndex the index of the component of the event
+	 * @param observedNanos the {@linkplain System#nanoTime()} at which the polling thread took the event from the driver
+	 * @since 1.2.0
+	 */
+	final void dispatch(Event event, int componentIndex, long observedNanos) {
+		
+		this.eventComponent = event.getComponent();
+		this.eventComponentIndex = componentIndex;
+		this.eventNanos = event.getNanos();
+		this.eventObservedNanos = observedNanos;
+		
+		if(this.metrics.isRecordingDispatchDuration() || JfrEvents.SLOW_LISTENER.isEnabled()) {
+			
+			this.dispatchTimed(event);
+			
+		} else {
+			
+			this.onEvent(event);
+		}
+	}
+	
+	private final void dispatchTimed(Event event) {
+		
+		SlowListenerEvent slowListenerEvent = JfrEvents.SLOW_LISTENER.isEnabled() ? new SlowListenerEvent() : null;
+		
+		if(slowListenerEvent != null) {
+			
+			slowListenerEvent.begin();
+		}
+		
+		long startNanos = System.nanoTime();
+		this.onEvent(event);
+		long duration = System.nanoTime() - startNanos;
+		
+		if(this.metrics.isRecordingDispatchDuration()) {
+			
+			this.metrics.recordDispatch(duration);
+		}
+		
+		if(slowListenerEvent != null) {
+			
+			slowListenerEvent.end();
+			
+			if(slowListenerEvent.shouldCommit()) {
 				
-			} catch(InterruptedException exception) {
+				slowListenerEvent.device = this.getName();
+				slowListenerEvent.component = event.getComponent().getName();
+				slowListenerEvent.value = event.getValue();
+				slowListenerEvent.commit();
+			}
+		}
+	}
+	
+	/**
+	 * Copies the timestamps of the event that is currently processed into a {@linkplain DeviceEvent}.
+	 * @param event the event that is passed to the listeners
+	 * @return the same event
+	 * @since 1.2.0
+	 */
+	final <E extends DeviceEvent> E stamp(E event) {
+		
+		event.setTimestamps(this.eventNanos, this.eventObservedNanos);
+		return event;
+	}
+	
+	/**
+	 * Looks up the SimpleInput constant for a component of this device.
+	 * For the component of the event that is currently processed this is a single array access.
+	 * @param codes a table created with {@code Util.toCodeTable(Component[], Map)}
+	 * @param component the component
+	 * @return the SimpleInput constant or {@code -1} if the component has none
+	 * @since 1.2.0
+	 */
+	final int getCode(int[] codes, Component component) {
+		
+		int index = component == this.eventComponent ? this.eventComponentIndex : this.componentIndex.indexOf(component);
+		return index != -1 ? codes[index] : -1;
+	}
+	
+	/**
+	 * Returns the state of this device after the latest poll that changed it.
+	 * The first call enables the publication of states, which means that from now on every poll with events
+	 * creates a new immutable {@linkplain DeviceState} and publishes it for other threads.
+	 * The first call captures the current state, including everything that happened since the device was created.
+	 * With an {@linkplain AsyncDispatcher} the states are captured by the consumer after it dispatched a whole poll,
+	 * so they show the device as its listeners saw it and may lag behind the polling thread.
+	 * @return the latest state of this device
+	 * @since 1.2.0
+	 * @see DeviceManager#snapshot()
+	 */
+	public DeviceState getState() {
+		
+		if(!this.publishingState) {
+			
+			AsyncDispatcher dispatcher = this.dispatcher;
+			
+			if(dispatcher != null && dispatcher.isConsumerThread()) {
 				
-				exception.printStackTrace();
+				// THE CONSUMER MUST NOT WAIT FOR THE POLLING THREAD
+				this.state = dispatcher.captureState();
+				this.publishingState = true;
+				
+			} else {
+				
+				synchronized(this.pollLock) {
+					
+					if(!this.publishingState) {
+						
+						// THE VALUES OF RELATIVE COMPONENTS ARE TOTALS SINCE THE CREATION, SO THEY HAVE TO BE THE BASELINE
+						dispatcher = this.dispatcher;
+						this.state = dispatcher != null ? dispatcher.captureState() : this.createState(this.pollCount, this.values.clone());
+						this.publishingState = true;
+					}
+				}
 			}
-		});
+		}
+		
+		return this.state;
+	}
+	
+	final boolean isPublishingState() {
+		
+		return this.publishingState;
+	}
+	
+	final void publishState(DeviceState state) {
+		
+		this.state = state;
+	}
+	
+	final DeviceState createState(long pollCount, double[] values) {
+		
+		return new DeviceState(this, pollCount, System.nanoTime(), this.captureButtons(), values, this.capturePOVDirection());
+	}
+	
+	/**
+	 * @return the states of the buttons or keys as a bit set indexed by the SimpleInput constants
+	 * @since 1.2.0
+	 */
+	long[] captureButtons() {
+		
+		return new long[0];
+	}
+	
+	/**
+	 * @return the current direction of the POV or {@code null}
+	 * @since 1.2.0
+	 */
+	Direction capturePOVDirection() {
+		
+		return null;
+	}
+	
+	private final void adaptPollInterval(int eventCount) {
+		
+		if(!this.adaptivePolling || eventCount > 0) {
+			
+			this.currentPollInterval = this.pollInterval;
+			
+		} else {
+			
+			// EXPONENTIAL BACK OFF WHILE THE DEVICE IS IDLE
+			long interval = Math.max(this.currentPollInterval, 1L) << 1;
+			this.currentPollInterval = interval > this.maxPollInterval || interval < 0 ? Math.max(this.maxPollInterval, this.pollInterval) : interval;
+		}
 	}
 	
 	/**
@@ -93,9 +496,9 @@ public abstract class Device {
 	protected abstract void remove();
 	
 	/**
-	 * Called continuously in the listening thread.
+	 * Called after every poll.
 	 * The method body is empty.
-	 * Overriding this method will give you more control over the device thread.
+	 * Overriding this method will give you more control over what happens after a poll.
 	 * @since 1.0.0
 	 */
 	protected void update() {
@@ -104,33 +507,284 @@ public abstract class Device {
 	}
 	
 	/**
-	 * Sets how long the thread will wait after an update.
+	 * Sets how long the {@linkplain PollingScheduler} will wait between two polls of this device.
 	 * Default value is {@code 10}.
-	 * @param millis the time the thread will wait in milliseconds
+	 * @param millis the time between two polls in milliseconds
 	 * @since 1.0.0
+	 * @see #setPollInterval(Duration)
 	 */
 	public void setTimeBetweenUpdates(long millis) {
 		
-		this.timeBetweenUpdates = millis;
+		this.setPollInterval(Duration.ofMillis(millis));
+	}
+	
+	/**
+	 * Sets how long the {@linkplain PollingScheduler} will wait between two polls of this device with nanosecond resolution.
+	 * Intervals below one millisecond should be combined with {@link PollingScheduler#setSpinThreshold(Duration)}
+	 * because parking a thread is not precise enough for them.
+	 * Default value is 10 milliseconds.
+	 * @param interval the time between two polls
+	 * @throws IllegalArgumentException if the interval is negative
+	 * @since 1.2.0
+	 */
+	public void setPollInterval(Duration interval) {
+		
+		if(interval.isNegative()) {
+			
+			throw new IllegalArgumentException("The poll interval must not be negative");
+		}
+		
+		this.pollInterval = interval.toNanos();
+		this.currentPollInterval = this.pollInterval;
+	}
+	
+	/**
+	 * Enables or disables adaptive polling.
+	 * If enabled, the poll interval doubles with every poll that did not yield any events until it reaches the
+	 * {@linkplain #setMaxPollInterval(Duration) maximum poll interval}. As soon as an event comes in, the device is polled with
+	 * the normal {@linkplain #setPollInterval(Duration) poll interval} again.
+	 * This keeps the latency low while the device is used and reduces the CPU usage while it is idle.
+	 * Default is {@code false}.
+	 * @param adaptivePolling {@code true} = enabled, {@code false} = disabled
+	 * @since 1.2.0
+	 */
+	public void setAdaptivePolling(boolean adaptivePolling) {
+		
+		this.adaptivePolling = adaptivePolling;
+		this.currentPollInterval = this.pollInterval;
+	}
+	
+	/**
+	 * Sets the upper limit for the poll interval when {@linkplain #setAdaptivePolling(boolean) adaptive polling} is enabled.
+	 * Default value is 100 milliseconds.
+	 * @param interval the maximum time between two polls
+	 * @throws IllegalArgumentException if the interval is negative
+	 * @since 1.2.0
+	 */
+	public void setMaxPollInterval(Duration interval) {
+		
+		if(interval.isNegative()) {
+			
+			throw new IllegalArgumentException("The poll interval must not be negative");
+		}
+		
+		this.maxPollInterval = interval.toNanos();
+	}
+	
+	/**
+	 * Adds a {@linkplain BatchListener}.
+	 * @param listener the {@linkplain BatchListener}
+	 * @since 1.2.0
+	 */
+	public void addBatchListener(BatchListener listener) {
+		
+		this.batchListeners.add(listener);
+	}
+	
+	/**
+	 * Removes a {@linkplain BatchListener}.
+	 * @param listener the {@linkplain BatchListener}
+	 * @since 1.2.0
+	 */
+	public void removeBatchListener(BatchListener listener) {
+		
+		this.batchListeners.remove(listener);
+	}
+	
+	/**
+	 * @return an unmodifiable snapshot of all {@linkplain BatchListener}s that are attached to this device
+	 * @since 1.2.0
+	 */
+	public List<BatchListener> getBatchListeners() {
+		
+		return this.batchListeners.toList();
+	}
+	
+	/**
+	 * Moves the listener calls of this device to a dedicated daemon thread.
+	 * The polling thread publishes the events into a preallocated ring buffer and no longer waits for the listeners
+	 * (unless the ring buffer is full and the policy is {@link OverflowPolicy#BLOCK}).
+	 * Listeners must be thread safe then, because they are no longer called by the polling thread.
+	 * A dispatcher that was enabled before is disabled.
+	 * @param capacity the minimum number of events the ring buffer can hold; rounded up to a power of two
+	 * @param policy what happens if the ring buffer is full
+	 * @throws IllegalArgumentException if the capacity is less than 1 or greater than 2^30
+	 * @throws IllegalStateException if it is called by a listener of the current dispatcher
+	 * @since 1.2.0
+	 */
+	public void enableAsyncDispatch(int capacity, OverflowPolicy policy) {
+		
+		this.enableAsyncDispatch(capacity, policy, null);
+	}
+	
+	/**
+	 * Moves the listener calls of this device to an {@linkplain Executor}.
+	 * Only one task of this device runs on the executor at a time, so the listeners are never called concurrently.
+	 * A dispatcher that was enabled before is disabled.
+	 * @param capacity the minimum number of events the ring buffer can hold; rounded up to a power of two
+	 * @param policy what happens if the ring buffer is full
+	 * @param executor the executor that calls the listeners or {@code null} for a dedicated daemon thread
+	 * @throws IllegalArgumentException if the capacity is less than 1 or greater than 2^30
+	 * @throws IllegalStateException if it is called by a listener of the current dispatcher
+	 * @since 1.2.0
+	 * @see #enableAsyncDispatch(int, OverflowPolicy)
+	 */
+	public void enableAsyncDispatch(int capacity, OverflowPolicy policy, Executor executor) {
+		
+		if(policy == null) {
+			
+			throw new NullPointerException("The overflow policy must not be null");
+		}
+		
+		AsyncDispatcher current = this.dispatcher;
+		
+		if(current != null && current.isConsumerThread()) {
+			
+			throw new IllegalStateException("The dispatcher cannot be replaced by one of its own listeners");
+		}
+		
+		AsyncDispatcher dispatcher = new AsyncDispatcher(this, this.components, capacity, policy, executor, runnable -> new Thread(runnable, "SimpleInput-Dispatcher-" + this.getName()));
+		
+		while(true) {
+			
+			this.disableAsyncDispatch();
+			
+			synchronized(this.pollLock) {
+				
+				if(this.dispatcher == null) {
+					
+					dispatcher.seed(this.values, this.pollCount);
+					this.dispatcher = dispatcher;
+					return;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Lets the polling thread call the listeners again.
+	 * Waits until the events that are still in the ring buffer were dispatched by the consumer and it stopped,
+	 * so the listeners are never called by two threads at once. The lock of the device is not held while waiting,
+	 * so the listeners that are still running can query the device.
+	 * If a listener of this device calls this method, the hand-off is completed by the next poll instead.
+	 * Does nothing if asynchronous dispatching is not enabled.
+	 * @since 1.2.0
+	 */
+	public void disableAsyncDispatch() {
+		
+		AsyncDispatcher dispatcher = this.dispatcher;
+		
+		if(dispatcher == null) {
+			
+			return;
+		}
+		
+		if(dispatcher.isConsumerThread()) {
+			
+			// THE CONSUMER CANNOT WAIT FOR ITSELF
+			dispatcher.shutdown();
+			return;
+		}
+		
+		this.completeHandOff(dispatcher);
+	}
+	
+	private final void completeHandOff(AsyncDispatcher dispatcher) {
+		
+		// THE LISTENERS THAT ARE STILL RUNNING ON THE CONSUMER MAY NEED THE LOCK
+		dispatcher.stop();
+		
+		synchronized(this.pollLock) {
+			
+			if(this.dispatcher == dispatcher) {
+				
+				this.dispatcher = null;
+			}
+			
+			dispatcher.finish();
+		}
 	}
 	
 	/**
-	 * Starts the thread that listens to the input events of this device.
+	 * @return the current {@linkplain AsyncDispatcher} or {@code null} if the listeners are called by the polling thread
+	 * @since 1.2.0
+	 */
+	public AsyncDispatcher getAsyncDispatcher() {
+		
+		return this.dispatcher;
+	}
+	
+	/**
+	 * Enables or disables the reuse of event objects.
+	 * If enabled, the device passes the same mutable event objects to its listeners over and over again instead of creating new ones,
+	 * which makes polling free of allocations.
+	 * <p><i><b>Warning!</b><br>Reused events are only valid during the listener call and must not be stored!</i></p>
+	 * Default is {@code false}.
+	 * @param reusingEvents {@code true} = reuse events, {@code false} = create a new event for every listener call
+	 * @since 1.2.0
+	 */
+	public void setReusingEvents(boolean reusingEvents) {
+		
+		this.reusingEvents = reusingEvents;
+	}
+	
+	/**
+	 * Enables or disables the coalescing of motion events.
+	 * If enabled, all axis movements of a poll are merged into a single event that is fired at the end of the poll.
+	 * A {@linkplain Mouse} fires one {@link MouseListener#onMove(MouseEvent)} or {@link MouseListener#onDrag(MouseEvent)} with the combined deltas
+	 * instead of one per axis, a {@linkplain Gamepad} fires one {@link GamepadListener#onAnalogStickPush(GamepadEvent)} per analog stick
+	 * with the latest position. Movements that happen before a button event of a mouse are delivered before that button event.
+	 * Has no effect on keyboards.
+	 * Default is {@code false}.
+	 * @param coalescingMotion {@code true} = one motion event per poll, {@code false} = one motion event per axis update
+	 * @since 1.2.0
+	 */
+	public void setCoalescingMotion(boolean coalescingMotion) {
+		
+		this.coalescingMotion = coalescingMotion;
+	}
+	
+	/**
+	 * Registers this device at the {@linkplain PollingScheduler} of the {@linkplain DeviceManager} so that it listens to input events.
+	 * Does nothing if the device is already listening.
+	 * @throws IllegalStateException if the {@linkplain DeviceManager} was not created
 	 * @since 1.0.0
 	 */
 	public void startListening() {
 		
+		PollingScheduler scheduler = DeviceManager.getPollingScheduler();
+		
+		if(scheduler == null) {
+			
+			throw new IllegalStateException("The DeviceManager was not created");
+		}
+		
 		this.listening = true;
-		this.thread.start();
+		scheduler.register(this);
 	}
 	
 	/**
-	 * Stops the thread that listens to the input events of this device.
+	 * Unregisters this device from the {@linkplain PollingScheduler} of the {@linkplain DeviceManager}.
 	 * @since 1.0,0
 	 */
 	public void stopListening() {
 		
 		this.listening = false;
+		PollingScheduler scheduler = DeviceManager.getPollingScheduler();
+		
+		if(scheduler != null) {
+			
+			scheduler.unregister(this);
+		}
+	}
+	
+	/**
+	 * @return the throughput and latency metrics of this device
+	 * @since 1.2.0
+	 */
+	public DeviceMetrics getMetrics() {
+		
+		return this.metrics;
 	}
 	
 	/**
@@ -151,13 +805,68 @@ public abstract class Device {
 		return this.listening;
 	}
 	
+	/**
+	 * @return {@code true} if the event objects passed to the listeners are reused, else {@code false}
+	 * @since 1.2.0
+	 */
+	public boolean isReusingEvents() {
+		
+		return this.reusingEvents;
+	}
+	
+	/**
+	 * @return {@code true} if motion events are coalesced per poll, else {@code false}
+	 * @since 1.2.0
+	 */
+	public boolean isCoalescingMotion() {
+		
+		return this.coalescingMotion;
+	}
+	
 	/**
 	 * @return the time between updates in milliseconds
 	 * @since 1.0.0
+	 * @see #getPollInterval()
 	 */
 	public long getTimeBetweenUpdates() {
 		
-		return this.timeBetweenUpdates;
+		return TimeUnit.NANOSECONDS.toMillis(this.pollInterval);
+	}
+	
+	/**
+	 * @return the time between two polls
+	 * @since 1.2.0
+	 */
+	public Duration getPollInterval() {
+		
+		return Duration.ofNanos(this.pollInterval);
+	}
+	
+	/**
+	 * @return the upper limit for the poll interval when adaptive polling is enabled
+	 * @since 1.2.0
+	 */
+	public Duration getMaxPollInterval() {
+		
+		return Duration.ofNanos(this.maxPollInterval);
+	}
+	
+	/**
+	 * @return the time until the next poll, which grows while {@linkplain #setAdaptivePolling(boolean) adaptive polling} backs off
+	 * @since 1.2.0
+	 */
+	public Duration getCurrentPollInterval() {
+		
+		return Duration.ofNanos(this.currentPollInterval);
+	}
+	
+	/**
+	 * @return {@code true} if adaptive polling is enabled, else {@code false}
+	 * @since 1.2.0
+	 */
+	public boolean isAdaptivePolling() {
+		
+		return this.adaptivePolling;
 	}
 	
 	/**
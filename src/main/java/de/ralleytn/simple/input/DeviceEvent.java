@@ -26,12 +26,14 @@ package de.ralleytn.simple.input;
 /**
  * Represents an abstract input event.
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 1.0.0
+ * @version 1.2.0
  * @since 1.0.0
  */
 public abstract class DeviceEvent {
 
 	protected final Device device;
+	private long nanos;
+	private long observedNanos;
 	
 	/**
 	 * @param device the input device that fired this event
@@ -50,4 +52,33 @@ public abstract class DeviceEvent {
 		
 		return this.device;
 	}
+	
+	final void setTimestamps(long nanos, long observedNanos) {
+		
+		this.nanos = nanos;
+		this.observedNanos = observedNanos;
+	}
+	
+	/**
+	 * Returns the timestamp the driver assigned to the input that caused this event.
+	 * The time base depends on the platform and the {@linkplain net.java.games.input.ControllerEnvironment}, so it should only be compared
+	 * with other timestamps of the same device. The synthetic and replayed devices of SimpleInput use {@linkplain System#nanoTime()}.
+	 * @return the timestamp of the driver in nanoseconds or {@code 0} if this event was not fired by a device
+	 * @since 1.2.0
+	 */
+	public final long getNanos() {
+		
+		return this.nanos;
+	}
+	
+	/**
+	 * Returns the {@linkplain System#nanoTime()} at which the polling thread took the input that caused this event from the driver.
+	 * The difference to the time at which a listener receives the event is the latency added by SimpleInput and the listeners before it.
+	 * @return the time at which the input was observed in nanoseconds or {@code 0} if this event was not fired by a device
+	 * @since 1.2.0
+	 */
+	public final long getObservedNanos() {
+		
+		return this.observedNanos;
+	}
 }
@@ -24,12 +24,22 @@
 package de.ralleytn.simple.input;
 
 import java.io.File;
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.ThreadFactory;
 
-import de.ralleytn.plugins.jinput.xinput.XInputEnvironmentPlugin;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import de.ralleytn.simple.input.internal.ListenerList;
+import de.ralleytn.simple.input.internal.NativeEnvironmentProvider;
 import de.ralleytn.simple.input.internal.Util;
+import de.ralleytn.simple.input.internal.jfr.DeviceAddedEvent;
+import de.ralleytn.simple.input.internal.jfr.DeviceRemovedEvent;
 import net.java.games.input.Controller;
 import net.java.games.input.Controller.Type;
 import net.java.games.input.ControllerEnvironment;
@@ -39,31 +49,261 @@ import net.java.games.input.ControllerListener;
 /**
  * Manages the input devices.
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 1.1.0
+ * @version 1.2.0
  * @since 1.0.0
  */
 public final class DeviceManager {
 
 	private static ControllerEnvironment ENVIRONMENT;
-	private static List<Device> DEVICES;
 	private static ControllerListener CONTROLLER_LISTENER;
+	private static volatile PollingScheduler SCHEDULER;
+	private static volatile DeviceRegistry REGISTRY = DeviceRegistry.EMPTY;
+	private static volatile InputSnapshot SNAPSHOT;
 	private static boolean CREATED;
+	private static boolean JMX;
+	private static long MBEAN_ID;
+	private static DeviceScanner SCANNER;
+	private static final ListenerList<HotPlugListener> HOT_PLUG_LISTENERS = new ListenerList<>(new HotPlugListener[0]);
 	
 	private DeviceManager() {}
 	
-	protected static synchronized final void removeDevice(Device device) {
+	protected static final void removeDevice(Device device) {
 		
-		DEVICES.remove(device);
+		// THE LISTENERS ARE CALLED WITHOUT HOLDING THE LOCK
+		if(unregisterDevice(device)) {
+			
+			for(HotPlugListener listener : HOT_PLUG_LISTENERS.getSnapshot()) {
+				
+				listener.onDeviceRemoved(device);
+			}
+		}
 	}
 	
-	private static synchronized final void addDevice(Controller controller) {
+	private static synchronized final boolean unregisterDevice(Device device) {
+		
+		if(REGISTRY.contains(device)) {
+			
+			REGISTRY = REGISTRY.without(device);
+			unregisterMBean(device);
+			DeviceRemovedEvent event = new DeviceRemovedEvent();
+			
+			if(event.shouldCommit()) {
+				
+				event.device = device.getName();
+				event.type = device.getClass().getSimpleName();
+				event.port = device.getPortNumber();
+				event.commit();
+			}
+			
+			return true;
+		}
+		
+		return false;
+	}
+	
+	private static final boolean isSupported(Type type) {
+		
+		return type == Type.MOUSE || type == Type.KEYBOARD || type == Type.STICK || type == Type.GAMEPAD;
+	}
+	
+	private static final Device addDevice(Controller controller) {
+		
+		// THE LISTENERS ARE CALLED WITHOUT HOLDING THE LOCK
+		Device device = registerDevice(controller);
+		
+		if(device != null) {
+			
+			fireDeviceAdded(device);
+		}
+		
+		return device;
+	}
+	
+	private static final void fireDeviceAdded(Device device) {
+		
+		for(HotPlugListener listener : HOT_PLUG_LISTENERS.getSnapshot()) {
+			
+			listener.onDeviceAdded(device);
+		}
+	}
+	
+	private static synchronized final Device registerDevice(Controller controller) {
 		
 		Type type = controller.getType();
+		Device device = null;
 		
-			   if(type == Type.MOUSE)    {DEVICES.add(new Mouse(controller));
-		} else if(type == Type.KEYBOARD) {DEVICES.add(new Keyboard(controller));
-		} else if(type == Type.STICK)    {DEVICES.add(new DefaultGamepad(controller));
-		} else if(type == Type.GAMEPAD)  {DEVICES.add(Util.isXInput(controller) ? new XIGamepad(controller) : new DefaultGamepad(controller));
+			   if(type == Type.MOUSE)    {device = new Mouse(controller);
+		} else if(type == Type.KEYBOARD) {device = new Keyboard(controller);
+		} else if(type == Type.STICK)    {device = new DefaultGamepad(controller);
+		} else if(type == Type.GAMEPAD)  {device = Util.isXInput(controller) ? new XIGamepad(controller) : new DefaultGamepad(controller);
+		}
+		
+		if(device != null) {
+			
+			REGISTRY = REGISTRY.with(device);
+			registerMBean(device);
+			DeviceAddedEvent event = new DeviceAddedEvent();
+			
+			if(event.shouldCommit()) {
+				
+				event.device = device.getName();
+				event.type = device.getClass().getSimpleName();
+				event.port = device.getPortNumber();
+				event.commit();
+			}
+		}
+		
+		return device;
+	}
+	
+	/**
+	 * Compares the controllers of a scan with the registered devices and adds or removes the devices that differ.
+	 * Removed devices are torn down like devices whose poll noticed the disconnect, see {@link Device#disconnect()}.
+	 * If identical devices cannot be told apart after a native re-enumeration, none of them is removed by the scan;
+	 * the poll of the unplugged one fails and removes it instead.
+	 * The {@linkplain HotPlugListener}s are called after the lock was released.
+	 * @param controllers the controllers that are currently connected
+	 * @return the number of added and the number of removed devices
+	 * @since 1.2.0
+	 */
+	static final int[] applyScan(Controller[] controllers) {
+		
+		List<Device> removed = new ArrayList<>();
+		List<Device> added = new ArrayList<>();
+		
+		synchronized(DeviceManager.class) {
+			
+			if(!CREATED) {
+				
+				return new int[2];
+			}
+			
+			Device[] devices = REGISTRY.toArray();
+			boolean[] matchedDevices = new boolean[devices.length];
+			boolean[] matchedControllers = new boolean[controllers.length];
+			boolean[] identifiedControllers = new boolean[controllers.length];
+			
+			// SAME CONTROLLER OBJECT
+			for(int controllerIndex = 0; controllerIndex < controllers.length; controllerIndex++) {
+				
+				for(int deviceIndex = 0; deviceIndex < devices.length; deviceIndex++) {
+					
+					if(!matchedDevices[deviceIndex] && devices[deviceIndex].getController() == controllers[controllerIndex]) {
+						
+						matchedDevices[deviceIndex] = true;
+						matchedControllers[controllerIndex] = true;
+						break;
+					}
+				}
+			}
+			
+			// SAME PHYSICAL DEVICE IN A NEW ENVIRONMENT
+			for(int controllerIndex = 0; controllerIndex < controllers.length; controllerIndex++) {
+				
+				Controller controller = controllers[controllerIndex];
+				
+				for(int deviceIndex = 0; deviceIndex < devices.length && !matchedControllers[controllerIndex]; deviceIndex++) {
+					
+					if(!matchedDevices[deviceIndex] && isSamePhysicalDevice(devices[deviceIndex].getController(), controller)) {
+						
+						matchedDevices[deviceIndex] = true;
+						matchedControllers[controllerIndex] = true;
+						identifiedControllers[controllerIndex] = true;
+					}
+				}
+			}
+			
+			for(int deviceIndex = 0; deviceIndex < devices.length; deviceIndex++) {
+				
+				if(!matchedDevices[deviceIndex] && !isAmbiguous(devices[deviceIndex].getController(), controllers, identifiedControllers)) {
+					
+					removed.add(devices[deviceIndex]);
+				}
+			}
+			
+			for(int controllerIndex = 0; controllerIndex < controllers.length; controllerIndex++) {
+				
+				if(!matchedControllers[controllerIndex] && isSupported(controllers[controllerIndex].getType())) {
+					
+					added.add(registerDevice(controllers[controllerIndex]));
+				}
+			}
+		}
+		
+		// THE TEARDOWN WAITS FOR THE POLLING AND THE DISPATCHER, SO IT MUST NOT HOLD THE LOCK EITHER
+		int removedCount = 0;
+		
+		for(Device device : removed) {
+			
+			if(device.disconnect()) {
+				
+				removedCount++;
+			}
+		}
+		
+		for(Device device : added) {
+			
+			fireDeviceAdded(device);
+		}
+		
+		return new int[] {added.size(), removedCount};
+	}
+	
+	private static final boolean isSamePhysicalDevice(Controller known, Controller controller) {
+		
+		// MOST PLUGINS REPORT PORT 0, SO TWO IDENTICAL GAMEPADS CANNOT BE TOLD APART
+		return known.getType() == controller.getType() && known.getPortNumber() == controller.getPortNumber() && known.getName().equals(controller.getName());
+	}
+	
+	private static final boolean isAmbiguous(Controller known, Controller[] controllers, boolean[] identifiedControllers) {
+		
+		// ANOTHER DEVICE OF THE SAME KIND TOOK THE NEW CONTROLLER, BUT IT MAY HAVE BEEN THE ONE THAT WAS UNPLUGGED;
+		// THE DEVICE IS KEPT AND THE POLL OF THE UNPLUGGED ONE REMOVES IT
+		for(int controllerIndex = 0; controllerIndex < controllers.length; controllerIndex++) {
+			
+			if(identifiedControllers[controllerIndex] && isSamePhysicalDevice(known, controllers[controllerIndex])) {
+				
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	private static final void registerMBean(Device device) {
+		
+		if(JMX) {
+			
+			try {
+				
+				DeviceMetrics metrics = device.getMetrics();
+				metrics.objectName = new ObjectName("de.ralleytn.simple.input:type=" + device.getClass().getSimpleName() + ",id=" + MBEAN_ID++ + ",name=" + ObjectName.quote(device.getName()));
+				ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, metrics.objectName);
+				
+			} catch(JMException exception) {
+				
+				// METRICS ARE OPTIONAL; THE DEVICE CAN BE USED WITHOUT THEM
+				exception.printStackTrace();
+			}
+		}
+	}
+	
+	private static final void unregisterMBean(Device device) {
+		
+		DeviceMetrics metrics = device.getMetrics();
+		
+		if(metrics.objectName != null) {
+			
+			try {
+				
+				ManagementFactory.getPlatformMBeanServer().unregisterMBean(metrics.objectName);
+				
+			} catch(JMException exception) {
+				
+				// ALREADY UNREGISTERED
+			}
+			
+			metrics.objectName = null;
 		}
 	}
 	
@@ -98,34 +338,124 @@ public final class DeviceManager {
 	
 	private static final ControllerEnvironment getEnvironment() {
 		
-		ControllerEnvironment environment = new XInputEnvironmentPlugin();
+		String name = System.getProperty(EnvironmentProvider.PROPERTY);
+		EnvironmentProvider selected = null;
+		
+		for(EnvironmentProvider provider : ServiceLoader.load(EnvironmentProvider.class, DeviceManager.class.getClassLoader())) {
+			
+			if(name != null) {
+				
+				if(name.equals(provider.getName())) {
+					
+					selected = provider;
+					break;
+				}
+				
+			} else if(provider.isSupported() && (selected == null || provider.getPriority() > selected.getPriority())) {
+				
+				selected = provider;
+			}
+		}
 		
-		if(!environment.isSupported()) {
+		if(selected == null) {
+			
+			if(name != null) {
+				
+				throw new IllegalStateException("There is no environment provider with the name " + name);
+			}
 			
-			environment = ControllerEnvironment.getDefaultEnvironment();
+			selected = new NativeEnvironmentProvider();
 		}
 		
-		return environment;
+		return selected.createEnvironment();
 	}
 	
 	/**
-	 * Creates the context.
+	 * Creates the context with <code>{@value PollingScheduler#DEFAULT_THREAD_COUNT}</code> polling thread.
 	 * Has to be done before using any other methods.
 	 * Does nothing if it was already created and not destroyed yet.
 	 * @since 1.0.0
 	 */
 	public static synchronized final void create() {
 		
+		create(PollingScheduler.DEFAULT_THREAD_COUNT);
+	}
+	
+	/**
+	 * Creates the context.
+	 * Has to be done before using any other methods.
+	 * Does nothing if it was already created and not destroyed yet.
+	 * @param pollingThreads the maximum number of threads that are shared by all listening devices for polling,
+	 * 		  {@link PollingScheduler#THREAD_PER_DEVICE} to give every listening device its own thread
+	 * 		  or {@link PollingScheduler#EXTERNAL_TICK} to poll the listening devices with {@link #tick(long)}
+	 * @throws IllegalArgumentException if {@code pollingThreads} is smaller than {@link PollingScheduler#EXTERNAL_TICK}
+	 * @since 1.2.0
+	 */
+	public static synchronized final void create(int pollingThreads) {
+		
+		create(pollingThreads, null);
+	}
+	
+	/**
+	 * Creates the context.
+	 * Has to be done before using any other methods.
+	 * Does nothing if it was already created and not destroyed yet.
+	 * <p>The given {@linkplain ThreadFactory} controls name, priority and daemon status of the polling threads.
+	 * To poll every device on its own virtual thread use
+	 * {@code DeviceManager.create(PollingScheduler.THREAD_PER_DEVICE, PollingScheduler.virtualThreadFactory())}.</p>
+	 * @param pollingThreads the maximum number of threads that are shared by all listening devices for polling,
+	 * 		  {@link PollingScheduler#THREAD_PER_DEVICE} to give every listening device its own thread
+	 * 		  or {@link PollingScheduler#EXTERNAL_TICK} to poll the listening devices with {@link #tick(long)}
+	 * @param threadFactory creates the polling threads; {@code null} for the default
+	 * @throws IllegalArgumentException if {@code pollingThreads} is smaller than {@link PollingScheduler#EXTERNAL_TICK}
+	 * @since 1.2.0
+	 */
+	public static synchronized final void create(int pollingThreads, ThreadFactory threadFactory) {
+		
+		create(null, pollingThreads, threadFactory);
+	}
+	
+	/**
+	 * Creates the context with the devices of the given {@linkplain ControllerEnvironment} instead of the platform default.
+	 * Has to be done before using any other methods.
+	 * Does nothing if it was already created and not destroyed yet.
+	 * If the system property <code>{@value DeviceMetrics#JMX_PROPERTY}</code> is {@code true}, the {@linkplain DeviceMetrics} of every device
+	 * are registered at the platform MBean server.
+	 * @param environment the environment that provides the controllers; {@code null} for the one chosen by the {@linkplain EnvironmentProvider}s
+	 * @since 1.2.0
+	 */
+	public static synchronized final void create(ControllerEnvironment environment) {
+		
+		create(environment, PollingScheduler.DEFAULT_THREAD_COUNT, null);
+	}
+	
+	/**
+	 * Creates the context.
+	 * Has to be done before using any other methods.
+	 * Does nothing if it was already created and not destroyed yet.
+	 * If the system property <code>{@value DeviceMetrics#JMX_PROPERTY}</code> is {@code true}, the {@linkplain DeviceMetrics} of every device
+	 * are registered at the platform MBean server.
+	 * @param environment the environment that provides the controllers; {@code null} for the one chosen by the {@linkplain EnvironmentProvider}s
+	 * @param pollingThreads the maximum number of threads that are shared by all listening devices for polling,
+	 * 		  {@link PollingScheduler#THREAD_PER_DEVICE} to give every listening device its own thread
+	 * 		  or {@link PollingScheduler#EXTERNAL_TICK} to poll the listening devices with {@link #tick(long)}
+	 * @param threadFactory creates the polling threads; {@code null} for the default
+	 * @throws IllegalArgumentException if {@code pollingThreads} is smaller than {@link PollingScheduler#EXTERNAL_TICK}
+	 * @since 1.2.0
+	 */
+	public static synchronized final void create(ControllerEnvironment environment, int pollingThreads, ThreadFactory threadFactory) {
+		
 		if(!CREATED) {
 			
-			DEVICES = new ArrayList<>();
+			SCHEDULER = new PollingScheduler(pollingThreads, threadFactory);
 			CONTROLLER_LISTENER = new Adapter();
-			ENVIRONMENT = getEnvironment();
+			JMX = Boolean.getBoolean(DeviceMetrics.JMX_PROPERTY);
+			ENVIRONMENT = environment != null ? environment : getEnvironment();
 			ENVIRONMENT.addControllerListener(CONTROLLER_LISTENER);
 			
 			for(Controller controller : ENVIRONMENT.getControllers()) {
 				
-				addDevice(controller);
+				registerDevice(controller);
 			}
 			
 			CREATED = true;
@@ -138,17 +468,167 @@ public final class DeviceManager {
 	 * Does nothing if the {@link #create()} method wasn't called yet.
 	 * @since 1.0.0
 	 */
-	public static synchronized final void destroy() {
+	public static final void destroy() {
 		
-		if(CREATED) {
+		List<Device> devices;
+		
+		synchronized(DeviceManager.class) {
+			
+			if(!CREATED) {
+				
+				return;
+			}
 			
+			devices = REGISTRY.getDevices();
 			stopListening();
+			stopRescanning();
+			SCHEDULER.shutdown();
+			devices.forEach(DeviceManager::unregisterMBean);
+			SCHEDULER = null;
 			ENVIRONMENT.removeControllerListener(CONTROLLER_LISTENER);
 			CONTROLLER_LISTENER = null;
 			ENVIRONMENT = null;
-			DEVICES = null;
+			REGISTRY = DeviceRegistry.EMPTY;
+			SNAPSHOT = null;
 			CREATED = false;
 		}
+		
+		// WAITS FOR THE DISPATCHERS TO DRAIN, WHICH MUST NOT HOLD THE LOCK
+		devices.forEach(Device::disableAsyncDispatch);
+	}
+	
+	/**
+	 * Starts a {@linkplain DeviceScanner} that looks for devices that were plugged in or out every {@code interval}.
+	 * Native environments are only enumerated again if the platform signals a change, see {@linkplain DeviceScanner}.
+	 * A scanner that was started before is stopped.
+	 * @param interval the time between two scans; a few seconds are usually enough
+	 * @return the new scanner
+	 * @throws IllegalStateException if the context was not created
+	 * @throws IllegalArgumentException if the interval is not positive
+	 * @since 1.2.0
+	 */
+	public static synchronized final DeviceScanner startRescanning(Duration interval) {
+		
+		if(!CREATED) {
+			
+			throw new IllegalStateException("The DeviceManager was not created");
+		}
+		
+		DeviceScanner scanner = new DeviceScanner(ENVIRONMENT, interval);
+		stopRescanning();
+		SCANNER = scanner;
+		return scanner;
+	}
+	
+	/**
+	 * Stops the {@linkplain DeviceScanner}.
+	 * Does nothing if no scanner is running.
+	 * @since 1.2.0
+	 */
+	public static synchronized final void stopRescanning() {
+		
+		if(SCANNER != null) {
+			
+			SCANNER.shutdown();
+			SCANNER = null;
+		}
+	}
+	
+	/**
+	 * Looks for devices that were plugged in or out once on the calling thread.
+	 * The enumeration of the controllers can take a while with the native environments, so this should not be called on a thread that polls or renders.
+	 * With a native environment every call creates a new one, which registers shutdown hooks and opens devices that are never released,
+	 * so this should only be called on demand and not on a timer.
+	 * Does nothing if the context was not created.
+	 * @since 1.2.0
+	 * @see #startRescanning(Duration)
+	 */
+	public static final void rescan() {
+		
+		ControllerEnvironment environment = ENVIRONMENT;
+		
+		if(environment != null) {
+			
+			applyScan(DeviceScanner.enumerate(environment));
+		}
+	}
+	
+	/**
+	 * @return the running {@linkplain DeviceScanner} or {@code null} if devices are not rescanned
+	 * @since 1.2.0
+	 */
+	public static synchronized final DeviceScanner getScanner() {
+		
+		return SCANNER;
+	}
+	
+	/**
+	 * Adds a {@linkplain HotPlugListener}.
+	 * The listener is kept when the context is destroyed and created again.
+	 * @param listener the {@linkplain HotPlugListener}
+	 * @since 1.2.0
+	 */
+	public static final void addHotPlugListener(HotPlugListener listener) {
+		
+		HOT_PLUG_LISTENERS.add(listener);
+	}
+	
+	/**
+	 * Removes a {@linkplain HotPlugListener}.
+	 * @param listener the {@linkplain HotPlugListener}
+	 * @since 1.2.0
+	 */
+	public static final void removeHotPlugListener(HotPlugListener listener) {
+		
+		HOT_PLUG_LISTENERS.remove(listener);
+	}
+	
+	/**
+	 * Polls all listening devices on the calling thread and runs their {@link Device#update()} methods right after their events.
+	 * Meant to be called once per step of a fixed-step game loop, which makes the input processing deterministic
+	 * and avoids any hand-over between threads.
+	 * Devices with an {@linkplain AsyncDispatcher} still pass their events to its consumer.
+	 * The poll intervals of the devices have no effect in this mode; every listening device is polled with every tick.
+	 * @param nanoTime the time of the tick, in the time base of {@linkplain System#nanoTime()};
+	 * 		  it is used as the {@linkplain DeviceEvent#getObservedNanos() observation time} of all events of this tick
+	 * @throws IllegalStateException if the context was not created with {@link PollingScheduler#EXTERNAL_TICK}
+	 * @since 1.2.0
+	 */
+	public static final void tick(long nanoTime) {
+		
+		PollingScheduler scheduler = SCHEDULER;
+		
+		if(scheduler == null || !scheduler.isExternalTick()) {
+			
+			throw new IllegalStateException("The DeviceManager was not created with PollingScheduler.EXTERNAL_TICK");
+		}
+		
+		scheduler.tick(nanoTime);
+	}
+	
+	/**
+	 * @return the {@linkplain PollingScheduler} that polls all listening devices, or {@code null} if the context was not created
+	 * @since 1.2.0
+	 */
+	public static final PollingScheduler getPollingScheduler() {
+		
+		return SCHEDULER;
+	}
+	
+	/**
+	 * Creates an immutable snapshot of the state of all devices.
+	 * This method does not block and is meant to be called once per frame by a single thread like the game loop.
+	 * The returned snapshot remembers the previous one, so that keys and buttons that were pressed or released
+	 * between the two calls can be queried.
+	 * @return the snapshot
+	 * @since 1.2.0
+	 * @see Device#getState()
+	 */
+	public static final InputSnapshot snapshot() {
+		
+		InputSnapshot snapshot = new InputSnapshot(REGISTRY.toArray(), SNAPSHOT);
+		SNAPSHOT = snapshot;
+		return snapshot;
 	}
 	
 	private static final void stopListening() {
@@ -219,143 +699,89 @@ public final class DeviceManager {
 	}
 	
 	/**
-	 * @return all registered mice
-	 * @since 1.0.0
+	 * Returns the current {@linkplain DeviceRegistry}.
+	 * Use it instead of the other lookup methods if several lookups have to be consistent with each other.
+	 * @return an immutable view of all registered devices; empty if the context was not created
+	 * @since 1.2.0
 	 */
-	public static synchronized final List<Mouse> getMice() {
+	public static final DeviceRegistry getRegistry() {
 		
-		List<Mouse> mice = new ArrayList<>();
-		DEVICES.forEach(device -> {
-			
-			if(device instanceof Mouse) {
-				
-				mice.add((Mouse)device);
-			}
-		});
-		
-		return mice;
+		return REGISTRY;
 	}
 	
 	/**
-	 * @return all registered keyboards
+	 * @return an immutable list of all registered mice
 	 * @since 1.0.0
 	 */
-	public static synchronized final List<Keyboard> getKeyboards() {
-		
-		List<Keyboard> keyboards = new ArrayList<>();
-		DEVICES.forEach(device -> {
-			
-			if(device instanceof Keyboard) {
-				
-				keyboards.add((Keyboard)device);
-			}
-		});
+	public static final List<Mouse> getMice() {
 		
-		return keyboards;
+		return REGISTRY.getMice();
 	}
 	
 	/**
-	 * @return all registered gamepads
+	 * @return an immutable list of all registered keyboards
 	 * @since 1.0.0
 	 */
-	public static synchronized final List<Gamepad> getGamepads() {
+	public static final List<Keyboard> getKeyboards() {
 		
-		List<Gamepad> gamepads = new ArrayList<>();
-		DEVICES.forEach(device -> {
-			
-			if(device instanceof Gamepad) {
-				
-				gamepads.add((Gamepad)device);
-			}
-		});
+		return REGISTRY.getKeyboards();
+	}
+	
+	/**
+	 * @return an immutable list of all registered gamepads
+	 * @since 1.0.0
+	 */
+	public static final List<Gamepad> getGamepads() {
 		
-		return gamepads;
+		return REGISTRY.getGamepads();
 	}
 	
 	/**
 	 * @param name the name (not a unique identifier)
-	 * @return all mice with the given name, or an empty list if there are no mice with this name
+	 * @return an immutable list of all mice with the given name, or an empty list if there are no mice with this name
 	 * @since 1.0.0
 	 */
-	public static synchronized final List<Mouse> getMiceByName(String name) {
+	public static final List<Mouse> getMiceByName(String name) {
 		
-		List<Mouse> mice = new ArrayList<>();
-		
-		for(Mouse mouse : getMice()) {
-			
-			if(mouse.getName().equals(name)) {
-				
-				mice.add(mouse);
-			}
-		}
-		
-		return mice;
+		return REGISTRY.getMiceByName(name);
 	}
 	
 	/**
 	 * @param name the name (not a unique identifier)
-	 * @return all keyboards with the given name, or an empty list if there are no keyboards with this name
+	 * @return an immutable list of all keyboards with the given name, or an empty list if there are no keyboards with this name
 	 * @since 1.0.0
 	 */
-	public static synchronized final List<Keyboard> getKeyboardsByName(String name) {
-		
-		List<Keyboard> keyboards = new ArrayList<>();
-		
-		for(Keyboard keyboard : getKeyboards()) {
-			
-			if(keyboard.getName().equals(name)) {
-				
-				keyboards.add(keyboard);
-			}
-		}
+	public static final List<Keyboard> getKeyboardsByName(String name) {
 		
-		return keyboards;
+		return REGISTRY.getKeyboardsByName(name);
 	}
 	
 	/**
 	 * @param name the name (not a unique identifier)
-	 * @return all gamepads with the given name, or an empty list if there are no gamepads with this name
+	 * @return an immutable list of all gamepads with the given name, or an empty list if there are no gamepads with this name
 	 * @since 1.0.0
 	 */
-	public static synchronized final List<Gamepad> getGamepadsByName(String name) {
-		
-		List<Gamepad> gamepads = new ArrayList<>();
-		
-		for(Gamepad gamepad : getGamepads()) {
-			
-			if(gamepad.getName().equals(name)) {
-				
-				gamepads.add(gamepad);
-			}
-		}
+	public static final List<Gamepad> getGamepadsByName(String name) {
 		
-		return gamepads;
+		return REGISTRY.getGamepadsByName(name);
 	}
 	
 	private static final class Adapter implements ControllerListener {
 		
-		// FIXME
-		// WHY DOES A CONTROLLER LISTENER EXIST IF IT DOESN'T WORK!?
+		// JINPUT NEVER CALLS THIS LISTENER FOR ITS NATIVE ENVIRONMENTS; THE DEVICE SCANNER DETECTS HOT PLUGGING FOR THEM
 		
 		@Override
 		public synchronized void controllerRemoved(ControllerEvent event) {
 			
 			// System.out.println("Removed " + event.getController().getName());
 			
-			List<Device> devices = new ArrayList<>();
-			DEVICES.forEach(device -> {
-
+			for(Device device : REGISTRY.getDevices()) {
+				
 				if(device.getController() == event.getController()) {
 					
-					device.remove();
-					
-				} else {
-					
-					devices.add(device);
+					device.disconnect();
 				}
-			});
-			
-			DEVICES = devices;
+			}
 		}
 		
 		@Override
@@ -0,0 +1,251 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.ObjectName;
+
+/**
+ * Lock-free throughput and latency metrics of a single {@linkplain Device}.
+ * <p>The counters and the poll duration, drain size and time since the last event are always recorded
+ * and cost a few nanoseconds per poll. Recording the duration of every listener call needs two additional
+ * {@linkplain System#nanoTime()} calls per event and therefore has to be {@linkplain #setRecordingDispatchDuration(boolean) enabled}.</p>
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see Device#getMetrics()
+ */
+public final class DeviceMetrics implements DeviceMetricsMXBean {
+
+	/**
+	 * Name of the system property that registers the metrics of all devices as MBeans if it is {@code true}.
+	 * @since 1.2.0
+	 */
+	public static final String JMX_PROPERTY = "de.ralleytn.simple.input.jmx";
+	
+	private final Device device;
+	private final LongAdder polls;
+	private final LongAdder events;
+	private final LongAdder disconnects;
+	private final Histogram pollDuration;
+	private final Histogram dispatchDuration;
+	private final Histogram drainSize;
+	private volatile long resetNanos;
+	private volatile long lastEventNanos;
+	private volatile boolean eventSeen;
+	private volatile boolean recordingDispatchDuration;
+	ObjectName objectName;
+	
+	DeviceMetrics(Device device) {
+		
+		this.device = device;
+		this.polls = new LongAdder();
+		this.events = new LongAdder();
+		this.disconnects = new LongAdder();
+		this.pollDuration = new Histogram();
+		this.dispatchDuration = new Histogram();
+		this.drainSize = new Histogram();
+		this.resetNanos = System.nanoTime();
+	}
+	
+	final void recordPoll(long startNanos, long endNanos, long observedNanos, int eventCount) {
+		
+		this.polls.increment();
+		this.pollDuration.record(endNanos - startNanos);
+		this.drainSize.record(eventCount);
+		
+		if(eventCount > 0) {
+			
+			this.events.add(eventCount);
+			this.lastEventNanos = observedNanos;
+			this.eventSeen = true;
+		}
+	}
+	
+	final void recordDispatch(long nanos) {
+		
+		this.dispatchDuration.record(nanos);
+	}
+	
+	final void recordDisconnect() {
+		
+		this.disconnects.increment();
+	}
+	
+	private final double perSecond(long count) {
+		
+		long elapsed = System.nanoTime() - this.resetNanos;
+		return elapsed > 0 ? count * 1_000_000_000.0 / elapsed : 0.0;
+	}
+	
+	/**
+	 * @return the device these metrics belong to
+	 * @since 1.2.0
+	 */
+	public Device getDevice() {
+		
+		return this.device;
+	}
+	
+	@Override
+	public String getDeviceName() {
+		
+		return this.device.getName();
+	}
+	
+	@Override
+	public long getPollCount() {
+		
+		return this.polls.sum();
+	}
+	
+	@Override
+	public long getEventCount() {
+		
+		return this.events.sum();
+	}
+	
+	@Override
+	public double getPollsPerSecond() {
+		
+		return this.perSecond(this.polls.sum());
+	}
+	
+	@Override
+	public double getEventsPerSecond() {
+		
+		return this.perSecond(this.events.sum());
+	}
+	
+	/**
+	 * @return the duration of the polls in nanoseconds, from the call of the driver to the end of the event processing
+	 * @since 1.2.0
+	 */
+	public Histogram getPollDuration() {
+		
+		return this.pollDuration;
+	}
+	
+	/**
+	 * @return the time in nanoseconds the listeners needed for a single event; empty unless {@linkplain #setRecordingDispatchDuration(boolean) enabled}
+	 * @since 1.2.0
+	 */
+	public Histogram getDispatchDuration() {
+		
+		return this.dispatchDuration;
+	}
+	
+	/**
+	 * @return the number of events that were taken from the driver per poll
+	 * @since 1.2.0
+	 */
+	public Histogram getDrainSize() {
+		
+		return this.drainSize;
+	}
+	
+	/**
+	 * @return the time since the polling thread observed the latest event or {@code null} if there was no event yet
+	 * @since 1.2.0
+	 */
+	public Duration getTimeSinceLastEvent() {
+		
+		return this.eventSeen ? Duration.ofNanos(System.nanoTime() - this.lastEventNanos) : null;
+	}
+	
+	@Override
+	public double getMeanPollDuration() {
+		
+		return this.pollDuration.getMean();
+	}
+	
+	@Override
+	public long getPollDuration99thPercentile() {
+		
+		return this.pollDuration.getValueAtPercentile(99.0);
+	}
+	
+	@Override
+	public long getMaxPollDuration() {
+		
+		return this.pollDuration.getMax();
+	}
+	
+	@Override
+	public long getDispatchDuration99thPercentile() {
+		
+		return this.dispatchDuration.getValueAtPercentile(99.0);
+	}
+	
+	@Override
+	public long getMaxDrainSize() {
+		
+		return this.drainSize.getMax();
+	}
+	
+	@Override
+	public long getNanosSinceLastEvent() {
+		
+		return this.eventSeen ? System.nanoTime() - this.lastEventNanos : -1L;
+	}
+	
+	@Override
+	public long getDisconnectCount() {
+		
+		return this.disconnects.sum();
+	}
+	
+	@Override
+	public boolean isRecordingDispatchDuration() {
+		
+		return this.recordingDispatchDuration;
+	}
+	
+	/**
+	 * Enables or disables the recording of the time the listeners need for each event.
+	 * With {@linkplain Device#enableAsyncDispatch(int, OverflowPolicy) asynchronous dispatching} the time is measured on the consumer thread.
+	 * Default is {@code false}.
+	 * @param recordingDispatchDuration {@code true} = record, {@code false} = do not record
+	 * @since 1.2.0
+	 */
+	@Override
+	public void setRecordingDispatchDuration(boolean recordingDispatchDuration) {
+		
+		this.recordingDispatchDuration = recordingDispatchDuration;
+	}
+	
+	@Override
+	public void reset() {
+		
+		this.polls.reset();
+		this.events.reset();
+		this.disconnects.reset();
+		this.pollDuration.reset();
+		this.dispatchDuration.reset();
+		this.drainSize.reset();
+		this.resetNanos = System.nanoTime();
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+/**
+ * Management interface of the {@linkplain DeviceMetrics}.
+ * The metrics of every device are registered with it at the platform MBean server if the system property
+ * <code>{@value DeviceMetrics#JMX_PROPERTY}</code> is {@code true} when the {@linkplain DeviceManager} is created.
+ * All durations are in nanoseconds.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public interface DeviceMetricsMXBean {
+
+	/**
+	 * @return the name of the device
+	 * @since 1.2.0
+	 */
+	public String getDeviceName();
+	
+	/**
+	 * @return the number of polls since the metrics were created or reset
+	 * @since 1.2.0
+	 */
+	public long getPollCount();
+	
+	/**
+	 * @return the number of events since the metrics were created or reset
+	 * @since 1.2.0
+	 */
+	public long getEventCount();
+	
+	/**
+	 * @return the average number of polls per second since the metrics were created or reset
+	 * @since 1.2.0
+	 */
+	public double getPollsPerSecond();
+	
+	/**
+	 * @return the average number of events per second since the metrics were created or reset
+	 * @since 1.2.0
+	 */
+	public double getEventsPerSecond();
+	
+	/**
+	 * @return the mean duration of a poll
+	 * @since 1.2.0
+	 */
+	public double getMeanPollDuration();
+	
+	/**
+	 * @return the 99th percentile of the poll duration
+	 * @since 1.2.0
+	 */
+	public long getPollDuration99thPercentile();
+	
+	/**
+	 * @return the longest poll
+	 * @since 1.2.0
+	 */
+	public long getMaxPollDuration();
+	
+	/**
+	 * @return the 99th percentile of the time the listeners needed for a single event or {@code 0} if it is not recorded
+	 * @since 1.2.0
+	 */
+	public long getDispatchDuration99thPercentile();
+	
+	/**
+	 * @return the highest number of events that were taken from the driver in a single poll
+	 * @since 1.2.0
+	 */
+	public long getMaxDrainSize();
+	
+	/**
+	 * @return the time since the latest event or {@code -1} if there was no event yet
+	 * @since 1.2.0
+	 */
+	public long getNanosSinceLastEvent();
+	
+	/**
+	 * @return the number of times the device was disconnected
+	 * @since 1.2.0
+	 */
+	public long getDisconnectCount();
+	
+	/**
+	 * @return {@code true} if the duration of every listener call is recorded, else {@code false}
+	 * @since 1.2.0
+	 */
+	public boolean isRecordingDispatchDuration();
+	
+	/**
+	 * @param recordingDispatchDuration {@code true} to record the duration of every listener call
+	 * @since 1.2.0
+	 */
+	public void setRecordingDispatchDuration(boolean recordingDispatchDuration);
+	
+	/**
+	 * Resets all counters and histograms.
+	 * @since 1.2.0
+	 */
+	public void reset();
+}
@@ -0,0 +1,240 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of all devices of the {@linkplain DeviceManager}, indexed by type, name and port number.
+ * <p>A new registry is built and published whenever a device is added or removed. All lookups are therefore lock-free,
+ * never allocate and return immutable lists that can be kept as long as needed. The devices of one registry are always consistent
+ * with each other, even if a device is plugged in or out while they are queried.</p>
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see DeviceManager#getRegistry()
+ */
+public final class DeviceRegistry {
+
+	static final DeviceRegistry EMPTY = new DeviceRegistry(new Device[0], 0L);
+	
+	private final Device[] array;
+	private final long version;
+	private final List<Device> devices;
+	private final List<Mouse> mice;
+	private final List<Keyboard> keyboards;
+	private final List<Gamepad> gamepads;
+	private final Map<String, List<Device>> devicesByName;
+	private final Map<String, List<Mouse>> miceByName;
+	private final Map<String, List<Keyboard>> keyboardsByName;
+	private final Map<String, List<Gamepad>> gamepadsByName;
+	private final Map<Integer, List<Device>> devicesByPort;
+	
+	private DeviceRegistry(Device[] devices, long version) {
+		
+		List<Mouse> mice = new ArrayList<>();
+		List<Keyboard> keyboards = new ArrayList<>();
+		List<Gamepad> gamepads = new ArrayList<>();
+		Map<Integer, List<Device>> devicesByPort = new HashMap<>();
+		
+		for(Device device : devices) {
+			
+			       if(device instanceof Mouse)    {mice.add((Mouse)device);
+			} else if(device instanceof Keyboard) {keyboards.add((Keyboard)device);
+			} else if(device instanceof Gamepad)  {gamepads.add((Gamepad)device);
+			}
+			
+			devicesByPort.computeIfAbsent(device.getPortNumber(), port -> new ArrayList<>()).add(device);
+		}
+		
+		devicesByPort.replaceAll((port, list) -> List.copyOf(list));
+		
+		this.array = devices;
+		this.version = version;
+		this.devices = List.of(devices);
+		this.mice = List.copyOf(mice);
+		this.keyboards = List.copyOf(keyboards);
+		this.gamepads = List.copyOf(gamepads);
+		this.devicesByName = DeviceRegistry.indexByName(this.devices);
+		this.miceByName = DeviceRegistry.indexByName(this.mice);
+		this.keyboardsByName = DeviceRegistry.indexByName(this.keyboards);
+		this.gamepadsByName = DeviceRegistry.indexByName(this.gamepads);
+		this.devicesByPort = Collections.unmodifiableMap(devicesByPort);
+	}
+	
+	private static final <D extends Device> Map<String, List<D>> indexByName(List<D> devices) {
+		
+		Map<String, List<D>> index = new HashMap<>();
+		
+		for(D device : devices) {
+			
+			index.computeIfAbsent(device.getName(), name -> new ArrayList<>()).add(device);
+		}
+		
+		index.replaceAll((name, list) -> List.copyOf(list));
+		return Collections.unmodifiableMap(index);
+	}
+	
+	final DeviceRegistry with(Device device) {
+		
+		Device[] devices = new Device[this.array.length + 1];
+		System.arraycopy(this.array, 0, devices, 0, this.array.length);
+		devices[this.array.length] = device;
+		return new DeviceRegistry(devices, this.version + 1);
+	}
+	
+	final DeviceRegistry without(Device device) {
+		
+		int removed = 0;
+		Device[] devices = new Device[this.array.length];
+		
+		for(Device registered : this.array) {
+			
+			if(registered != device) {
+				
+				devices[removed++] = registered;
+			}
+		}
+		
+		return removed == this.array.length ? this : new DeviceRegistry(Arrays.copyOf(devices, removed), this.version + 1);
+	}
+	
+	final Device[] toArray() {
+		
+		return this.array;
+	}
+	
+	final boolean contains(Device device) {
+		
+		for(Device registered : this.array) {
+			
+			if(registered == device) {
+				
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * @return a number that is increased every time a device is added or removed
+	 * @since 1.2.0
+	 */
+	public long getVersion() {
+		
+		return this.version;
+	}
+	
+	/**
+	 * @return all devices in the order in which they were added
+	 * @since 1.2.0
+	 */
+	public List<Device> getDevices() {
+		
+		return this.devices;
+	}
+	
+	/**
+	 * @return all mice
+	 * @since 1.2.0
+	 */
+	public List<Mouse> getMice() {
+		
+		return this.mice;
+	}
+	
+	/**
+	 * @return all keyboards
+	 * @since 1.2.0
+	 */
+	public List<Keyboard> getKeyboards() {
+		
+		return this.keyboards;
+	}
+	
+	/**
+	 * @return all gamepads
+	 * @since 1.2.0
+	 */
+	public List<Gamepad> getGamepads() {
+		
+		return this.gamepads;
+	}
+	
+	/**
+	 * @param name the name (not a unique identifier)
+	 * @return all devices with the given name
+	 * @since 1.2.0
+	 */
+	public List<Device> getDevicesByName(String name) {
+		
+		return this.devicesByName.getOrDefault(name, List.of());
+	}
+	
+	/**
+	 * @param name the name (not a unique identifier)
+	 * @return all mice with the given name
+	 * @since 1.2.0
+	 */
+	public List<Mouse> getMiceByName(String name) {
+		
+		return this.miceByName.getOrDefault(name, List.of());
+	}
+	
+	/**
+	 * @param name the name (not a unique identifier)
+	 * @return all keyboards with the given name
+	 * @since 1.2.0
+	 */
+	public List<Keyboard> getKeyboardsByName(String name) {
+		
+		return this.keyboardsByName.getOrDefault(name, List.of());
+	}
+	
+	/**
+	 * @param name the name (not a unique identifier)
+	 * @return all gamepads with the given name
+	 * @since 1.2.0
+	 */
+	public List<Gamepad> getGamepadsByName(String name) {
+		
+		return this.gamepadsByName.getOrDefault(name, List.of());
+	}
+	
+	/**
+	 * @param portNumber the port number
+	 * @return all devices with the given port number
+	 * @since 1.2.0
+	 */
+	public List<Device> getDevicesByPort(int portNumber) {
+		
+		return this.devicesByPort.getOrDefault(portNumber, List.of());
+	}
+}
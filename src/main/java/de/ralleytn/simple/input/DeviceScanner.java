@@ -0,0 +1,314 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+
+import de.ralleytn.plugins.jinput.xinput.XInputEnvironmentPlugin;
+import net.java.games.input.Controller;
+import net.java.games.input.ControllerEnvironment;
+
+/**
+ * Detects devices that are plugged in or out while the {@linkplain DeviceManager} is running.
+ * <p>The {@linkplain net.java.games.input.ControllerListener} of JInput is never notified, and the native environments
+ * of JInput enumerate their controllers only once. The scanner therefore periodically asks the environment for its current controllers
+ * and compares the result with the {@linkplain DeviceRegistry}.</p>
+ * <p>A native environment can only be enumerated again by creating a new one, which is expensive and cannot be undone:
+ * every new environment registers shutdown hooks and opens all devices again (on Linux every {@code /dev/input} device),
+ * and the controllers of devices that were already known are never released. The scanner therefore only does that if the platform
+ * signaled a change, which is currently only supported on Linux by watching {@code /dev/input}. On other platforms
+ * {@link DeviceManager#rescan()} has to be called on demand, for example when the player opens the controller settings.
+ * How often a native environment was created can be monitored with {@link #getNativeScanCount()}.</p>
+ * <p>Controllers are matched by identity first and then by type, name and port number, so devices that are still connected keep their
+ * state and listeners. Everything that was not matched is added or removed and reported to the {@linkplain HotPlugListener}s.</p>
+ * <p>The enumeration runs on a daemon thread with the lowest priority and without holding any lock.
+ * Only applying the differences briefly locks the {@linkplain DeviceManager}, which never blocks polling.
+ * How long the scans take can be monitored with {@link #getScanDuration()}.</p>
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see DeviceManager#startRescanning(Duration)
+ */
+public final class DeviceScanner {
+
+	private static final String DEFAULT_ENVIRONMENT = "net.java.games.input.DefaultControllerEnvironment";
+	private static final Path LINUX_INPUT_DEVICES = Paths.get("/dev/input");
+	
+	private final ControllerEnvironment environment;
+	private final boolean nativeEnvironment;
+	private final WatchService hotPlugSignal;
+	private final Histogram scanDuration;
+	private final Thread thread;
+	private volatile long interval;
+	private volatile boolean running;
+	private volatile long addedCount;
+	private volatile long removedCount;
+	private volatile long nativeScanCount;
+	
+	DeviceScanner(ControllerEnvironment environment, Duration interval) {
+		
+		this.environment = environment;
+		this.nativeEnvironment = DeviceScanner.isNative(environment);
+		this.hotPlugSignal = this.nativeEnvironment ? DeviceScanner.watchInputDevices() : null;
+		this.scanDuration = new Histogram();
+		this.setInterval(interval);
+		this.running = true;
+		this.thread = new Thread(this::run, "SimpleInput-Scanner");
+		this.thread.setDaemon(true);
+		this.thread.setPriority(Thread.MIN_PRIORITY);
+		this.thread.start();
+	}
+	
+	private final void run() {
+		
+		while(this.running) {
+			
+			LockSupport.parkNanos(this, this.interval);
+			
+			if(this.running) {
+				
+				try {
+					
+					this.scan();
+					
+				} catch(RuntimeException exception) {
+					
+					// THE NEXT SCAN MAY WORK AGAIN
+					exception.printStackTrace();
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Enumerates the controllers once and applies the differences to the {@linkplain DeviceManager}.
+	 * A native environment is only enumerated again if the platform signaled a change.
+	 * @since 1.2.0
+	 */
+	final void scan() {
+		
+		long start = System.nanoTime();
+		Controller[] controllers = null;
+		
+		if(!this.nativeEnvironment) {
+			
+			controllers = this.environment.getControllers();
+			
+		} else if(this.hasHotPlugSignal()) {
+			
+			controllers = DeviceScanner.enumerate(this.environment);
+			this.nativeScanCount++;
+		}
+		
+		int[] changes = controllers != null ? DeviceManager.applyScan(controllers) : new int[2];
+		this.scanDuration.record(System.nanoTime() - start);
+		this.addedCount += changes[0];
+		this.removedCount += changes[1];
+	}
+	
+	private final boolean hasHotPlugSignal() {
+		
+		if(this.hotPlugSignal == null) {
+			
+			return false;
+		}
+		
+		boolean signaled = false;
+		WatchKey key;
+		
+		while((key = this.hotPlugSignal.poll()) != null) {
+			
+			// EVERY EVENT COUNTS, AN OVERFLOW TOO
+			signaled |= !key.pollEvents().isEmpty();
+			key.reset();
+		}
+		
+		return signaled;
+	}
+	
+	private static final WatchService watchInputDevices() {
+		
+		if(!Files.isDirectory(LINUX_INPUT_DEVICES)) {
+			
+			return null;
+		}
+		
+		try {
+			
+			WatchService service = FileSystems.getDefault().newWatchService();
+			LINUX_INPUT_DEVICES.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE);
+			return service;
+			
+		} catch(IOException | UnsupportedOperationException exception) {
+			
+			// NO SIGNAL; DeviceManager.rescan() STILL WORKS
+			return null;
+		}
+	}
+	
+	static final boolean isNative(ControllerEnvironment environment) {
+		
+		return environment instanceof XInputEnvironmentPlugin || DEFAULT_ENVIRONMENT.equals(environment.getClass().getName());
+	}
+	
+	/**
+	 * Creates a new native environment to enumerate its controllers; other environments are just asked for their controllers.
+	 * @param environment the environment
+	 * @return the current controllers
+	 */
+	static final Controller[] enumerate(ControllerEnvironment environment) {
+		
+		if(DeviceScanner.isNative(environment)) {
+			
+			try {
+				
+				Constructor<? extends ControllerEnvironment> constructor = environment.getClass().getDeclaredConstructor();
+				constructor.setAccessible(true);
+				return constructor.newInstance().getControllers();
+				
+			} catch(ReflectiveOperationException | RuntimeException exception) {
+				
+				// FALL BACK TO THE CONTROLLERS THAT ARE ALREADY KNOWN
+			}
+		}
+		
+		return environment.getControllers();
+	}
+	
+	final void shutdown() {
+		
+		this.running = false;
+		LockSupport.unpark(this.thread);
+		
+		if(this.hotPlugSignal != null) {
+			
+			try {
+				
+				this.hotPlugSignal.close();
+				
+			} catch(IOException exception) {
+				
+				// NOTHING TO DO
+			}
+		}
+	}
+	
+	/**
+	 * Sets the time between two scans.
+	 * @param interval the time between two scans
+	 * @throws IllegalArgumentException if the interval is not positive
+	 * @since 1.2.0
+	 */
+	public void setInterval(Duration interval) {
+		
+		if(interval.isNegative() || interval.isZero()) {
+			
+			throw new IllegalArgumentException("The scan interval must be positive");
+		}
+		
+		this.interval = interval.toNanos();
+	}
+	
+	/**
+	 * @return the time between two scans
+	 * @since 1.2.0
+	 */
+	public Duration getInterval() {
+		
+		return Duration.ofNanos(this.interval);
+	}
+	
+	/**
+	 * @return the time in nanoseconds each scan took, including the enumeration of the controllers
+	 * @since 1.2.0
+	 */
+	public Histogram getScanDuration() {
+		
+		return this.scanDuration;
+	}
+	
+	/**
+	 * @return the number of completed scans
+	 * @since 1.2.0
+	 */
+	public long getScanCount() {
+		
+		return this.scanDuration.getCount();
+	}
+	
+	/**
+	 * @return the number of times this scanner created a new native environment after a hot plug signal
+	 * @since 1.2.0
+	 */
+	public long getNativeScanCount() {
+		
+		return this.nativeScanCount;
+	}
+	
+	/**
+	 * @return {@code true} if the platform signals hot plugging, so that this scanner finds new native devices by itself, else {@code false}
+	 * @since 1.2.0
+	 */
+	public boolean isHotPlugSignalAvailable() {
+		
+		return this.hotPlugSignal != null;
+	}
+	
+	/**
+	 * @return the number of devices this scanner has added
+	 * @since 1.2.0
+	 */
+	public long getAddedDeviceCount() {
+		
+		return this.addedCount;
+	}
+	
+	/**
+	 * @return the number of devices this scanner has removed
+	 * @since 1.2.0
+	 */
+	public long getRemovedDeviceCount() {
+		
+		return this.removedCount;
+	}
+	
+	/**
+	 * @return {@code true} until the scanner was stopped
+	 * @since 1.2.0
+	 */
+	public boolean isRunning() {
+		
+		return this.running;
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+import net.java.games.input.Component;
+import net.java.games.input.Component.Identifier;
+
+/**
+ * Immutable state of a single device after a poll.
+ * Instances are published by the polling thread, or by the consumer of an {@linkplain AsyncDispatcher}, and can be read from any thread without synchronization.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see Device#getState()
+ * @see InputSnapshot
+ */
+public final class DeviceState {
+
+	private final Device device;
+	private final long sequence;
+	private final long timestamp;
+	private final long[] buttons;
+	private final double[] values;
+	private final Direction povDirection;
+	
+	DeviceState(Device device, long sequence, long timestamp, long[] buttons, double[] values, Direction povDirection) {
+		
+		this.device = device;
+		this.sequence = sequence;
+		this.timestamp = timestamp;
+		this.buttons = buttons;
+		this.values = values;
+		this.povDirection = povDirection;
+	}
+	
+	/**
+	 * @return the device this state belongs to
+	 * @since 1.2.0
+	 */
+	public Device getDevice() {
+		
+		return this.device;
+	}
+	
+	/**
+	 * @return the number of polls the device had when this state was captured ({@code 0} if the device was not polled yet)
+	 * @since 1.2.0
+	 */
+	public long getSequence() {
+		
+		return this.sequence;
+	}
+	
+	/**
+	 * @return the value of {@link System#nanoTime()} when this state was captured
+	 * @since 1.2.0
+	 */
+	public long getTimestamp() {
+		
+		return this.timestamp;
+	}
+	
+	/**
+	 * @param button the button or, for keyboards, the key code
+	 * @return {@code true} if the button was down, else {@code false}
+	 * @since 1.2.0
+	 */
+	public boolean isButtonDown(int button) {
+		
+		int word = button >>> 6;
+		return button >= 0 && word < this.buttons.length && (this.buttons[word] & (1L << button)) != 0;
+	}
+	
+	/**
+	 * @return the number of components of the device
+	 * @since 1.2.0
+	 */
+	public int getComponentCount() {
+		
+		return this.values.length;
+	}
+	
+	/**
+	 * Returns the raw value of a component, without any dead zone applied.
+	 * Values of relative components (like the axes of a mouse) are accumulated since the device was created.
+	 * @param componentIndex the position of the component in the component array of the device's controller
+	 * @return the value of the component
+	 * @since 1.2.0
+	 */
+	public float getValue(int componentIndex) {
+		
+		return (float)this.values[componentIndex];
+	}
+	
+	/**
+	 * Returns the raw value of a component, without any dead zone applied.
+	 * Values of relative components (like the axes of a mouse) are accumulated since the device was created.
+	 * @param identifier the identifier of the component
+	 * @return the value of the component or {@code 0.0F} if the device has no such component
+	 * @since 1.2.0
+	 */
+	public float getValue(Identifier identifier) {
+		
+		return (float)this.getTotal(identifier);
+	}
+	
+	final double getTotal(Identifier identifier) {
+		
+		Component[] components = this.device.getController().getComponents();
+		
+		for(int index = 0; index < components.length; index++) {
+			
+			if(identifier.equals(components[index].getIdentifier())) {
+				
+				return this.values[index];
+			}
+		}
+		
+		return 0.0D;
+	}
+	
+	/**
+	 * @return the direction of the POV or {@code null} if it is not pressed or the device has no POV
+	 * @since 1.2.0
+	 */
+	public Direction getPOVDirection() {
+		
+		return this.povDirection;
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+/**
+ * Classifies the direction of an analog stick into 4, 8 or 16 equally sized sectors.
+ * <p>Sector {@code 0} is centered on the positive x axis (east), the following sectors go counter-clockwise.
+ * The y axis points up (north). The classification only compares the stick position against precomputed slopes,
+ * so it needs no trigonometric functions and costs a few nanoseconds.</p>
+ * <p>With hysteresis a stick stays in its previous sector until it leaves it by more than the hysteresis angle.
+ * This prevents the direction from flickering if the stick is held close to the border of two sectors.</p>
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see Gamepad#setDirectionClassifier(DirectionClassifier)
+ */
+public final class DirectionClassifier {
+
+	/**
+	 * Classifier with 8 sectors and a hysteresis of 5 degrees.
+	 * @since 1.2.0
+	 */
+	public static final DirectionClassifier DEFAULT = new DirectionClassifier(8, 5.0F);
+	
+	private static final Direction[] DIRECTIONS_4 = {
+			
+		Direction.EAST, Direction.NORTH, Direction.WEST, Direction.SOUTH
+	};
+	
+	private static final Direction[] DIRECTIONS_8 = {
+			
+		Direction.EAST, Direction.NORTH_EAST, Direction.NORTH, Direction.NORTH_WEST,
+		Direction.WEST, Direction.SOUTH_WEST, Direction.SOUTH, Direction.SOUTH_EAST
+	};
+	
+	private final int sectors;
+	private final float hysteresis;
+	private final float[] boundaries;
+	private final float[] cosines;
+	private final float[] sines;
+	private final float widenedSlope;
+	
+	/**
+	 * @param sectors the number of sectors ({@code 4}, {@code 8} or {@code 16})
+	 * @param hysteresis the hysteresis in degrees; has to be smaller than half a sector
+	 * @throws IllegalArgumentException if the number of sectors or the hysteresis is invalid
+	 * @since 1.2.0
+	 */
+	public DirectionClassifier(int sectors, float hysteresis) {
+		
+		if(sectors != 4 && sectors != 8 && sectors != 16) {
+			
+			throw new IllegalArgumentException("Invalid number of sectors: " + sectors);
+		}
+		
+		double halfSector = Math.PI / sectors;
+		
+		if(!(hysteresis >= 0.0F && Math.toRadians(hysteresis) < halfSector)) {
+			
+			throw new IllegalArgumentException("Invalid hysteresis: " + hysteresis);
+		}
+		
+		this.sectors = sectors;
+		this.hysteresis = hysteresis;
+		this.boundaries = new float[sectors / 4];
+		this.cosines = new float[sectors];
+		this.sines = new float[sectors];
+		this.widenedSlope = (float)Math.tan(halfSector + Math.toRadians(hysteresis));
+		
+		// SLOPES OF THE SECTOR BORDERS IN THE FIRST QUADRANT
+		for(int index = 0; index < this.boundaries.length; index++) {
+			
+			this.boundaries[index] = (float)Math.tan(halfSector * (index * 2 + 1));
+		}
+		
+		for(int sector = 0; sector < sectors; sector++) {
+			
+			this.cosines[sector] = (float)Math.cos(halfSector * sector * 2);
+			this.sines[sector] = (float)Math.sin(halfSector * sector * 2);
+		}
+	}
+	
+	/**
+	 * @param x the horizontal position of the stick
+	 * @param y the vertical position of the stick (up is positive)
+	 * @return the sector in which the stick is or {@code -1} if the stick is in the center
+	 * @since 1.2.0
+	 */
+	public int classify(float x, float y) {
+		
+		if(x == 0.0F && y == 0.0F) {
+			
+			return -1;
+		}
+		
+		float absoluteX = Math.abs(x);
+		float absoluteY = Math.abs(y);
+		int position = 0;
+		
+		// COUNTS THE SECTOR BORDERS OF THE QUADRANT THAT LIE BELOW THE STICK
+		for(float boundary : this.boundaries) {
+			
+			position += absoluteY > absoluteX * boundary ? 1 : 0;
+		}
+		
+		int half = this.sectors >> 1;
+		int sector = x >= 0.0F ? (y >= 0.0F ? position : this.sectors - position) : (y >= 0.0F ? half - position : half + position);
+		return sector == this.sectors ? 0 : sector;
+	}
+	
+	/**
+	 * Classifies the stick position with hysteresis.
+	 * @param x the horizontal position of the stick
+	 * @param y the vertical position of the stick (up is positive)
+	 * @param previous the sector that was returned for the previous position or {@code -1}
+	 * @return the sector in which the stick is or {@code -1} if the stick is in the center
+	 * @since 1.2.0
+	 */
+	public int classify(float x, float y, int previous) {
+		
+		int sector = this.classify(x, y);
+		
+		if(sector >= 0 && sector != previous && previous >= 0 && previous < this.sectors) {
+			
+			// ROTATES THE STICK POSITION SO THAT THE PREVIOUS SECTOR IS CENTERED ON THE X AXIS
+			float along = x * this.cosines[previous] + y * this.sines[previous];
+			float across = y * this.cosines[previous] - x * this.sines[previous];
+			
+			if(along > 0.0F && Math.abs(across) <= along * this.widenedSlope) {
+				
+				return previous;
+			}
+		}
+		
+		return sector;
+	}
+	
+	/**
+	 * @param sector the sector
+	 * @return the {@linkplain Direction} in the center of the sector or {@code null} if the sector is {@code -1}
+	 *         or lies between two directions (odd sectors of a classifier with 16 sectors)
+	 * @since 1.2.0
+	 */
+	public Direction getDirection(int sector) {
+		
+		if(sector < 0) {
+			
+			return null;
+		}
+		
+		if(this.sectors == 4) {
+			
+			return DIRECTIONS_4[sector];
+		}
+		
+		if(this.sectors == 8) {
+			
+			return DIRECTIONS_8[sector];
+		}
+		
+		return (sector & 1) == 0 ? DIRECTIONS_8[sector >> 1] : null;
+	}
+	
+	/**
+	 * @return the number of sectors
+	 * @since 1.2.0
+	 */
+	public int getSectors() {
+		
+		return this.sectors;
+	}
+	
+	/**
+	 * @return the hysteresis in degrees
+	 * @since 1.2.0
+	 */
+	public float getHysteresis() {
+		
+		return this.hysteresis;
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+import java.util.ServiceLoader;
+
+import net.java.games.input.ControllerEnvironment;
+
+/**
+ * Service provider interface for the {@linkplain ControllerEnvironment} that the {@linkplain DeviceManager} uses when no environment is given.
+ * Providers are found with the {@linkplain ServiceLoader}. If the system property <code>{@value #PROPERTY}</code> is set,
+ * the provider with that name is used. Otherwise the supported provider with the highest priority wins.
+ * <p>SimpleInput comes with the providers {@code native} (XInput or the platform default of JInput) and
+ * {@code synthetic} (see {@linkplain SyntheticEnvironment}).</p>
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public interface EnvironmentProvider {
+
+	/**
+	 * Name of the system property that selects a provider by its name.
+	 * @since 1.2.0
+	 */
+	public static final String PROPERTY = "de.ralleytn.simple.input.environment";
+	
+	/**
+	 * @return the name with which this provider can be selected
+	 * @since 1.2.0
+	 */
+	public String getName();
+	
+	/**
+	 * @return the environment
+	 * @since 1.2.0
+	 */
+	public ControllerEnvironment createEnvironment();
+	
+	/**
+	 * @return {@code true} if this provider can be used on the current platform, else {@code false}
+	 * @since 1.2.0
+	 */
+	public default boolean isSupported() {
+		
+		return true;
+	}
+	
+	/**
+	 * @return the priority of this provider; the higher the value the more it is preferred
+	 * @since 1.2.0
+	 */
+	public default int getPriority() {
+		
+		return 0;
+	}
+}
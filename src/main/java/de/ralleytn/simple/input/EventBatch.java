@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+import java.util.Arrays;
+
+import net.java.games.input.Component;
+
+/**
+ * Contains all events of a single poll in primitive arrays.
+ * The components are identified by their position in the component array of the device's controller.
+ * Events of components that are not part of that array are not added to the batch.
+ * <p><i><b>Warning!</b><br>The batch is reused for every poll and is only valid during the {@link BatchListener#onBatch(EventBatch)} call!</i></p>
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class EventBatch {
+
+	private static final int INITIAL_CAPACITY = 32;
+	
+	private final Device device;
+	private final Component[] components;
+	private long[] timestamps;
+	private int[] componentIndices;
+	private float[] values;
+	private int size;
+	
+	EventBatch(Device device, Component[] components) {
+		
+		this.device = device;
+		this.components = components;
+		this.timestamps = new long[INITIAL_CAPACITY];
+		this.componentIndices = new int[INITIAL_CAPACITY];
+		this.values = new float[INITIAL_CAPACITY];
+	}
+	
+	final void clear() {
+		
+		this.size = 0;
+	}
+	
+	final void add(int componentIndex, float value, long timestamp) {
+		
+		if(this.size == this.values.length) {
+			
+			int capacity = this.size * 2;
+			this.timestamps = Arrays.copyOf(this.timestamps, capacity);
+			this.componentIndices = Arrays.copyOf(this.componentIndices, capacity);
+			this.values = Arrays.copyOf(this.values, capacity);
+		}
+		
+		this.timestamps[this.size] = timestamp;
+		this.componentIndices[this.size] = componentIndex;
+		this.values[this.size] = value;
+		this.size++;
+	}
+	
+	/**
+	 * @return the device that was polled
+	 * @since 1.2.0
+	 */
+	public Device getDevice() {
+		
+		return this.device;
+	}
+	
+	/**
+	 * @return the number of events in this batch
+	 * @since 1.2.0
+	 */
+	public int size() {
+		
+		return this.size;
+	}
+	
+	/**
+	 * @param index the index of the event
+	 * @return the timestamp of the event in nanoseconds as reported by the driver
+	 * @since 1.2.0
+	 */
+	public long getTimestamp(int index) {
+		
+		this.checkIndex(index);
+		return this.timestamps[index];
+	}
+	
+	/**
+	 * @param index the index of the event
+	 * @return the position of the event's component in the component array of the device's controller
+	 * @since 1.2.0
+	 */
+	public int getComponentIndex(int index) {
+		
+		this.checkIndex(index);
+		return this.componentIndices[index];
+	}
+	
+	/**
+	 * @param index the index of the event
+	 * @return the JInput component of the event
+	 * @since 1.2.0
+	 */
+	public Component getComponent(int index) {
+		
+		return this.components[this.getComponentIndex(index)];
+	}
+	
+	/**
+	 * @param index the index of the event
+	 * @return the value of the event
+	 * @since 1.2.0
+	 */
+	public float getValue(int index) {
+		
+		this.checkIndex(index);
+		return this.values[index];
+	}
+	
+	private final void checkIndex(int index) {
+		
+		if(index < 0 || index >= this.size) {
+			
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+		}
+	}
+}
@@ -23,10 +23,12 @@
  */
 package de.ralleytn.simple.input;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+import de.ralleytn.simple.input.internal.AtomicBitSet;
+import de.ralleytn.simple.input.internal.ListenerList;
+import de.ralleytn.simple.input.internal.Util;
 import net.java.games.input.Component.Identifier;
 import net.java.games.input.Controller;
 import net.java.games.input.Rumbler;
@@ -39,7 +41,7 @@ import net.java.games.input.Rumbler;
 /**
  * Represents a gamepad.
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 1.1.0
+ * @version 1.2.0
  * @since 1.0.0
  */
 public abstract class Gamepad extends Device {
@@ -51,20 +53,59 @@ public abstract class Gamepad extends Device {
 	public static final float MAX_DEAD_ZONE = 0.9999999F;
 	
 	protected Rumbler[] rumblers;
-	protected List<GamepadListener> listeners;
-	protected Direction currentPOVDirection;
+	protected final ListenerList<GamepadListener> listeners;
+	protected volatile Direction currentPOVDirection;
 	protected int buttonCount;
 	protected float deadZone;
 	protected MouseControl mouseControl;
-	protected boolean[] buttonsThatAreDown;
+	protected final AtomicBitSet buttonsThatAreDown;
+	protected final int[] buttonCodes;
+	private final GamepadEvent reusableButtonEvent;
+	private final GamepadEvent reusablePOVReleaseEvent;
+	private final GamepadEvent reusablePOVPressEvent;
+	private final GamepadEvent reusableAnalogStickEvent;
+	private final boolean[] analogStickPending;
+	private final float[] pendingX;
+	private final float[] pendingY;
+	private final Direction[] pendingDirections;
+	private volatile AxisFilter[] axisFilters;
+	private final float[] lastAxisValues;
+	private final long[] lastAxisNanos;
+	private final boolean[] heldAxes;
+	private final float[] heldAxisValues;
+	private volatile DeadZone[] analogStickDeadZones;
+	private final float[] rawAxisValues;
+	private final float[] deadZoneResult;
+	private volatile DirectionClassifier directionClassifier;
+	private final int[] analogStickSectors;
 	
-	Gamepad(Controller controller, int buttonDownArraySize, MouseControl control) {
+	Gamepad(Controller controller, Map<Identifier, Integer> buttonMap, int buttonDownArraySize, MouseControl control) {
 		
 		super(controller);
 
-		this.buttonsThatAreDown = new boolean[buttonDownArraySize];
+		this.reusableButtonEvent = new GamepadEvent(this, GamepadEvent.BUTTON_NONE, false);
+		this.reusablePOVReleaseEvent = new GamepadEvent(this, GamepadEvent.BUTTON_NONE, false);
+		this.reusablePOVPressEvent = new GamepadEvent(this, GamepadEvent.BUTTON_NONE, false);
+		this.reusableAnalogStickEvent = new GamepadEvent(this, GamepadEvent.BUTTON_NONE, false);
+		this.analogStickPending = new boolean[2];
+		this.pendingX = new float[2];
+		this.pendingY = new float[2];
+		this.pendingDirections = new Direction[2];
+		this.axisFilters = new AxisFilter[] {AxisFilter.NONE, AxisFilter.NONE, AxisFilter.NONE, AxisFilter.NONE, AxisFilter.NONE, AxisFilter.NONE};
+		this.lastAxisValues = new float[this.axisFilters.length];
+		this.lastAxisNanos = new long[this.axisFilters.length];
+		this.heldAxes = new boolean[this.axisFilters.length];
+		this.heldAxisValues = new float[this.axisFilters.length];
+		this.analogStickDeadZones = new DeadZone[] {DeadZone.DEFAULT, DeadZone.DEFAULT};
+		this.rawAxisValues = new float[4];
+		this.deadZoneResult = new float[2];
+		this.directionClassifier = DirectionClassifier.DEFAULT;
+		this.analogStickSectors = new int[] {-1, -1};
+
+		this.buttonsThatAreDown = new AtomicBitSet(buttonDownArraySize);
+		this.buttonCodes = Util.toCodeTable(controller.getComponents(), buttonMap);
 		this.rumblers = controller.getRumblers();
-		this.listeners = new ArrayList<>();
+		this.listeners = new ListenerList<>(new GamepadListener[0]);
 		this.mouseControl = control;
 		this.buttonCount = this.countButtons();
 	}
@@ -72,18 +113,27 @@ public abstract class Gamepad extends Device {
 	protected abstract int countButtons();
 	
 	/**
-	 * @return an unmodifiable list of the {@linkplain GamepadListener}s that are attached to this gamepad.
+	 * Processes a value of an analog axis that passed the {@linkplain AxisFilter} of the axis.
+	 * @param axis the axis
+	 * @param value the filtered value
+	 * @since 1.2.0
+	 */
+	protected abstract void processAxisEvent(int axis, float value);
+	
+	/**
+	 * @return an unmodifiable snapshot of the {@linkplain GamepadListener}s that are attached to this gamepad.
 	 * @since 1.0.0
 	 */
 	public List<GamepadListener> getGamepadListeners() {
 		
-		return Collections.unmodifiableList(this.listeners);
+		return this.listeners.toList();
 	}
 	
 	/**
 	 * Sets the dead zone for the analog sticks.
 	 * The dead zone is a value that prevents the {@link GamepadListener#onAnalogStickPush(GamepadEvent)} method from being called
 	 * if the intensity with which the analog stick is pushed is not higher.
+	 * It is checked after the {@linkplain DeadZone} of the analog stick was applied.
 	 * @param value a value between {@code 0.0F} and <code>{@value #MAX_DEAD_ZONE}F</code> (using {@code 1.0F} would disable the analog sticks)
 	 * @since 1.0.0
 	 */
@@ -92,6 +142,94 @@ public abstract class Gamepad extends Device {
 		this.deadZone = value;
 	}
 	
+	/**
+	 * Sets the {@linkplain DeadZone} and response curve of an analog stick.
+	 * The default is {@link DeadZone#DEFAULT}.
+	 * @param analogStick the analog stick ({@link GamepadEvent#ANALOG_STICK_LEFT} or {@link GamepadEvent#ANALOG_STICK_RIGHT})
+	 * @param deadZone the dead zone or {@code null} to keep the raw values
+	 * @since 1.2.0
+	 */
+	public void setAnalogStickDeadZone(int analogStick, DeadZone deadZone) {
+		
+		DeadZone[] deadZones = this.analogStickDeadZones.clone();
+		deadZones[analogStick] = deadZone != null ? deadZone : DeadZone.NONE;
+		this.analogStickDeadZones = deadZones;
+	}
+	
+	/**
+	 * @param analogStick the analog stick ({@link GamepadEvent#ANALOG_STICK_LEFT} or {@link GamepadEvent#ANALOG_STICK_RIGHT})
+	 * @return the {@linkplain DeadZone} of the analog stick
+	 * @since 1.2.0
+	 */
+	public DeadZone getAnalogStickDeadZone(int analogStick) {
+		
+		return this.analogStickDeadZones[analogStick];
+	}
+	
+	/**
+	 * Sets the {@linkplain DirectionClassifier} that decides in which {@linkplain Direction} the analog sticks are pushed.
+	 * The default is {@link DirectionClassifier#DEFAULT}.
+	 * @param classifier the classifier
+	 * @throws IllegalArgumentException if the classifier has 16 sectors, which cannot all be expressed as {@linkplain Direction}
+	 * @since 1.2.0
+	 */
+	public void setDirectionClassifier(DirectionClassifier classifier) {
+		
+		if(classifier.getSectors() > 8) {
+			
+			throw new IllegalArgumentException("Gamepads only support 4 or 8 sectors");
+		}
+		
+		this.directionClassifier = classifier;
+	}
+	
+	/**
+	 * @return the {@linkplain DirectionClassifier} of the analog sticks
+	 * @since 1.2.0
+	 */
+	public DirectionClassifier getDirectionClassifier() {
+		
+		return this.directionClassifier;
+	}
+	
+	/**
+	 * Sets the {@linkplain AxisFilter} of an analog axis.
+	 * The filter decides which value changes of the axis are meaningful enough to create events.
+	 * @param axis the axis (for example {@link GamepadEvent#AXIS_LEFT_X})
+	 * @param filter the filter or {@code null} to let every change through
+	 * @since 1.2.0
+	 */
+	public void setAxisFilter(int axis, AxisFilter filter) {
+		
+		AxisFilter[] filters = this.axisFilters.clone();
+		filters[axis] = filter != null ? filter : AxisFilter.NONE;
+		this.axisFilters = filters;
+	}
+	
+	/**
+	 * Sets the {@linkplain AxisFilter} of both axes of an analog stick.
+	 * @param analogStick the analog stick ({@link GamepadEvent#ANALOG_STICK_LEFT} or {@link GamepadEvent#ANALOG_STICK_RIGHT})
+	 * @param filter the filter or {@code null} to let every change through
+	 * @since 1.2.0
+	 */
+	public void setAnalogStickFilter(int analogStick, AxisFilter filter) {
+		
+		AxisFilter[] filters = this.axisFilters.clone();
+		filters[analogStick * 2] = filter != null ? filter : AxisFilter.NONE;
+		filters[analogStick * 2 + 1] = filters[analogStick * 2];
+		this.axisFilters = filters;
+	}
+	
+	/**
+	 * @param axis the axis (for example {@link GamepadEvent#AXIS_LEFT_X})
+	 * @return the {@linkplain AxisFilter} of the axis
+	 * @since 1.2.0
+	 */
+	public AxisFilter getAxisFilter(int axis) {
+		
+		return this.axisFilters[axis];
+	}
+	
 	/**
 	 * Adds a {@linkplain GamepadListener}.
 	 * @param listener the {@linkplain GamepadListener}
@@ -171,7 +309,7 @@ public abstract class Gamepad extends Device {
 	 */
 	public boolean isButtonDown(int button) {
 		
-		return this.buttonsThatAreDown[button];
+		return this.buttonsThatAreDown.get(button);
 	}
 	
 	/**
@@ -192,22 +330,47 @@ public abstract class Gamepad extends Device {
 		return this.mouseControl;
 	}
 	
+	@Override
+	long[] captureButtons() {
+		
+		return this.buttonsThatAreDown.toLongArray();
+	}
+	
+	@Override
+	Direction capturePOVDirection() {
+		
+		return this.currentPOVDirection;
+	}
+	
+	private final GamepadEvent createEvent(GamepadEvent reusableEvent, Direction direction, int analogStick, int button, float intensity) {
+		
+		return this.stamp(this.reusingEvents ? reusableEvent.set(direction, analogStick, button, intensity) : new GamepadEvent(this, direction, analogStick, button, intensity));
+	}
+	
 	protected final void processButtonEvent(int button, float value) {
 		
-		GamepadEvent gamepadEvent = new GamepadEvent(this, button, value == 1.0F);
+		GamepadEvent gamepadEvent = this.createEvent(this.reusableButtonEvent, null, GamepadEvent.ANALOG_STICK_NONE, button, value == 1.0F ? 1.0F : 0.0F);
 		
 		if(value == 0.0F) {
 			
-			this.listeners.forEach(listener -> listener.onButtonRelease(gamepadEvent));
+			for(GamepadListener listener : this.listeners.getSnapshot()) {
+				
+				listener.onButtonRelease(gamepadEvent);
+			}
+			
 			this.mouseControl.processReleaseButtonEvent(button);
 			
 		} else {
 			
-			this.listeners.forEach(listener -> listener.onButtonPress(gamepadEvent));
+			for(GamepadListener listener : this.listeners.getSnapshot()) {
+				
+				listener.onButtonPress(gamepadEvent);
+			}
+			
 			this.mouseControl.processPressButtonEvent(button);
 		}
 		
-		this.buttonsThatAreDown[button] = (value == 1.0F);
+		this.buttonsThatAreDown.set(button, value == 1.0F);
 	}
 	
 	protected final void processPOVEvent(Identifier id, float value) {
@@ -218,46 +381,189 @@ public abstract class Gamepad extends Device {
 			
 			if(this.currentPOVDirection != null) {
 				
-				this.listeners.forEach(listener -> {
+				GamepadEvent releaseEvent = this.createEvent(this.reusablePOVReleaseEvent, this.currentPOVDirection, -1, -1, 0.0F);
+				GamepadEvent pressEvent = direction != null ? this.createEvent(this.reusablePOVPressEvent, direction, -1, -1, 0.0F) : null;
+				
+				for(GamepadListener listener : this.listeners.getSnapshot()) {
 					
-					listener.onPOVRelease(new GamepadEvent(this, this.currentPOVDirection, -1, -1, 0.0F));
+					listener.onPOVRelease(releaseEvent);
 					
-					if(direction != null) {
+					if(pressEvent != null) {
 						
-						listener.onPOVPress(new GamepadEvent(this, direction, -1, -1, 0.0F));
+						listener.onPOVPress(pressEvent);
 					}
-				});
+				}
 				
 			} else {
 				
-				this.listeners.forEach(listener -> listener.onPOVPress(new GamepadEvent(this, direction, -1, -1, 0.0F)));
+				GamepadEvent pressEvent = this.createEvent(this.reusablePOVPressEvent, direction, -1, -1, 0.0F);
+				
+				for(GamepadListener listener : this.listeners.getSnapshot()) {
+					
+					listener.onPOVPress(pressEvent);
+				}
 			}
 			
 			this.currentPOVDirection = direction;
 		}
 	}
 	
+	/**
+	 * Applies the {@linkplain AxisFilter} of an analog axis to a raw value and calls {@link #processAxisEvent(int, float)} if the value passes it.
+	 * @param axis the axis
+	 * @param value the raw value
+	 * @since 1.2.0
+	 */
+	protected final void filterAxisEvent(int axis, float value) {
+		
+		AxisFilter filter = this.axisFilters[axis];
+		float filtered = filter.quantize(value);
+		
+		if(!filter.isChange(filtered, this.lastAxisValues[axis])) {
+			
+			// THE AXIS WENT BACK TO THE LAST DELIVERED VALUE
+			this.heldAxes[axis] = false;
+			return;
+		}
+		
+		long minInterval = filter.getMinIntervalNanos();
+		
+		if(minInterval > 0L) {
+			
+			long nanos = System.nanoTime();
+			
+			// ZERO MEANS THAT THE AXIS HAS NOT DELIVERED A VALUE YET
+			if(this.lastAxisNanos[axis] != 0L && nanos - this.lastAxisNanos[axis] < minInterval) {
+				
+				this.heldAxes[axis] = true;
+				this.heldAxisValues[axis] = filtered;
+				return;
+			}
+			
+			this.lastAxisNanos[axis] = nanos;
+		}
+		
+		this.heldAxes[axis] = false;
+		this.lastAxisValues[axis] = filtered;
+		this.processAxisEvent(axis, filtered);
+	}
+	
+	/**
+	 * Delivers the axis values that were held back by the minimum interval of their {@linkplain AxisFilter} once the interval has elapsed.
+	 * Has to be called by the {@link #update()} method of the sub classes before {@link #flushAnalogStickEvents()}.
+	 * @since 1.2.0
+	 */
+	protected final void flushAxisFilters() {
+		
+		long nanos = 0L;
+		
+		for(int axis = 0; axis < this.heldAxes.length; axis++) {
+			
+			if(this.heldAxes[axis]) {
+				
+				if(nanos == 0L) {
+					
+					nanos = System.nanoTime();
+				}
+				
+				if(nanos - this.lastAxisNanos[axis] >= this.axisFilters[axis].getMinIntervalNanos()) {
+					
+					this.heldAxes[axis] = false;
+					this.lastAxisNanos[axis] = nanos;
+					this.lastAxisValues[axis] = this.heldAxisValues[axis];
+					this.processAxisEvent(axis, this.heldAxisValues[axis]);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Remembers the raw value of an analog stick axis and applies the {@linkplain DeadZone} of the analog stick to both of its axes.
+	 * @param axis the axis ({@link GamepadEvent#AXIS_LEFT_X} to {@link GamepadEvent#AXIS_RIGHT_Y})
+	 * @param value the raw value
+	 * @return a reused array with the processed horizontal value at index {@code 0} and the vertical one at index {@code 1}
+	 * @since 1.2.0
+	 */
+	protected final float[] applyDeadZone(int axis, float value) {
+		
+		int analogStick = axis >> 1;
+		int axisX = analogStick << 1;
+		this.rawAxisValues[axis] = value;
+		this.analogStickDeadZones[analogStick].process(this.rawAxisValues[axisX], this.rawAxisValues[axisX + 1], this.deadZoneResult);
+		return this.deadZoneResult;
+	}
+	
+	/**
+	 * Gives the direction in which an analog stick is pushed.
+	 * The previous direction of the analog stick is taken into account for the hysteresis.
+	 * @param analogStick the analog stick
+	 * @param value the value of the axis that changed
+	 * @param x the processed horizontal value
+	 * @param y the processed vertical value (up is positive)
+	 * @return the direction or {@code null} if the changed axis or the whole analog stick is centered
+	 * @since 1.2.0
+	 */
+	protected final Direction getAnalogStickDirection(int analogStick, float value, float x, float y) {
+		
+		DirectionClassifier classifier = this.directionClassifier;
+		int sector = classifier.classify(x, y, this.analogStickSectors[analogStick]);
+		this.analogStickSectors[analogStick] = sector;
+		return value != 0.0F ? classifier.getDirection(sector) : null;
+	}
+	
 	protected final void processAnalogStickEvent(int analogStick, float value, Identifier id, float x, float y, Direction direction) {
 		
+		if(this.coalescingMotion) {
+			
+			this.analogStickPending[analogStick] = true;
+			this.pendingX[analogStick] = x;
+			this.pendingY[analogStick] = y;
+			this.pendingDirections[analogStick] = direction;
+			
+		} else {
+			
+			this.fireAnalogStickEvent(analogStick, x, y, direction);
+		}
+	}
+	
+	/**
+	 * Fires the analog stick events that were coalesced during the current poll.
+	 * Has to be called by the {@link #update()} method of the sub classes.
+	 * @since 1.2.0
+	 */
+	protected final void flushAnalogStickEvents() {
+		
+		for(int analogStick = 0; analogStick < this.analogStickPending.length; analogStick++) {
+			
+			if(this.analogStickPending[analogStick]) {
+				
+				this.analogStickPending[analogStick] = false;
+				this.fireAnalogStickEvent(analogStick, this.pendingX[analogStick], this.pendingY[analogStick], this.pendingDirections[analogStick]);
+			}
+		}
+	}
+	
+	private final void fireAnalogStickEvent(int analogStick, float x, float y, Direction direction) {
+		
 		float intensity = Gamepad.getIntensity(x, y);
 		
 		if(intensity > this.deadZone) {
 			
-			this.listeners.forEach(listener -> listener.onAnalogStickPush(new GamepadEvent(this, direction, analogStick, -1, intensity)));
+			GamepadEvent gamepadEvent = this.createEvent(this.reusableAnalogStickEvent, direction, analogStick, -1, intensity).setPosition(x, y);
+			
+			for(GamepadListener listener : this.listeners.getSnapshot()) {
+				
+				listener.onAnalogStickPush(gamepadEvent);
+			}
 		}
 	}
 
 	private static final float getIntensity(float x, float y) {
 		
-		double velocity = Math.sqrt(Math.pow(x, 2) + Math.pow(y, 2));
+		double velocity = Math.sqrt(x * x + y * y);
 	    return (float)(velocity > 1.0F ? 1.0F : velocity);
 	}
 
-	protected static final boolean isDead(float value) {
-		
-		return value < 0.1F && value > -0.1F;
-	}
-
 	private static final Direction getPOVDirection(float value) {
 		
 		Direction direction = null;
@@ -278,7 +584,11 @@ public abstract class Gamepad extends Device {
 	@Override
 	protected void remove() {
 		
-		this.listeners.forEach(listener -> listener.onRemove());
+		for(GamepadListener listener : this.listeners.getSnapshot()) {
+			
+			listener.onRemove();
+		}
+		
 		this.stopListening();
 	}
 }
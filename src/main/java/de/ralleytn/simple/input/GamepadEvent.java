@@ -26,7 +26,7 @@ package de.ralleytn.simple.input;
 /**
  * Represents an event that was fired by a gamepad.
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 1.1.0
+ * @version 1.2.0
  * @since 1.0.0
  */
 public class GamepadEvent extends DeviceEvent {
@@ -49,6 +49,30 @@ public class GamepadEvent extends DeviceEvent {
 	 */
 	public static final int ANALOG_STICK_RIGHT = 1;
 	
+	/**
+	 * The horizontal axis of the left analog stick
+	 * @since 1.2.0
+	 */
+	public static final int AXIS_LEFT_X = 0;
+	
+	/**
+	 * The vertical axis of the left analog stick
+	 * @since 1.2.0
+	 */
+	public static final int AXIS_LEFT_Y = 1;
+	
+	/**
+	 * The horizontal axis of the right analog stick
+	 * @since 1.2.0
+	 */
+	public static final int AXIS_RIGHT_X = 2;
+	
+	/**
+	 * The vertical axis of the right analog stick
+	 * @since 1.2.0
+	 */
+	public static final int AXIS_RIGHT_Y = 3;
+	
 	/**
 	 * A
 	 * @since 1.0.0
@@ -133,10 +157,12 @@ public class GamepadEvent extends DeviceEvent {
 	 */
 	public static final int BUTTON_NONE = -1;
 	
-	private final Direction direction;
-	private final int analogStick;
-	private final int button;
-	private final float intensity;
+	private Direction direction;
+	private int analogStick;
+	private int button;
+	private float intensity;
+	private float x;
+	private float y;
 	
 	/**
 	 * @param device the device that fired this event
@@ -173,6 +199,22 @@ public class GamepadEvent extends DeviceEvent {
 		this.intensity = press ? 1.0F : 0.0F;
 	}
 	
+	final GamepadEvent set(Direction direction, int analogStick, int button, float intensity) {
+		
+		this.direction = direction;
+		this.analogStick = analogStick;
+		this.button = button;
+		this.intensity = intensity;
+		return this;
+	}
+	
+	final GamepadEvent setPosition(float x, float y) {
+		
+		this.x = x;
+		this.y = y;
+		return this;
+	}
+	
 	/**
 	 * @return the direction that either the POV or an analog stick is facing
 	 * @since 1.0.0
@@ -208,4 +250,22 @@ public class GamepadEvent extends DeviceEvent {
 		
 		return this.intensity;
 	}
+	
+	/**
+	 * @return the position of the analog stick on the X axis from {@code -1.0F} to {@code 1.0F} or {@code 0.0F} if this is no analog stick event
+	 * @since 1.2.0
+	 */
+	public final float getX() {
+		
+		return this.x;
+	}
+	
+	/**
+	 * @return the position of the analog stick on the Y axis from {@code -1.0F} to {@code 1.0F} or {@code 0.0F} if this is no analog stick event
+	 * @since 1.2.0
+	 */
+	public final float getY() {
+		
+		return this.y;
+	}
 }
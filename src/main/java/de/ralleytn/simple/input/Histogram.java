@@ -0,0 +1,183 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram with logarithmic buckets in the style of an HDR histogram.
+ * <p>Every power of two is divided into 8 linear sub buckets, which means that a recorded value is reported with
+ * an error of at most 12.5%. Values from {@code 0} to {@linkplain Long#MAX_VALUE} fit into 488 buckets,
+ * so recording never allocates and never needs to resize.</p>
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class Histogram {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+	
+	private final AtomicLongArray counts;
+	private final AtomicLong count;
+	private final AtomicLong sum;
+	private final AtomicLong max;
+	
+	Histogram() {
+		
+		this.counts = new AtomicLongArray(BUCKETS);
+		this.count = new AtomicLong();
+		this.sum = new AtomicLong();
+		this.max = new AtomicLong();
+	}
+	
+	private static final int indexOf(long value) {
+		
+		if(value < SUB_BUCKETS) {
+			
+			return (int)value;
+		}
+		
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int)(value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+	
+	private static final long highestValueOf(int index) {
+		
+		if(index < SUB_BUCKETS) {
+			
+			return index;
+		}
+		
+		int shift = index / SUB_BUCKETS - 1;
+		long lowest = (long)(SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+		return lowest + (1L << shift) - 1;
+	}
+	
+	/**
+	 * Records a value. Negative values are recorded as {@code 0}.
+	 * @param value the value
+	 * @since 1.2.0
+	 */
+	final void record(long value) {
+		
+		long positive = Math.max(value, 0L);
+		this.counts.getAndIncrement(Histogram.indexOf(positive));
+		this.count.getAndIncrement();
+		this.sum.getAndAdd(positive);
+		
+		long currentMax;
+		
+		while(positive > (currentMax = this.max.get()) && !this.max.compareAndSet(currentMax, positive)) {
+			
+			// RETRY UNTIL THE MAXIMUM IS UP TO DATE
+		}
+	}
+	
+	/**
+	 * Removes all recorded values.
+	 * Values that are recorded concurrently may partially survive the reset.
+	 * @since 1.2.0
+	 */
+	public void reset() {
+		
+		for(int index = 0; index < BUCKETS; index++) {
+			
+			this.counts.set(index, 0L);
+		}
+		
+		this.count.set(0L);
+		this.sum.set(0L);
+		this.max.set(0L);
+	}
+	
+	/**
+	 * @return the number of recorded values
+	 * @since 1.2.0
+	 */
+	public long getCount() {
+		
+		return this.count.get();
+	}
+	
+	/**
+	 * @return the exact highest recorded value or {@code 0} if nothing was recorded
+	 * @since 1.2.0
+	 */
+	public long getMax() {
+		
+		return this.max.get();
+	}
+	
+	/**
+	 * @return the exact mean of all recorded values or {@code 0.0} if nothing was recorded
+	 * @since 1.2.0
+	 */
+	public double getMean() {
+		
+		long count = this.count.get();
+		return count > 0 ? (double)this.sum.get() / count : 0.0;
+	}
+	
+	/**
+	 * Returns the value below or at which the given percentage of all recorded values lies.
+	 * The result is the upper bound of the bucket that contains the percentile, but never higher than {@link #getMax()}.
+	 * @param percentile the percentile from {@code 0.0} to {@code 100.0}
+	 * @return the value at the percentile or {@code 0} if nothing was recorded
+	 * @throws IllegalArgumentException if the percentile is not between {@code 0.0} and {@code 100.0}
+	 * @since 1.2.0
+	 */
+	public long getValueAtPercentile(double percentile) {
+		
+		if(!(percentile >= 0.0 && percentile <= 100.0)) {
+			
+			throw new IllegalArgumentException("The percentile must be between 0 and 100");
+		}
+		
+		long total = 0L;
+		
+		for(int index = 0; index < BUCKETS; index++) {
+			
+			total += this.counts.get(index);
+		}
+		
+		long target = Math.max((long)Math.ceil(percentile / 100.0 * total), 1L);
+		long cumulated = 0L;
+		
+		for(int index = 0; index < BUCKETS && total > 0; index++) {
+			
+			cumulated += this.counts.get(index);
+			
+			if(cumulated >= target) {
+				
+				return Math.min(Histogram.highestValueOf(index), this.max.get());
+			}
+		}
+		
+		return 0L;
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+/**
+ * Is notified when a device is plugged in or out after the {@linkplain DeviceManager} was created.
+ * Devices that are removed because a poll failed are reported on the polling thread, everything that was found by the
+ * {@linkplain DeviceScanner} on its own thread.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see DeviceManager#addHotPlugListener(HotPlugListener)
+ */
+public interface HotPlugListener {
+
+	/**
+	 * Called after a device was added to the {@linkplain DeviceManager}.
+	 * @param device the new device
+	 * @since 1.2.0
+	 */
+	public void onDeviceAdded(Device device);
+	
+	/**
+	 * Called after a device was removed from the {@linkplain DeviceManager}.
+	 * @param device the removed device
+	 * @since 1.2.0
+	 */
+	public void onDeviceRemoved(Device device);
+}
@@ -0,0 +1,371 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import net.java.games.input.Component.Identifier;
+import net.java.games.input.Controller.Type;
+
+/**
+ * Reads a journal that was written by the {@linkplain InputRecorder}.
+ * The records are memory-mapped, so even very large journals can be read without loading them completely.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class InputJournal implements Closeable {
+
+	private static final int RECORDS_PER_CHUNK = (1 << 30) / InputRecorder.RECORD_SIZE;
+	private static final Map<String, Identifier> IDENTIFIERS = InputJournal.createIdentifierTable();
+	
+	private final FileChannel channel;
+	private final int headerSize;
+	private final long recordCount;
+	private final long startNanoTime;
+	private final long startTime;
+	private final String[] deviceNames;
+	private final Type[] deviceTypes;
+	private final boolean[] xinput;
+	private final Identifier[][] identifiers;
+	private final boolean[][] relative;
+	private final MappedByteBuffer[] chunks;
+	
+	/**
+	 * @param file the journal file
+	 * @throws IOException if the file cannot be read or is not a journal
+	 * @since 1.2.0
+	 */
+	public InputJournal(Path file) throws IOException {
+		
+		this.channel = FileChannel.open(file, StandardOpenOption.READ);
+		
+		try {
+			
+			ByteBuffer start = ByteBuffer.allocate(16);
+			this.channel.read(start, 0);
+			
+			if(start.getInt(0) != InputRecorder.MAGIC) {
+				
+				throw new IOException(file + " is not a SimpleInput journal");
+			}
+			
+			if(start.getInt(4) != InputRecorder.VERSION || start.getInt(12) != InputRecorder.RECORD_SIZE) {
+				
+				throw new IOException("Unsupported journal version " + start.getInt(4));
+			}
+			
+			this.headerSize = start.getInt(8);
+			ByteBuffer header = ByteBuffer.allocate(this.headerSize);
+			this.channel.read(header, 0);
+			DataInputStream input = new DataInputStream(new ByteArrayInputStream(header.array()));
+			input.skipBytes(InputRecorder.RECORD_COUNT_OFFSET);
+			long recordCount = input.readLong();
+			this.startNanoTime = input.readLong();
+			this.startTime = input.readLong();
+			int deviceCount = input.readInt();
+			this.deviceNames = new String[deviceCount];
+			this.deviceTypes = new Type[deviceCount];
+			this.xinput = new boolean[deviceCount];
+			this.identifiers = new Identifier[deviceCount][];
+			this.relative = new boolean[deviceCount][];
+			
+			for(int device = 0; device < deviceCount; device++) {
+				
+				this.deviceNames[device] = input.readUTF();
+				this.deviceTypes[device] = InputJournal.toType(input.readUTF());
+				this.xinput[device] = input.readBoolean();
+				int componentCount = input.readInt();
+				this.identifiers[device] = new Identifier[componentCount];
+				this.relative[device] = new boolean[componentCount];
+				
+				for(int component = 0; component < componentCount; component++) {
+					
+					this.identifiers[device][component] = InputJournal.toIdentifier(input.readUTF(), input.readUTF());
+					this.relative[device][component] = input.readBoolean();
+				}
+			}
+			
+			// A JOURNAL OF A RECORDER THAT WAS NOT CLOSED HAS NO RECORD COUNT
+			long available = (this.channel.size() - this.headerSize) / InputRecorder.RECORD_SIZE;
+			this.recordCount = recordCount >= 0 ? Math.min(recordCount, available) : available;
+			this.chunks = new MappedByteBuffer[(int)((this.recordCount + RECORDS_PER_CHUNK - 1) / RECORDS_PER_CHUNK)];
+			
+		} catch(IOException | RuntimeException exception) {
+			
+			this.channel.close();
+			throw exception;
+		}
+	}
+	
+	private static final Map<String, Identifier> createIdentifierTable() {
+		
+		Map<String, Identifier> identifiers = new HashMap<>();
+		
+		for(Class<?> type : new Class<?>[] {Identifier.Key.class, Identifier.Button.class, Identifier.Axis.class}) {
+			
+			for(Field field : type.getFields()) {
+				
+				if(Modifier.isStatic(field.getModifiers()) && type.isAssignableFrom(field.getType())) {
+					
+					try {
+						
+						Identifier identifier = (Identifier)field.get(null);
+						identifiers.put(type.getSimpleName() + ":" + identifier.getName(), identifier);
+						
+					} catch(IllegalAccessException exception) {
+						
+						// WILL NEVER HAPPEN!
+						// THE FIELDS ARE PUBLIC!
+					}
+				}
+			}
+		}
+		
+		return identifiers;
+	}
+	
+	private static final Identifier toIdentifier(String type, String name) {
+		
+		Identifier identifier = IDENTIFIERS.get(type + ":" + name);
+		
+		if(identifier == null) {
+			
+			// IDENTIFIERS THAT ARE UNKNOWN TO THIS VERSION OF JINPUT KEEP THEIR NAME
+			       if("Key".equals(type))    {identifier = new Identifier.Key(name) {};
+			} else if("Button".equals(type)) {identifier = new Identifier.Button(name) {};
+			} else                           {identifier = new Identifier.Axis(name) {};
+			}
+		}
+		
+		return identifier;
+	}
+	
+	private static final Type toType(String name) {
+		
+		for(Field field : Type.class.getFields()) {
+			
+			try {
+				
+				if(Modifier.isStatic(field.getModifiers()) && field.getType() == Type.class && name.equals(field.get(null).toString())) {
+					
+					return (Type)field.get(null);
+				}
+				
+			} catch(IllegalAccessException exception) {
+				
+				// WILL NEVER HAPPEN!
+				// THE FIELDS ARE PUBLIC!
+			}
+		}
+		
+		return Type.UNKNOWN;
+	}
+	
+	private final ByteBuffer chunk(long record) throws IOException {
+		
+		if(record < 0 || record >= this.recordCount) {
+			
+			throw new IndexOutOfBoundsException("Record: " + record + ", Count: " + this.recordCount);
+		}
+		
+		int index = (int)(record / RECORDS_PER_CHUNK);
+		
+		if(this.chunks[index] == null) {
+			
+			long first = (long)index * RECORDS_PER_CHUNK;
+			long records = Math.min(RECORDS_PER_CHUNK, this.recordCount - first);
+			this.chunks[index] = this.channel.map(MapMode.READ_ONLY, this.headerSize + first * InputRecorder.RECORD_SIZE, records * InputRecorder.RECORD_SIZE);
+		}
+		
+		return this.chunks[index];
+	}
+	
+	private static final int offset(long record) {
+		
+		return (int)(record % RECORDS_PER_CHUNK) * InputRecorder.RECORD_SIZE;
+	}
+	
+	/**
+	 * @return the number of records, including those that were not committed
+	 * @since 1.2.0
+	 */
+	public long getRecordCount() {
+		
+		return this.recordCount;
+	}
+	
+	/**
+	 * @return the value of {@link System#nanoTime()} when the recording started
+	 * @since 1.2.0
+	 */
+	public long getStartNanoTime() {
+		
+		return this.startNanoTime;
+	}
+	
+	/**
+	 * @return the value of {@link System#currentTimeMillis()} when the recording started
+	 * @since 1.2.0
+	 */
+	public long getStartTime() {
+		
+		return this.startTime;
+	}
+	
+	/**
+	 * @return the number of recorded devices
+	 * @since 1.2.0
+	 */
+	public int getDeviceCount() {
+		
+		return this.deviceNames.length;
+	}
+	
+	/**
+	 * @param device the device
+	 * @return the name of the device
+	 * @since 1.2.0
+	 */
+	public String getDeviceName(int device) {
+		
+		return this.deviceNames[device];
+	}
+	
+	/**
+	 * @param device the device
+	 * @return the controller type of the device
+	 * @since 1.2.0
+	 */
+	public Type getDeviceType(int device) {
+		
+		return this.deviceTypes[device];
+	}
+	
+	/**
+	 * @param device the device
+	 * @return the identifiers of the components of the device
+	 * @since 1.2.0
+	 */
+	public Identifier[] getComponentIdentifiers(int device) {
+		
+		return this.identifiers[device].clone();
+	}
+	
+	/**
+	 * Creates a controller with the same name, type and components as the recorded device.
+	 * @param device the device
+	 * @return the controller
+	 * @since 1.2.0
+	 */
+	public SyntheticController createController(int device) {
+		
+		return new SyntheticController(this.deviceNames[device], this.deviceTypes[device], this.xinput[device], this.identifiers[device], this.relative[device], new float[0], 0.0D);
+	}
+	
+	/**
+	 * @param record the record
+	 * @return {@code true} if the record is complete, else {@code false}
+	 * @throws IOException if the journal cannot be read
+	 * @since 1.2.0
+	 */
+	public boolean isCommitted(long record) throws IOException {
+		
+		return this.chunk(record).getInt(InputJournal.offset(record) + InputRecorder.COMMITTED_OFFSET) == 1;
+	}
+	
+	/**
+	 * @param record the record
+	 * @return the value of {@link System#nanoTime()} when the poll that contained the event was recorded
+	 * @throws IOException if the journal cannot be read
+	 * @since 1.2.0
+	 */
+	public long getRecordTime(long record) throws IOException {
+		
+		return this.chunk(record).getLong(InputJournal.offset(record));
+	}
+	
+	/**
+	 * @param record the record
+	 * @return the timestamp of the event as reported by the driver
+	 * @throws IOException if the journal cannot be read
+	 * @since 1.2.0
+	 */
+	public long getEventTime(long record) throws IOException {
+		
+		return this.chunk(record).getLong(InputJournal.offset(record) + 8);
+	}
+	
+	/**
+	 * @param record the record
+	 * @return the device of the event
+	 * @throws IOException if the journal cannot be read
+	 * @since 1.2.0
+	 */
+	public int getDevice(long record) throws IOException {
+		
+		return this.chunk(record).getInt(InputJournal.offset(record) + 16);
+	}
+	
+	/**
+	 * @param record the record
+	 * @return the position of the component in the component array of the device
+	 * @throws IOException if the journal cannot be read
+	 * @since 1.2.0
+	 */
+	public int getComponent(long record) throws IOException {
+		
+		return this.chunk(record).getInt(InputJournal.offset(record) + 20);
+	}
+	
+	/**
+	 * @param record the record
+	 * @return the value of the event
+	 * @throws IOException if the journal cannot be read
+	 * @since 1.2.0
+	 */
+	public float getValue(long record) throws IOException {
+		
+		return this.chunk(record).getFloat(InputJournal.offset(record) + 24);
+	}
+	
+	@Override
+	public void close() throws IOException {
+		
+		this.channel.close();
+	}
+}
@@ -0,0 +1,515 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import net.java.games.input.Component;
+import net.java.games.input.Component.Identifier;
+
+/**
+ * Records every event of a set of devices into an append-only binary journal.
+ * <p>The journal is a memory-mapped file with fixed-size records, so recording an event is a slot reservation with a single
+ * atomic increment followed by a few writes into memory. The poll threads never wait for the disk. The file is mapped in segments
+ * by a dedicated thread, which maps the next segment as soon as half of the current one is used. If a poll thread reaches a segment
+ * that is not mapped yet, the events are dropped instead of waiting (see {@link #getDroppedRecordCount()}).</p>
+ * <p>Layout (big endian): a header of {@code headerSize} bytes followed by records of <code>{@value #RECORD_SIZE}</code> bytes.</p>
+ * <pre>
+ * HEADER
+ * int    magic (0x53494A31)
+ * int    version
+ * int    headerSize (multiple of 4096)
+ * int    recordSize
+ * long   recordCount (-1 while the recorder is open, see {@link #getRecordCount()})
+ * long   System.nanoTime() when the recording started
+ * long   System.currentTimeMillis() when the recording started
+ * int    deviceCount
+ * device descriptors (DataOutput):
+ *        UTF name, UTF controller type, boolean XInput, int componentCount,
+ *        per component: UTF identifier type (Key, Button or Axis), UTF identifier name, boolean relative
+ *
+ * RECORD
+ * long   System.nanoTime() when the poll was recorded
+ * long   timestamp of the event as reported by the driver
+ * int    device (position in the device descriptors)
+ * int    component (position in the component array of the controller)
+ * float  value
+ * int    committed (1 as soon as the record is complete)
+ * </pre>
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class InputRecorder implements BatchListener, Closeable {
+
+	/**
+	 * The magic number at the start of every journal.
+	 * @since 1.2.0
+	 */
+	public static final int MAGIC = 0x53494A31;
+	
+	/**
+	 * The version of the journal format.
+	 * @since 1.2.0
+	 */
+	public static final int VERSION = 1;
+	
+	/**
+	 * The size of a single record in bytes.
+	 * @since 1.2.0
+	 */
+	public static final int RECORD_SIZE = 32;
+	
+	/**
+	 * The default size of a segment in bytes (64 MiB).
+	 * @since 1.2.0
+	 */
+	public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+	
+	static final int HEADER_ALIGNMENT = 4096;
+	static final int RECORD_COUNT_OFFSET = 16;
+	static final int COMMITTED_OFFSET = 28;
+	private static final int MAX_SEGMENTS = 1 << 16;
+	private static final VarHandle INT_VIEW = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+	
+	private final FileChannel channel;
+	private final Device[] devices;
+	private final int headerSize;
+	private final int segmentSize;
+	private final int recordsPerSegment;
+	private final AtomicLong reserved;
+	private final LongAdder dropped;
+	private final AtomicReferenceArray<MappedByteBuffer> segments;
+	private final AtomicInteger requestedSegments;
+	private final AtomicInteger writers;
+	private final Thread mapper;
+	private volatile int mappedSegments;
+	private volatile boolean recording;
+	private volatile boolean closed;
+	
+	/**
+	 * Creates a recorder for all devices of the {@linkplain DeviceManager}.
+	 * @param file the journal file; an existing file will be overwritten
+	 * @throws IOException if the file cannot be created
+	 * @since 1.2.0
+	 */
+	public InputRecorder(Path file) throws IOException {
+		
+		this(file, InputRecorder.getAllDevices(), DEFAULT_SEGMENT_SIZE);
+	}
+	
+	/**
+	 * @param file the journal file; an existing file will be overwritten
+	 * @param devices the devices that should be recorded
+	 * @throws IOException if the file cannot be created
+	 * @since 1.2.0
+	 */
+	public InputRecorder(Path file, List<? extends Device> devices) throws IOException {
+		
+		this(file, devices, DEFAULT_SEGMENT_SIZE);
+	}
+	
+	/**
+	 * @param file the journal file; an existing file will be overwritten
+	 * @param devices the devices that should be recorded
+	 * @param segmentSize the size of a segment in bytes; will be rounded down to a multiple of <code>{@value #RECORD_SIZE}</code>
+	 * @throws IOException if the file cannot be created
+	 * @throws IllegalArgumentException if the segment size is smaller than a record
+	 * @since 1.2.0
+	 */
+	public InputRecorder(Path file, List<? extends Device> devices, int segmentSize) throws IOException {
+		
+		if(segmentSize < RECORD_SIZE) {
+			
+			throw new IllegalArgumentException("The segment size must be at least " + RECORD_SIZE + " bytes");
+		}
+		
+		this.devices = devices.toArray(new Device[devices.size()]);
+		this.recordsPerSegment = segmentSize / RECORD_SIZE;
+		this.segmentSize = this.recordsPerSegment * RECORD_SIZE;
+		this.reserved = new AtomicLong();
+		this.dropped = new LongAdder();
+		this.segments = new AtomicReferenceArray<>(MAX_SEGMENTS);
+		this.requestedSegments = new AtomicInteger(1);
+		this.writers = new AtomicInteger();
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		
+		try {
+			
+			byte[] header = this.createHeader();
+			this.headerSize = header.length;
+			this.channel.write(ByteBuffer.wrap(header), 0);
+			this.segments.set(0, this.map(0));
+			this.mappedSegments = 1;
+			
+		} catch(IOException | RuntimeException exception) {
+			
+			this.channel.close();
+			throw exception;
+		}
+		
+		this.mapper = new Thread(this::runMapper, "SimpleInput-Recorder");
+		this.mapper.setDaemon(true);
+		this.mapper.start();
+	}
+	
+	static final List<Device> getAllDevices() {
+		
+		List<Device> devices = new ArrayList<>();
+		devices.addAll(DeviceManager.getKeyboards());
+		devices.addAll(DeviceManager.getMice());
+		devices.addAll(DeviceManager.getGamepads());
+		return devices;
+	}
+	
+	private final byte[] createHeader() throws IOException {
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+		output.writeInt(MAGIC);
+		output.writeInt(VERSION);
+		output.writeInt(0);
+		output.writeInt(RECORD_SIZE);
+		output.writeLong(-1L);
+		output.writeLong(System.nanoTime());
+		output.writeLong(System.currentTimeMillis());
+		output.writeInt(this.devices.length);
+		
+		for(Device device : this.devices) {
+			
+			Component[] components = device.getController().getComponents();
+			output.writeUTF(device.getController().getName());
+			output.writeUTF(device.getController().getType().toString());
+			output.writeBoolean(device instanceof XIGamepad);
+			output.writeInt(components.length);
+			
+			for(Component component : components) {
+				
+				Identifier identifier = component.getIdentifier();
+				output.writeUTF(identifier instanceof Identifier.Key ? "Key" : identifier instanceof Identifier.Button ? "Button" : "Axis");
+				output.writeUTF(identifier.getName());
+				output.writeBoolean(component.isRelative());
+			}
+		}
+		
+		output.flush();
+		int size = ((bytes.size() + HEADER_ALIGNMENT - 1) / HEADER_ALIGNMENT) * HEADER_ALIGNMENT;
+		byte[] header = new byte[size];
+		System.arraycopy(bytes.toByteArray(), 0, header, 0, bytes.size());
+		ByteBuffer.wrap(header).putInt(8, size);
+		return header;
+	}
+	
+	private final MappedByteBuffer map(int index) throws IOException {
+		
+		return this.channel.map(MapMode.READ_WRITE, this.headerSize + (long)index * this.segmentSize, this.segmentSize);
+	}
+	
+	private final void runMapper() {
+		
+		while(!this.closed) {
+			
+			int mapped = this.mappedSegments;
+			
+			if(mapped < this.requestedSegments.get() && mapped < MAX_SEGMENTS) {
+				
+				try {
+					
+					this.segments.set(mapped, this.map(mapped));
+					this.mappedSegments = mapped + 1;
+					
+				} catch(IOException exception) {
+					
+					// THE EVENTS ARE DROPPED; THE NEXT REQUEST TRIES AGAIN
+					LockSupport.park(this);
+				}
+				
+			} else {
+				
+				LockSupport.park(this);
+			}
+		}
+	}
+	
+	private final void mapAhead(int index) {
+		
+		int count = index + 1;
+		
+		if(this.requestedSegments.get() < count) {
+			
+			this.requestedSegments.accumulateAndGet(count, Math::max);
+			LockSupport.unpark(this.mapper);
+		}
+	}
+	
+	/**
+	 * Starts recording by attaching this recorder to its devices.
+	 * @throws IllegalStateException if the recorder was closed
+	 * @since 1.2.0
+	 */
+	public void start() {
+		
+		if(this.closed) {
+			
+			throw new IllegalStateException("The recorder was closed");
+		}
+		
+		if(!this.recording) {
+			
+			this.recording = true;
+			
+			for(Device device : this.devices) {
+				
+				device.addBatchListener(this);
+			}
+		}
+	}
+	
+	/**
+	 * Stops recording. Recording can be started again with {@link #start()}.
+	 * @since 1.2.0
+	 */
+	public void stop() {
+		
+		if(this.recording) {
+			
+			this.recording = false;
+			
+			for(Device device : this.devices) {
+				
+				device.removeBatchListener(this);
+			}
+		}
+	}
+	
+	@Override
+	public void onBatch(EventBatch batch) {
+		
+		// ANNOUNCED BEFORE CHECKING THE FLAG SO THAT CLOSE EITHER SEES THIS WRITER OR THIS WRITER SEES THE FLAG
+		this.writers.incrementAndGet();
+		
+		try {
+			
+			if(!this.closed) {
+				
+				this.write(batch);
+			}
+			
+		} finally {
+			
+			this.writers.decrementAndGet();
+		}
+	}
+	
+	private final void write(EventBatch batch) {
+		
+		int deviceId = this.indexOf(batch.getDevice());
+		int size = batch.size();
+		long recordNanos = System.nanoTime();
+		long first = this.reserved.getAndAdd(size);
+		
+		for(int event = 0; event < size; event++) {
+			
+			long record = first + event;
+			int segmentIndex = (int)(record / this.recordsPerSegment);
+			int offset = (int)(record % this.recordsPerSegment) * RECORD_SIZE;
+			
+			if(offset == (this.recordsPerSegment / 2) * RECORD_SIZE) {
+				
+				this.mapAhead(segmentIndex + 1);
+			}
+			
+			MappedByteBuffer segment = segmentIndex < MAX_SEGMENTS ? this.segments.get(segmentIndex) : null;
+			
+			if(segment == null) {
+				
+				// THE JOURNAL IS FULL OR THE MAPPER IS LATE; THE POLL THREAD NEVER WAITS FOR THE DISK
+				if(segmentIndex < MAX_SEGMENTS) {
+					
+					this.mapAhead(segmentIndex);
+				}
+				
+				this.dropped.increment();
+				continue;
+			}
+			
+			segment.putLong(offset, recordNanos);
+			segment.putLong(offset + 8, batch.getTimestamp(event));
+			segment.putInt(offset + 16, deviceId);
+			segment.putInt(offset + 20, batch.getComponentIndex(event));
+			segment.putFloat(offset + 24, batch.getValue(event));
+			INT_VIEW.setRelease(segment, offset + COMMITTED_OFFSET, 1);
+		}
+	}
+	
+	private final int indexOf(Device device) {
+		
+		for(int index = 0; index < this.devices.length; index++) {
+			
+			if(this.devices[index] == device) {
+				
+				return index;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Stops recording, waits for batches that are still being written, writes the number of records into the header,
+	 * cuts off the unused part of the last segment and flushes the journal to the disk.
+	 * Platforms that cannot truncate a mapped file (Windows) keep the unused part; the record count in the header still tells where the records end.
+	 * @throws IOException if the journal could not be written
+	 * @since 1.2.0
+	 */
+	@Override
+	public void close() throws IOException {
+		
+		if(!this.closed) {
+			
+			this.stop();
+			this.closed = true;
+			LockSupport.unpark(this.mapper);
+			
+			// A POLL THREAD MAY STILL BE WRITING; TRUNCATING UNDER IT WOULD CRASH THE JVM
+			while(this.writers.get() > 0) {
+				
+				Thread.onSpinWait();
+			}
+			
+			boolean interrupted = false;
+			
+			while(this.mapper.isAlive()) {
+				
+				try {
+					
+					this.mapper.join();
+					
+				} catch(InterruptedException exception) {
+					
+					interrupted = true;
+				}
+			}
+			
+			if(interrupted) {
+				
+				Thread.currentThread().interrupt();
+			}
+			
+			try {
+				
+				for(int index = 0; index < this.mappedSegments; index++) {
+					
+					this.segments.get(index).force();
+				}
+				
+				long recordCount = this.getRecordCount();
+				ByteBuffer count = ByteBuffer.allocate(Long.BYTES);
+				count.putLong(0, recordCount);
+				this.channel.write(count, RECORD_COUNT_OFFSET);
+				
+				try {
+					
+					this.channel.truncate(this.headerSize + recordCount * RECORD_SIZE);
+					
+				} catch(IOException exception) {
+					
+					// THE FILE IS STILL MAPPED; THE RECORD COUNT IS ENOUGH FOR THE READER
+				}
+				
+				this.channel.force(true);
+				
+			} finally {
+				
+				this.channel.close();
+			}
+		}
+	}
+	
+	/**
+	 * @return {@code true} if the recorder is currently attached to its devices, else {@code false}
+	 * @since 1.2.0
+	 */
+	public boolean isRecording() {
+		
+		return this.recording;
+	}
+	
+	/**
+	 * @return the devices that are recorded, in the order of the device descriptors in the header
+	 * @since 1.2.0
+	 */
+	public List<Device> getDevices() {
+		
+		return List.of(this.devices);
+	}
+	
+	/**
+	 * Returns the number of records in the journal.
+	 * This includes records that were dropped or are still being written; their {@code committed} field is {@code 0}.
+	 * @return the number of records in the journal
+	 * @since 1.2.0
+	 */
+	public long getRecordCount() {
+		
+		return Math.min(this.reserved.get(), (long)MAX_SEGMENTS * this.recordsPerSegment);
+	}
+	
+	/**
+	 * @return the number of segments that are mapped into memory and ready to be written
+	 * @since 1.2.0
+	 */
+	public int getMappedSegmentCount() {
+		
+		return this.mappedSegments;
+	}
+	
+	/**
+	 * @return the number of events that could not be recorded because their segment was not mapped in time or the journal could not grow any further
+	 * @since 1.2.0
+	 */
+	public long getDroppedRecordCount() {
+		
+		return this.dropped.sum();
+	}
+}
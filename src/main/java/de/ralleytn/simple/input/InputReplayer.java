@@ -0,0 +1,262 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import net.java.games.input.Controller;
+
+/**
+ * Replays a journal that was written by the {@linkplain InputRecorder} through the real event paths of the devices.
+ * <pre>
+ * InputReplayer replayer = new InputReplayer(new InputJournal(file));
+ * DeviceManager.create(replayer.getEnvironment());
+ * // ADD LISTENERS
+ * replayer.replay(InputReplayer.Mode.AS_FAST_AS_POSSIBLE);
+ * </pre>
+ * Every recorded poll is replayed by enqueueing its events into a {@linkplain SyntheticController} and polling the
+ * corresponding device with {@link Device#poll()}. The replayed devices should therefore not listen.
+ * Instead of replaying everything at once, a game loop can replay one frame after another with {@link #advance(Duration)}.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class InputReplayer {
+
+	/**
+	 * Timing of {@link InputReplayer#replay(Mode)}.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 1.2.0
+	 * @since 1.2.0
+	 */
+	public static enum Mode {
+		
+		/**
+		 * The polls are replayed with the same time between them as they were recorded.
+		 * @since 1.2.0
+		 */
+		ORIGINAL,
+		
+		/**
+		 * The polls are replayed without waiting.
+		 * @since 1.2.0
+		 */
+		AS_FAST_AS_POSSIBLE;
+	}
+	
+	private final InputJournal journal;
+	private final SyntheticController[] controllers;
+	private final SyntheticEnvironment environment;
+	private final Device[] devices;
+	private long position;
+	private long time;
+	
+	/**
+	 * @param journal the journal
+	 * @throws IOException if the journal cannot be read
+	 * @since 1.2.0
+	 */
+	public InputReplayer(InputJournal journal) throws IOException {
+		
+		this.journal = journal;
+		this.controllers = new SyntheticController[journal.getDeviceCount()];
+		this.devices = new Device[this.controllers.length];
+		
+		for(int device = 0; device < this.controllers.length; device++) {
+			
+			this.controllers[device] = journal.createController(device);
+		}
+		
+		this.environment = new SyntheticEnvironment(this.controllers);
+		this.position = this.skipUncommitted(0);
+		this.time = this.position < journal.getRecordCount() ? journal.getRecordTime(this.position) : journal.getStartNanoTime();
+	}
+	
+	private final long skipUncommitted(long record) throws IOException {
+		
+		while(record < this.journal.getRecordCount() && !this.journal.isCommitted(record)) {
+			
+			record++;
+		}
+		
+		return record;
+	}
+	
+	private final Device getDevice(int device) {
+		
+		if(this.devices[device] == null) {
+			
+			for(Device candidate : InputRecorder.getAllDevices()) {
+				
+				if(candidate.getController() == this.controllers[device]) {
+					
+					this.devices[device] = candidate;
+				}
+			}
+			
+			if(this.devices[device] == null) {
+				
+				throw new IllegalStateException("The DeviceManager was not created with the environment of this replayer");
+			}
+		}
+		
+		return this.devices[device];
+	}
+	
+	/**
+	 * @return the environment with the controllers of the recorded devices; has to be passed to {@link DeviceManager#create(net.java.games.input.ControllerEnvironment)}
+	 * @since 1.2.0
+	 */
+	public SyntheticEnvironment getEnvironment() {
+		
+		return this.environment;
+	}
+	
+	/**
+	 * @param device the index of a device in the journal
+	 * @return the controller that replays the device
+	 * @since 1.2.0
+	 */
+	public Controller getController(int device) {
+		
+		return this.controllers[device];
+	}
+	
+	/**
+	 * @return {@code true} if there are records left, else {@code false}
+	 * @since 1.2.0
+	 */
+	public boolean hasNext() {
+		
+		return this.position < this.journal.getRecordCount();
+	}
+	
+	/**
+	 * @return the recording time of the next poll, or of the last one if everything was replayed
+	 * @since 1.2.0
+	 */
+	public long getTime() {
+		
+		return this.time;
+	}
+	
+	/**
+	 * Replays the next recorded poll.
+	 * @return {@code true} if a poll was replayed, {@code false} if everything was replayed
+	 * @throws IOException if the journal cannot be read
+	 * @throws IllegalStateException if the {@linkplain DeviceManager} was not created with {@link #getEnvironment()}
+	 * @since 1.2.0
+	 */
+	public boolean step() throws IOException {
+		
+		if(!this.hasNext()) {
+			
+			return false;
+		}
+		
+		int device = this.journal.getDevice(this.position);
+		long recordTime = this.journal.getRecordTime(this.position);
+		SyntheticController controller = this.controllers[device];
+		
+		// ALL EVENTS OF A POLL HAVE THE SAME DEVICE AND RECORDING TIME
+		while(this.position < this.journal.getRecordCount()) {
+			
+			if(this.journal.isCommitted(this.position)) {
+				
+				if(this.journal.getDevice(this.position) != device || this.journal.getRecordTime(this.position) != recordTime) {
+					
+					break;
+				}
+				
+				controller.enqueue(this.journal.getComponent(this.position), this.journal.getValue(this.position), this.journal.getEventTime(this.position));
+			}
+			
+			this.position++;
+		}
+		
+		this.getDevice(device).poll();
+		this.position = this.skipUncommitted(this.position);
+		this.time = this.hasNext() ? this.journal.getRecordTime(this.position) : recordTime;
+		return true;
+	}
+	
+	/**
+	 * Replays all polls that were recorded within the given time after the current {@linkplain #getTime() replay time}.
+	 * This is meant for stepping through a recording frame by frame.
+	 * @param frame the duration of the frame
+	 * @return the number of replayed polls
+	 * @throws IOException if the journal cannot be read
+	 * @throws IllegalStateException if the {@linkplain DeviceManager} was not created with {@link #getEnvironment()}
+	 * @since 1.2.0
+	 */
+	public int advance(Duration frame) throws IOException {
+		
+		long end = this.time + frame.toNanos();
+		int polls = 0;
+		
+		while(this.hasNext() && this.journal.getRecordTime(this.position) - end < 0) {
+			
+			this.step();
+			polls++;
+		}
+		
+		this.time = end;
+		return polls;
+	}
+	
+	/**
+	 * Replays all remaining polls.
+	 * @param mode the timing
+	 * @return the number of replayed polls
+	 * @throws IOException if the journal cannot be read
+	 * @throws IllegalStateException if the {@linkplain DeviceManager} was not created with {@link #getEnvironment()}
+	 * @since 1.2.0
+	 */
+	public long replay(Mode mode) throws IOException {
+		
+		long offset = System.nanoTime() - this.time;
+		long polls = 0;
+		
+		while(this.hasNext()) {
+			
+			if(mode == Mode.ORIGINAL) {
+				
+				long delay;
+				
+				while((delay = this.journal.getRecordTime(this.position) + offset - System.nanoTime()) > 0) {
+					
+					LockSupport.parkNanos(Math.min(delay, TimeUnit.MILLISECONDS.toNanos(100)));
+				}
+			}
+			
+			this.step();
+			polls++;
+		}
+		
+		return polls;
+	}
+}
@@ -0,0 +1,294 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import net.java.games.input.Component.Identifier;
+import net.java.games.input.Component.Identifier.Axis;
+
+/**
+ * Immutable state of all devices at a single point in time.
+ * A game loop should create one snapshot per frame with {@link DeviceManager#snapshot()}.
+ * Because every snapshot knows the device states of the snapshot before it, it can tell which keys and buttons
+ * were pressed or released in between (edges shorter than a frame are not visible).
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class InputSnapshot {
+
+	private final long frame;
+	private final long timestamp;
+	private final DeviceState[] states;
+	private final DeviceState[] previousStates;
+	
+	InputSnapshot(Device[] devices, InputSnapshot previous) {
+		
+		this.frame = previous != null ? previous.frame + 1 : 1;
+		this.timestamp = System.nanoTime();
+		this.states = new DeviceState[devices.length];
+		this.previousStates = new DeviceState[devices.length];
+		
+		for(int index = 0; index < devices.length; index++) {
+			
+			this.states[index] = devices[index].getState();
+			DeviceState previousState = previous != null ? previous.getState(devices[index]) : null;
+			
+			// A DEVICE THAT IS NEW IN THIS SNAPSHOT HAS NOT CHANGED YET
+			this.previousStates[index] = previousState != null ? previousState : this.states[index];
+		}
+	}
+	
+	private final int indexOf(Device device) {
+		
+		for(int index = 0; index < this.states.length; index++) {
+			
+			if(this.states[index].getDevice() == device) {
+				
+				return index;
+			}
+		}
+		
+		return -1;
+	}
+	
+	private static final boolean isButtonDown(DeviceState state, int button) {
+		
+		return state != null && state.isButtonDown(button);
+	}
+	
+	/**
+	 * @return the number of this frame, starting with {@code 1}
+	 * @since 1.2.0
+	 */
+	public long getFrame() {
+		
+		return this.frame;
+	}
+	
+	/**
+	 * @return the value of {@link System#nanoTime()} when this snapshot was created
+	 * @since 1.2.0
+	 */
+	public long getTimestamp() {
+		
+		return this.timestamp;
+	}
+	
+	/**
+	 * @return the states of all devices
+	 * @since 1.2.0
+	 */
+	public List<DeviceState> getStates() {
+		
+		return Collections.unmodifiableList(Arrays.asList(this.states));
+	}
+	
+	/**
+	 * @param device the device
+	 * @return the state of the device or {@code null} if the device is not part of this snapshot
+	 * @since 1.2.0
+	 */
+	public DeviceState getState(Device device) {
+		
+		int index = this.indexOf(device);
+		return index != -1 ? this.states[index] : null;
+	}
+	
+	/**
+	 * @param device the device
+	 * @return the state of the device in the previous snapshot, the current state if the device was not part of it
+	 * or {@code null} if the device is not part of this snapshot
+	 * @since 1.2.0
+	 */
+	public DeviceState getPreviousState(Device device) {
+		
+		int index = this.indexOf(device);
+		return index != -1 ? this.previousStates[index] : null;
+	}
+	
+	/**
+	 * @param key the key code
+	 * @return {@code true} if the key is down on any keyboard, else {@code false}
+	 * @since 1.2.0
+	 */
+	public boolean isKeyDown(int key) {
+		
+		for(DeviceState state : this.states) {
+			
+			if(state.getDevice() instanceof Keyboard && state.isButtonDown(key)) {
+				
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * @param key the key code
+	 * @return {@code true} if the key went down on any keyboard since the previous snapshot, else {@code false}
+	 * @since 1.2.0
+	 */
+	public boolean isKeyPressed(int key) {
+		
+		for(int index = 0; index < this.states.length; index++) {
+			
+			if(this.states[index].getDevice() instanceof Keyboard && this.states[index].isButtonDown(key) && !InputSnapshot.isButtonDown(this.previousStates[index], key)) {
+				
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * @param key the key code
+	 * @return {@code true} if the key went up on any keyboard since the previous snapshot, else {@code false}
+	 * @since 1.2.0
+	 */
+	public boolean isKeyReleased(int key) {
+		
+		for(int index = 0; index < this.states.length; index++) {
+			
+			if(this.states[index].getDevice() instanceof Keyboard && !this.states[index].isButtonDown(key) && InputSnapshot.isButtonDown(this.previousStates[index], key)) {
+				
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * @param device the device
+	 * @param button the button or, for keyboards, the key code
+	 * @return {@code true} if the button is down, else {@code false}
+	 * @since 1.2.0
+	 */
+	public boolean isButtonDown(Device device, int button) {
+		
+		return InputSnapshot.isButtonDown(this.getState(device), button);
+	}
+	
+	/**
+	 * @param device the device
+	 * @param button the button or, for keyboards, the key code
+	 * @return {@code true} if the button went down since the previous snapshot, else {@code false}
+	 * @since 1.2.0
+	 */
+	public boolean isButtonPressed(Device device, int button) {
+		
+		int index = this.indexOf(device);
+		return index != -1 && this.states[index].isButtonDown(button) && !InputSnapshot.isButtonDown(this.previousStates[index], button);
+	}
+	
+	/**
+	 * @param device the device
+	 * @param button the button or, for keyboards, the key code
+	 * @return {@code true} if the button went up since the previous snapshot, else {@code false}
+	 * @since 1.2.0
+	 */
+	public boolean isButtonReleased(Device device, int button) {
+		
+		int index = this.indexOf(device);
+		return index != -1 && !this.states[index].isButtonDown(button) && InputSnapshot.isButtonDown(this.previousStates[index], button);
+	}
+	
+	/**
+	 * @param device the device
+	 * @param identifier the identifier of the component
+	 * @return the raw value of the component or {@code 0.0F} if the device or the component do not exist
+	 * @since 1.2.0
+	 * @see DeviceState#getValue(Identifier)
+	 */
+	public float getValue(Device device, Identifier identifier) {
+		
+		DeviceState state = this.getState(device);
+		return state != null ? state.getValue(identifier) : 0.0F;
+	}
+	
+	/**
+	 * @param device the device
+	 * @param identifier the identifier of a relative component
+	 * @return how much the component has changed since the previous snapshot
+	 * @since 1.2.0
+	 */
+	public float getDelta(Device device, Identifier identifier) {
+		
+		int index = this.indexOf(device);
+		
+		if(index == -1) {
+			
+			return 0.0F;
+		}
+		
+		return (float)(this.states[index].getTotal(identifier) - this.previousStates[index].getTotal(identifier));
+	}
+	
+	/**
+	 * @param mouse the mouse
+	 * @return how far the mouse moved on the X axis since the previous snapshot
+	 * @since 1.2.0
+	 */
+	public float getCursorDeltaX(Mouse mouse) {
+		
+		return this.getDelta(mouse, Axis.X);
+	}
+	
+	/**
+	 * @param mouse the mouse
+	 * @return how far the mouse moved on the Y axis since the previous snapshot
+	 * @since 1.2.0
+	 */
+	public float getCursorDeltaY(Mouse mouse) {
+		
+		return this.getDelta(mouse, Axis.Y);
+	}
+	
+	/**
+	 * @param mouse the mouse
+	 * @return how many units the mouse wheel was scrolled since the previous snapshot
+	 * @since 1.2.0
+	 */
+	public float getScrollDelta(Mouse mouse) {
+		
+		return this.getDelta(mouse, Axis.Z);
+	}
+	
+	/**
+	 * @param gamepad the gamepad
+	 * @return the direction of the POV or {@code null} if it is not pressed
+	 * @since 1.2.0
+	 */
+	public Direction getPOVDirection(Gamepad gamepad) {
+		
+		DeviceState state = this.getState(gamepad);
+		return state != null ? state.getPOVDirection() : null;
+	}
+}
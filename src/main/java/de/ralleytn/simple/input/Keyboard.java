@@ -23,113 +23,104 @@
  */
 package de.ralleytn.simple.input;
 
-import java.awt.event.KeyEvent;
 import java.awt.Robot;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
+import de.ralleytn.simple.input.internal.AtomicBitSet;
 import de.ralleytn.simple.input.internal.KeyboardKeyMapping;
+import de.ralleytn.simple.input.internal.ListenerList;
 import de.ralleytn.simple.input.internal.Util;
 import net.java.games.input.Component;
-import net.java.games.input.Component.Identifier;
 import net.java.games.input.Controller;
 import net.java.games.input.Event;
 
 /**
  * Represents a keyboard.
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 1.0.0
+ * @version 1.2.0
  * @since 1.0.0
  */
 public class Keyboard extends Device {
 	
-	private List<KeyboardListener> listeners;
-	private boolean[] downKeys;
+	private final ListenerList<KeyboardListener> listeners;
+	private final AtomicBitSet downKeys;
+	private final KeyboardEvent reusableEvent;
+	private final int[] keyCodes;
 
 	Keyboard(Controller controller) {
 		
 		super(controller);
 		
-		this.listeners = new ArrayList<>();
-		this.downKeys = new boolean[KeyboardKeyMapping.getDownKeyArraySize()];
+		this.listeners = new ListenerList<>(new KeyboardListener[0]);
+		this.downKeys = new AtomicBitSet(KeyboardKeyMapping.getDownKeyArraySize());
+		this.reusableEvent = new KeyboardEvent(this, KeyboardEvent.KEY_NONE, null);
+		this.keyCodes = Util.toCodeTable(controller.getComponents(), KeyboardKeyMapping.getMap());
 	}
 	
 	/**
 	 * Uses the {@linkplain Robot} class to type the given text.
 	 * Only works for simple letters with upper and lower case and a period.
+	 * Waits until the text was typed; use {@link OutputQueue#type(String)} to type it without blocking.
 	 * @param text a text
 	 * @since 1.0.0
 	 */
 	public static final void type(String text) {
 		
-		for(char character : text.toCharArray()) {
-			
-			boolean upperCase = Character.isUpperCase(character);
-			int keyCode = KeyEvent.getExtendedKeyCodeForChar(character);
-			
-			if(KeyEvent.CHAR_UNDEFINED != keyCode) {
-				
-				if(upperCase) {
-					
-					Keyboard.press(KeyboardEvent.KEY_SHIFT);
-					Keyboard.type(keyCode);
-					Keyboard.release(KeyboardEvent.KEY_SHIFT);
-					
-				} else {
-					
-					Keyboard.type(keyCode);
-				}
-			}
-		}
+		OutputQueue.await(OutputQueue.getDefault().type(text));
 	}
 	
 	/**
 	 * Uses the {@linkplain Robot} class to type the given key.
+	 * Waits until the key was typed; use {@link OutputQueue#type(int)} to type it without blocking.
 	 * @param key the key
 	 * @since 1.0.0
 	 */
 	public static final void type(int key) {
 
-		Keyboard.press(key);
-		Keyboard.release(key);
+		OutputQueue.await(OutputQueue.getDefault().type(key));
 	}
 	
 	/**
 	 * Uses the {@linkplain Robot} class to press and hold a key.
 	 * Don't forget to call {@link #release(int)}.
+	 * Waits until the key was pressed; use {@link OutputQueue#keyPress(int)} to press it without blocking.
 	 * @param key the key
 	 * @since 1.0.0
 	 */
 	public static final void press(int key) {
 
-		Util.ROBOT.keyPress(key);
+		OutputQueue.await(OutputQueue.getDefault().keyPress(key));
 	}
 	
 	/**
 	 * Releases a key that is held down by the {@link #press(int)} method.
+	 * Waits until the key was released; use {@link OutputQueue#keyRelease(int)} to release it without blocking.
 	 * @param key the key
 	 * @since 1.0.0
 	 */
 	public static final void release(int key) {
 		
-		Util.ROBOT.keyRelease(key);
+		OutputQueue.await(OutputQueue.getDefault().keyRelease(key));
 	}
 	
 	@Override
 	protected void remove() {
 		
-		this.listeners.forEach(listener -> listener.onRemove());
+		for(KeyboardListener listener : this.listeners.getSnapshot()) {
+			
+			listener.onRemove();
+		}
+		
 		this.stopListening();
 	}
 	
 	/**
-	 * @return an unmodifiable list of all {@linkplain KeyboardListener}s that are attached to this keyboard
+	 * @return an unmodifiable snapshot of all {@linkplain KeyboardListener}s that are attached to this keyboard
 	 * @since 1.0.0
 	 */
 	public List<KeyboardListener> getKeyboardListeners() {
 		
-		return Collections.unmodifiableList(this.listeners);
+		return this.listeners.toList();
 	}
 	
 	/**
@@ -179,30 +170,82 @@ public class Keyboard extends Device {
 	 */
 	public boolean isKeyDown(int key) {
 		
-		return this.downKeys[key];
+		return this.downKeys.get(key);
+	}
+	
+	/**
+	 * Creates a mask for {@link #areKeysDown(long[])}.
+	 * Masks should be created once and then reused.
+	 * @param keys the key codes
+	 * @return the mask
+	 * @throws IndexOutOfBoundsException if one of the key codes is invalid
+	 * @since 1.2.0
+	 */
+	public static final long[] createKeyMask(int... keys) {
+		
+		return AtomicBitSet.createMask(KeyboardKeyMapping.getDownKeyArraySize(), keys);
+	}
+	
+	/**
+	 * Checks if all keys of a chord (like CTRL + SHIFT + S) are down at the same time.
+	 * @param mask a mask created with {@link #createKeyMask(int...)}
+	 * @return {@code true} if all keys of the mask are down, else {@code false}
+	 * @since 1.2.0
+	 */
+	public boolean areKeysDown(long[] mask) {
+		
+		return this.downKeys.containsAll(mask);
+	}
+	
+	/**
+	 * @return a consistent copy of the states of all keys as a bit set; the bit index is the key code
+	 * @since 1.2.0
+	 */
+	public long[] getKeyStates() {
+		
+		return this.downKeys.toLongArray();
+	}
+
+	@Override
+	long[] captureButtons() {
+		
+		return this.downKeys.toLongArray();
 	}
 
 	@Override
 	protected void onEvent(Event event) {
 		
 		Component component = event.getComponent();
-		Identifier id = component.getIdentifier();
+		int keyCode = this.getCode(this.keyCodes, component);
 		
-		if(KeyboardKeyMapping.isValidKey(id)) {
+		if(keyCode != KeyboardEvent.KEY_NONE) {
 			
-			int keyCode = KeyboardKeyMapping.getMap().get(id);
 			float value = event.getValue();
-			KeyboardEvent keyboardEvent = new KeyboardEvent(this, keyCode, component.getName());
+			KeyboardListener[] listeners = this.listeners.getSnapshot();
+			KeyboardEvent keyboardEvent = null;
+			
+			if(listeners.length > 0) {
+				
+				keyboardEvent = this.stamp(this.reusingEvents ? this.reusableEvent.set(keyCode, component.getName()) : new KeyboardEvent(this, keyCode, component.getName()));
+			}
 			
 			if(value == 1.0F) {
 				
-				this.listeners.forEach(listener -> listener.onKeyPress(keyboardEvent));
-				this.downKeys[keyCode] = true;
+				for(KeyboardListener listener : listeners) {
+					
+					listener.onKeyPress(keyboardEvent);
+				}
+				
+				this.downKeys.set(keyCode, true);
 				
 			} else {
 				
-				this.listeners.forEach(listener -> listener.onKeyRelease(keyboardEvent));
-				this.downKeys[keyCode] = false;
+				for(KeyboardListener listener : listeners) {
+					
+					listener.onKeyRelease(keyboardEvent);
+				}
+				
+				this.downKeys.set(keyCode, false);
 			}
 		}
 	}
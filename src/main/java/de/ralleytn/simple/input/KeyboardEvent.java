@@ -26,7 +26,7 @@ package de.ralleytn.simple.input;
 /**
  * Represents an event that was triggered by a keyboard.
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 1.0.0
+ * @version 1.2.0
  * @since 1.0.0
  */
 public class KeyboardEvent extends DeviceEvent {
@@ -138,8 +138,8 @@ public class KeyboardEvent extends DeviceEvent {
 	 */
 	public static final int KEY_NONE = -1;
 	
-	private final int keyCode;
-	private final String keyName;
+	private int keyCode;
+	private String keyName;
 	
 	/**
 	 * @param device the device that fired this event
@@ -155,6 +155,13 @@ public class KeyboardEvent extends DeviceEvent {
 		this.keyName = keyName;
 	}
 	
+	final KeyboardEvent set(int keyCode, String keyName) {
+		
+		this.keyCode = keyCode;
+		this.keyName = keyName;
+		return this;
+	}
+	
 	/**
 	 * @return the code of the key associated with this event
 	 * @since 1.0.0
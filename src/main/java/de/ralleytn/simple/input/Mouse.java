@@ -24,12 +24,11 @@
 package de.ralleytn.simple.input;
 
 import java.awt.MouseInfo;
-import java.awt.event.InputEvent;
 import java.awt.Robot;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
+import de.ralleytn.simple.input.internal.AtomicBitSet;
+import de.ralleytn.simple.input.internal.ListenerList;
 import de.ralleytn.simple.input.internal.MouseButtonMapping;
 import de.ralleytn.simple.input.internal.Util;
 import net.java.games.input.Component;
@@ -41,21 +40,28 @@ import net.java.games.input.Event;
 /**
  * Represents a mouse.
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 1.0.0
+ * @version 1.2.0
  * @since 1.0.0
  */
 public class Mouse extends Device {
 
-	private List<MouseListener> listeners;
-	private boolean[] buttonsDown;
+	private final ListenerList<MouseListener> listeners;
+	private final AtomicBitSet buttonsDown;
 	private int buttonCount;
+	private final MouseEvent reusableEvent;
+	private final int[] buttonCodes;
+	private float pendingDeltaX;
+	private float pendingDeltaY;
+	private boolean motionPending;
 	
 	Mouse(Controller controller) {
 		
 		super(controller);
 		
-		this.listeners = new ArrayList<>();
-		this.buttonsDown = new boolean[MouseButtonMapping.getDownButtonArraySize()];
+		this.listeners = new ListenerList<>(new MouseListener[0]);
+		this.reusableEvent = new MouseEvent(this);
+		this.buttonsDown = new AtomicBitSet(MouseButtonMapping.getDownButtonArraySize());
+		this.buttonCodes = Util.toCodeTable(controller.getComponents(), MouseButtonMapping.getMap());
 		
 		for(Component component : controller.getComponents()) {
 			
@@ -68,31 +74,35 @@ public class Mouse extends Device {
 	
 	/**
 	 * Clicks the given mouse button using the {@linkplain Robot} class.
+	 * Waits until the button was clicked; use {@link OutputQueue#click(int)} to click it without blocking.
 	 * @param button the mouse button
 	 * @since 1.0.0
 	 */
 	public static final void click(int button) {
 		
-		int mask = InputEvent.getMaskForButton(button);
-		Util.ROBOT.mousePress(mask);
-		Util.ROBOT.mouseRelease(mask);
+		OutputQueue.await(OutputQueue.getDefault().click(button));
 	}
 	
 	/**
 	 * Sets the mouse cursor position.
+	 * Waits until the cursor was moved; use {@link OutputQueue#mouseMove(int, int)} to move it without blocking.
 	 * @param x X coordinate in pixel
 	 * @param y Y coordinate in pixel
 	 * @since 1.0.0
 	 */
 	public static void setCursorPosition(int x, int y) {
 		
-		Util.ROBOT.mouseMove(x, y);
+		OutputQueue.await(OutputQueue.getDefault().mouseMove(x, y));
 	}
 	
 	@Override
 	protected void remove() {
 		
-		this.listeners.forEach(listener -> listener.onRemove());
+		for(MouseListener listener : this.listeners.getSnapshot()) {
+			
+			listener.onRemove();
+		}
+		
 		this.stopListening();
 	}
 	
@@ -136,57 +146,147 @@ public class Mouse extends Device {
 		return this.listeners.get(index);
 	}
 
+	@Override
+	long[] captureButtons() {
+		
+		return this.buttonsDown.toLongArray();
+	}
+
 	@Override
 	protected void onEvent(Event event) {
 		
 		Component component = event.getComponent();
 		Identifier id = component.getIdentifier();
 		float value = event.getValue();
+		int button = this.getCode(this.buttonCodes, component);
 		
-		if(MouseButtonMapping.isValidButton(id)) {
+		if(button != MouseEvent.BUTTON_NONE) {
 
-			int button = MouseButtonMapping.getMap().get(id);
-			this.buttonsDown[button] = (value == 1.0F);
-			this.processButtonEvent(id, this.buttonsDown[button]);
+			this.flushMotion();
+			this.buttonsDown.set(button, value == 1.0F);
+			this.processButtonEvent(button, value == 1.0F);
 			
 		} else if(Axis.X.equals(id)) {
 			
-			float deltaX = event.getValue();
-			this.processMovementEvent(deltaX);
+			this.processMovementEvent(value, 0.0F);
 			
 		} else if(Axis.Y.equals(id)) {
 			
-			float deltaY = event.getValue();
-			this.processMovementEvent(deltaY);
+			this.processMovementEvent(0.0F, value);
 			
 		} else if(Axis.Z.equals(id)) {
 			
-			this.listeners.forEach(listener -> listener.onScroll(new MouseEvent(this, 0, 0, event.getValue(), -1)));
+			this.flushMotion();
+			MouseListener[] listeners = this.listeners.getSnapshot();
+			
+			if(listeners.length > 0) {
+				
+				MouseEvent mouseEvent = this.createEvent(0, 0, value, MouseEvent.BUTTON_NONE);
+				
+				for(MouseListener listener : listeners) {
+					
+					listener.onScroll(mouseEvent);
+				}
+			}
 		}
 	}
 	
-	private final void processButtonEvent(Identifier id, boolean buttonDown) {
+	private final MouseEvent createEvent(float deltaX, float deltaY, float unitsToScroll, int button) {
+		
+		return this.stamp(this.reusingEvents ? this.reusableEvent.set(deltaX, deltaY, unitsToScroll, button) : new MouseEvent(this, deltaX, deltaY, unitsToScroll, button));
+	}
+	
+	private final void processButtonEvent(int button, boolean buttonDown) {
 		
-		int button = MouseButtonMapping.getMap().get(id);
+		MouseListener[] listeners = this.listeners.getSnapshot();
+		
+		if(listeners.length == 0) {
+			
+			return;
+		}
+		
+		MouseEvent mouseEvent = this.createEvent(0, 0, 0, button);
 		
 		if(buttonDown) {
 			
-			this.listeners.forEach(listener -> listener.onClick(new MouseEvent(this, 0, 0, 0, button)));
+			for(MouseListener listener : listeners) {
+				
+				listener.onClick(mouseEvent);
+			}
 			
 		} else {
 			
-			this.listeners.forEach(listener -> listener.onRelease(new MouseEvent(this, 0, 0, 0, button)));
+			for(MouseListener listener : listeners) {
+				
+				listener.onRelease(mouseEvent);
+			}
 		}
 	}
 	
-	private final void processMovementEvent(float delta) {
+	@Override
+	protected void update() {
+		
+		this.flushMotion();
+	}
+	
+	private final void processMovementEvent(float deltaX, float deltaY) {
 		
-			   if(this.buttonsDown[MouseEvent.BUTTON_LEFT])   {this.listeners.forEach(listener -> listener.onDrag(new MouseEvent(this, 0, delta, 0, MouseButtonMapping.getMap().get(Identifier.Button.LEFT))));
-		} else if(this.buttonsDown[MouseEvent.BUTTON_RIGHT])  {this.listeners.forEach(listener -> listener.onDrag(new MouseEvent(this, 0, delta, 0, MouseButtonMapping.getMap().get(Identifier.Button.RIGHT))));
-		} else if(this.buttonsDown[MouseEvent.BUTTON_MIDDLE]) {this.listeners.forEach(listener -> listener.onDrag(new MouseEvent(this, 0, delta, 0, MouseButtonMapping.getMap().get(Identifier.Button.MIDDLE))));
+		if(this.coalescingMotion) {
+			
+			this.pendingDeltaX += deltaX;
+			this.pendingDeltaY += deltaY;
+			this.motionPending = true;
+			
+		} else {
+			
+			this.fireMovementEvent(deltaX, deltaY);
+		}
+	}
+	
+	private final void flushMotion() {
+		
+		if(this.motionPending) {
+			
+			float deltaX = this.pendingDeltaX;
+			float deltaY = this.pendingDeltaY;
+			this.pendingDeltaX = 0.0F;
+			this.pendingDeltaY = 0.0F;
+			this.motionPending = false;
+			this.fireMovementEvent(deltaX, deltaY);
+		}
+	}
+	
+	private final void fireMovementEvent(float deltaX, float deltaY) {
+		
+		MouseListener[] listeners = this.listeners.getSnapshot();
+		
+		if(listeners.length == 0) {
+			
+			return;
+		}
+		
+		int button = MouseEvent.BUTTON_NONE;
+		
+		       if(this.buttonsDown.get(MouseEvent.BUTTON_LEFT))   {button = MouseEvent.BUTTON_LEFT;
+		} else if(this.buttonsDown.get(MouseEvent.BUTTON_RIGHT))  {button = MouseEvent.BUTTON_RIGHT;
+		} else if(this.buttonsDown.get(MouseEvent.BUTTON_MIDDLE)) {button = MouseEvent.BUTTON_MIDDLE;
+		}
+		
+		MouseEvent mouseEvent = this.createEvent(deltaX, deltaY, 0, button);
+		
+		if(button != MouseEvent.BUTTON_NONE) {
+			
+			for(MouseListener listener : listeners) {
+				
+				listener.onDrag(mouseEvent);
+			}
+			
 		} else {
 			
-			this.listeners.forEach(listener -> listener.onMove(new MouseEvent(this, 0, delta, 0, -1)));
+			for(MouseListener listener : listeners) {
+				
+				listener.onMove(mouseEvent);
+			}
 		}
 	}
 	
@@ -224,15 +324,15 @@ public class Mouse extends Device {
 	 */
 	public boolean isButtonDown(int button) {
 		
-		return this.buttonsDown[button];
+		return this.buttonsDown.get(button);
 	}
 	
 	/**
-	 * @return an unmodifiable list of all {@linkplain MouseListener}s that are attached to this mouse.
+	 * @return an unmodifiable snapshot of all {@linkplain MouseListener}s that are attached to this mouse.
 	 * @since 1.0.0
 	 */
 	public List<MouseListener> getMouseListeners() {
 		
-		return Collections.unmodifiableList(this.listeners);
+		return this.listeners.toList();
 	}
 }
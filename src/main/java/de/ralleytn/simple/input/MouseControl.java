@@ -23,16 +23,10 @@
  */
 package de.ralleytn.simple.input;
 
-import java.awt.MouseInfo;
-import java.awt.Point;
-import java.awt.event.InputEvent;
-
-import de.ralleytn.simple.input.internal.Util;
-
 /**
  * Responsible for controlling the mouse with a gamepad.
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 1.1.0
+ * @version 1.2.0
  * @since 1.0.0
  */
 public class MouseControl {
@@ -126,9 +120,9 @@ public class MouseControl {
 		
 		if(this.enabled) {
 			
-			       if(button == this.lmbMapping) {Util.ROBOT.mouseRelease(InputEvent.getMaskForButton(java.awt.event.MouseEvent.BUTTON1));
-			} else if(button == this.rmbMapping) {Util.ROBOT.mouseRelease(InputEvent.getMaskForButton(java.awt.event.MouseEvent.BUTTON3));
-			} else if(button == this.mmbMapping) {Util.ROBOT.mouseRelease(InputEvent.getMaskForButton(java.awt.event.MouseEvent.BUTTON2));
+			       if(button == this.lmbMapping) {OutputQueue.getDefault().mouseRelease(java.awt.event.MouseEvent.BUTTON1);
+			} else if(button == this.rmbMapping) {OutputQueue.getDefault().mouseRelease(java.awt.event.MouseEvent.BUTTON3);
+			} else if(button == this.mmbMapping) {OutputQueue.getDefault().mouseRelease(java.awt.event.MouseEvent.BUTTON2);
 			}
 		}
 	}
@@ -137,9 +131,9 @@ public class MouseControl {
 		
 		if(this.enabled) {
 			
-			       if(button == this.lmbMapping) {Util.ROBOT.mousePress(InputEvent.getMaskForButton(java.awt.event.MouseEvent.BUTTON1));
-			} else if(button == this.rmbMapping) {Util.ROBOT.mousePress(InputEvent.getMaskForButton(java.awt.event.MouseEvent.BUTTON3));
-			} else if(button == this.mmbMapping) {Util.ROBOT.mousePress(InputEvent.getMaskForButton(java.awt.event.MouseEvent.BUTTON2));
+			       if(button == this.lmbMapping) {OutputQueue.getDefault().mousePress(java.awt.event.MouseEvent.BUTTON1);
+			} else if(button == this.rmbMapping) {OutputQueue.getDefault().mousePress(java.awt.event.MouseEvent.BUTTON3);
+			} else if(button == this.mmbMapping) {OutputQueue.getDefault().mousePress(java.awt.event.MouseEvent.BUTTON2);
 			}
 		}
 	}
@@ -162,10 +156,14 @@ public class MouseControl {
 				y = rightY;
 			}
 			
-			Point cursorPosition = MouseInfo.getPointerInfo().getLocation();
-			int xPos = (int)(cursorPosition.x + (x * this.sensity));
-			int yPos = (int)(cursorPosition.y + (y * this.sensity));
-			Util.ROBOT.mouseMove(xPos, yPos);
+			float deltaX = x * this.sensity;
+			float deltaY = y * this.sensity;
+			
+			// THE CURSOR POSITION IS READ BY THE OUTPUT QUEUE SO THAT THE POLLING THREAD IS NEVER BLOCKED
+			if(deltaX != 0.0F || deltaY != 0.0F) {
+				
+				OutputQueue.getDefault().mouseMoveBy(deltaX, deltaY);
+			}
 		}
 	}
 	
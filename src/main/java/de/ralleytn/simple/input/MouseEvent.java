@@ -29,7 +29,7 @@ import java.awt.Point;
 /**
  * Represents an event that can be fired by mice.
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 1.0.0
+ * @version 1.2.0
  * @since 1.0.0
  */
 public class MouseEvent extends DeviceEvent {
@@ -58,25 +58,55 @@ public class MouseEvent extends DeviceEvent {
 	 */
 	public static final int BUTTON_NONE = -1;
 	
-	private final float deltaX;
-	private final float deltaY;
-	private final float unitsToScroll;
-	private final int button;
-	private final int x;
-	private final int y;
+	private float deltaX;
+	private float deltaY;
+	private float unitsToScroll;
+	private int button;
+	private int x;
+	private int y;
+	private boolean locationPending;
 	
 	public MouseEvent(Device device, float deltaX, float deltaY, float unitsToScroll, int button) {
 		
 		super(device);
 		
-		Point location = MouseInfo.getPointerInfo().getLocation();
+		this.deltaX = deltaX;
+		this.deltaY = deltaY;
+		this.unitsToScroll = unitsToScroll;
+		this.button = button;
+		this.resolveLocation();
+	}
+	
+	/**
+	 * Constructor for reused events.
+	 * The cursor position is looked up lazily because reused events are only valid during the listener call anyway.
+	 * @param device the device that fires this event
+	 * @since 1.2.0
+	 */
+	MouseEvent(Device device) {
+		
+		super(device);
+		
+		this.button = BUTTON_NONE;
+		this.locationPending = true;
+	}
+	
+	final MouseEvent set(float deltaX, float deltaY, float unitsToScroll, int button) {
 		
 		this.deltaX = deltaX;
 		this.deltaY = deltaY;
 		this.unitsToScroll = unitsToScroll;
 		this.button = button;
+		this.locationPending = true;
+		return this;
+	}
+	
+	private final void resolveLocation() {
+		
+		Point location = MouseInfo.getPointerInfo().getLocation();
 		this.x = location.x;
 		this.y = location.y;
+		this.locationPending = false;
 	}
 	
 	/**
@@ -85,6 +115,11 @@ public class MouseEvent extends DeviceEvent {
 	 */
 	public final int getX() {
 		
+		if(this.locationPending) {
+			
+			this.resolveLocation();
+		}
+		
 		return this.x;
 	}
 	
@@ -94,6 +129,11 @@ public class MouseEvent extends DeviceEvent {
 	 */
 	public final int getY() {
 		
+		if(this.locationPending) {
+			
+			this.resolveLocation();
+		}
+		
 		return this.y;
 	}
 	
@@ -0,0 +1,549 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+import java.awt.MouseInfo;
+import java.awt.Point;
+import java.awt.Robot;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import de.ralleytn.simple.input.internal.Util;
+
+/**
+ * Executes synthetic keyboard and mouse actions with a {@linkplain Robot} on a dedicated daemon thread.
+ * <p>{@linkplain Robot} calls take tens of microseconds up to milliseconds each. Queueing them keeps the thread that
+ * requests them (for example a polling thread that moves the cursor with a gamepad) from being blocked.
+ * Every action returns a {@linkplain CompletableFuture} that is completed once the action was executed.</p>
+ * <p>The worker executes up to {@linkplain #setBatchSize(int) batch size} actions back to back and then waits until the
+ * {@linkplain #setRate(int) rate} allows the next batch. Mouse movements that are still waiting in the queue are merged with
+ * a following movement of the same kind, so a slow {@linkplain Robot} never builds up a backlog of outdated cursor positions.</p>
+ * <p>The static methods of {@linkplain Keyboard} and {@linkplain Mouse} use the {@linkplain #getDefault() default queue} and wait for it,
+ * so all {@linkplain Robot} calls of this library are executed in order on the same thread.</p>
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class OutputQueue {
+
+	private static OutputQueue DEFAULT;
+	
+	private final Robot robot;
+	private final ArrayDeque<Action> actions;
+	private final Thread thread;
+	private volatile long actionInterval;
+	private volatile int batchSize;
+	private volatile boolean running;
+	private volatile long executedCount;
+	
+	/**
+	 * Creates a queue and starts its worker thread.
+	 * The rate is unlimited and the batch size is {@code 16}.
+	 * @param robot the {@linkplain Robot} that executes the actions
+	 * @since 1.2.0
+	 */
+	public OutputQueue(Robot robot) {
+		
+		this.robot = robot;
+		this.actions = new ArrayDeque<>();
+		this.batchSize = 16;
+		this.running = true;
+		this.thread = new Thread(this::run, "SimpleInput-Output");
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+	
+	/**
+	 * @return the queue that is shared by the whole library; it is created with the first call
+	 * @since 1.2.0
+	 */
+	public static synchronized final OutputQueue getDefault() {
+		
+		if(DEFAULT == null || !DEFAULT.running) {
+			
+			DEFAULT = new OutputQueue(Util.ROBOT);
+		}
+		
+		return DEFAULT;
+	}
+	
+	private final CompletableFuture<Void> enqueue(Action action) {
+		
+		if(Thread.currentThread() == this.thread) {
+			
+			// AN ACTION THAT QUEUES ANOTHER ACTION WOULD OTHERWISE WAIT FOR ITSELF
+			this.execute(action);
+			return action.future;
+		}
+		
+		synchronized(this.actions) {
+			
+			if(!this.running) {
+				
+				action.future.cancel(false);
+				return action.future;
+			}
+			
+			Action last = this.actions.peekLast();
+			
+			if(last != null && last.merge(action)) {
+				
+				return last.future;
+			}
+			
+			this.actions.addLast(action);
+		}
+		
+		LockSupport.unpark(this.thread);
+		return action.future;
+	}
+	
+	/**
+	 * Queues a custom action.
+	 * @param action the action; it receives the {@linkplain Robot} of this queue
+	 * @return a future that is completed after the action was executed
+	 * @since 1.2.0
+	 */
+	public CompletableFuture<Void> submit(Consumer<Robot> action) {
+		
+		return this.enqueue(new Action(action));
+	}
+	
+	/**
+	 * Queues a key press.
+	 * @param key the key
+	 * @return a future that is completed after the key was pressed
+	 * @since 1.2.0
+	 */
+	public CompletableFuture<Void> keyPress(int key) {
+		
+		return this.submit(robot -> robot.keyPress(key));
+	}
+	
+	/**
+	 * Queues a key release.
+	 * @param key the key
+	 * @return a future that is completed after the key was released
+	 * @since 1.2.0
+	 */
+	public CompletableFuture<Void> keyRelease(int key) {
+		
+		return this.submit(robot -> robot.keyRelease(key));
+	}
+	
+	/**
+	 * Queues a key press that is directly followed by its release.
+	 * @param key the key
+	 * @return a future that is completed after the key was typed
+	 * @since 1.2.0
+	 */
+	public CompletableFuture<Void> type(int key) {
+		
+		return this.submit(robot -> {
+			
+			robot.keyPress(key);
+			robot.keyRelease(key);
+		});
+	}
+	
+	/**
+	 * Queues the characters of the given text.
+	 * Only works for simple letters with upper and lower case and a period.
+	 * @param text a text
+	 * @return a future that is completed after the whole text was typed; it fails if any of the characters failed
+	 * @since 1.2.0
+	 */
+	public CompletableFuture<Void> type(String text) {
+		
+		CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
+		
+		for(char character : text.toCharArray()) {
+			
+			int keyCode = KeyEvent.getExtendedKeyCodeForChar(character);
+			
+			if(KeyEvent.CHAR_UNDEFINED != keyCode) {
+				
+				// THE RESULT FAILS WITH THE FIRST CHARACTER THAT FAILED
+				if(Character.isUpperCase(character)) {
+					
+					future = CompletableFuture.allOf(future, this.submit(robot -> {
+						
+						robot.keyPress(KeyboardEvent.KEY_SHIFT);
+						robot.keyPress(keyCode);
+						robot.keyRelease(keyCode);
+						robot.keyRelease(KeyboardEvent.KEY_SHIFT);
+					}));
+					
+				} else {
+					
+					future = CompletableFuture.allOf(future, this.type(keyCode));
+				}
+			}
+		}
+		
+		return future;
+	}
+	
+	/**
+	 * Queues a mouse button press.
+	 * @param button the mouse button ({@link java.awt.event.MouseEvent#BUTTON1} to {@link java.awt.event.MouseEvent#BUTTON3})
+	 * @return a future that is completed after the button was pressed
+	 * @since 1.2.0
+	 */
+	public CompletableFuture<Void> mousePress(int button) {
+		
+		int mask = InputEvent.getMaskForButton(button);
+		return this.submit(robot -> robot.mousePress(mask));
+	}
+	
+	/**
+	 * Queues a mouse button release.
+	 * @param button the mouse button ({@link java.awt.event.MouseEvent#BUTTON1} to {@link java.awt.event.MouseEvent#BUTTON3})
+	 * @return a future that is completed after the button was released
+	 * @since 1.2.0
+	 */
+	public CompletableFuture<Void> mouseRelease(int button) {
+		
+		int mask = InputEvent.getMaskForButton(button);
+		return this.submit(robot -> robot.mouseRelease(mask));
+	}
+	
+	/**
+	 * Queues a mouse button press that is directly followed by its release.
+	 * @param button the mouse button ({@link java.awt.event.MouseEvent#BUTTON1} to {@link java.awt.event.MouseEvent#BUTTON3})
+	 * @return a future that is completed after the button was clicked
+	 * @since 1.2.0
+	 */
+	public CompletableFuture<Void> click(int button) {
+		
+		int mask = InputEvent.getMaskForButton(button);
+		return this.submit(robot -> {
+			
+			robot.mousePress(mask);
+			robot.mouseRelease(mask);
+		});
+	}
+	
+	/**
+	 * Queues a movement of the cursor to the given position.
+	 * Replaces the position of an absolute movement that is still waiting at the end of the queue.
+	 * @param x X coordinate in pixel
+	 * @param y Y coordinate in pixel
+	 * @return a future that is completed after the cursor was moved
+	 * @since 1.2.0
+	 */
+	public CompletableFuture<Void> mouseMove(int x, int y) {
+		
+		return this.enqueue(new MoveAction(false, x, y));
+	}
+	
+	/**
+	 * Queues a movement of the cursor relative to its position at the time the movement is executed.
+	 * Is added to a relative movement that is still waiting at the end of the queue.
+	 * @param deltaX horizontal distance in pixel
+	 * @param deltaY vertical distance in pixel
+	 * @return a future that is completed after the cursor was moved
+	 * @since 1.2.0
+	 */
+	public CompletableFuture<Void> mouseMoveBy(float deltaX, float deltaY) {
+		
+		return this.enqueue(new MoveAction(true, deltaX, deltaY));
+	}
+	
+	/**
+	 * Limits how many actions are executed per second.
+	 * Default is {@code 0} (unlimited).
+	 * @param actionsPerSecond the maximum number of actions per second or {@code 0} for no limit
+	 * @throws IllegalArgumentException if the rate is negative
+	 * @since 1.2.0
+	 */
+	public void setRate(int actionsPerSecond) {
+		
+		if(actionsPerSecond < 0) {
+			
+			throw new IllegalArgumentException("The rate must not be negative");
+		}
+		
+		this.actionInterval = actionsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / actionsPerSecond : 0L;
+	}
+	
+	/**
+	 * @return the maximum number of actions per second or {@code 0} if the rate is unlimited
+	 * @since 1.2.0
+	 */
+	public int getRate() {
+		
+		long interval = this.actionInterval;
+		return interval > 0L ? (int)(TimeUnit.SECONDS.toNanos(1) / interval) : 0;
+	}
+	
+	/**
+	 * Sets how many actions are executed back to back before the worker waits for the rate limit.
+	 * Default is {@code 16}.
+	 * @param batchSize the batch size
+	 * @throws IllegalArgumentException if the batch size is smaller than {@code 1}
+	 * @since 1.2.0
+	 */
+	public void setBatchSize(int batchSize) {
+		
+		if(batchSize < 1) {
+			
+			throw new IllegalArgumentException("The batch size must be at least 1");
+		}
+		
+		this.batchSize = batchSize;
+	}
+	
+	/**
+	 * @return how many actions are executed back to back
+	 * @since 1.2.0
+	 */
+	public int getBatchSize() {
+		
+		return this.batchSize;
+	}
+	
+	/**
+	 * @return the number of actions that are waiting to be executed
+	 * @since 1.2.0
+	 */
+	public int getQueueDepth() {
+		
+		synchronized(this.actions) {
+			
+			return this.actions.size();
+		}
+	}
+	
+	/**
+	 * @return the number of actions that were executed (merged mouse movements count once)
+	 * @since 1.2.0
+	 */
+	public long getExecutedActionCount() {
+		
+		return this.executedCount;
+	}
+	
+	/**
+	 * @return {@code true} until {@link #shutdown()} was called
+	 * @since 1.2.0
+	 */
+	public boolean isRunning() {
+		
+		return this.running;
+	}
+	
+	/**
+	 * Stops the worker thread after the current action.
+	 * The futures of all actions that are still waiting are cancelled, and so are the ones of actions queued afterwards.
+	 * @since 1.2.0
+	 */
+	public void shutdown() {
+		
+		synchronized(this.actions) {
+			
+			this.running = false;
+			
+			for(Action action : this.actions) {
+				
+				action.future.cancel(false);
+			}
+			
+			this.actions.clear();
+		}
+		
+		LockSupport.unpark(this.thread);
+	}
+	
+	private final Action take() {
+		
+		synchronized(this.actions) {
+			
+			return this.actions.pollFirst();
+		}
+	}
+	
+	private final void execute(Action action) {
+		
+		try {
+			
+			action.run(this.robot);
+			this.executedCount++;
+			action.future.complete(null);
+			
+		} catch(Throwable exception) {
+			
+			// AN ERROR MUST NOT KILL THE WORKER OR EVERY WAITING CALLER WOULD HANG
+			this.executedCount++;
+			action.future.completeExceptionally(exception);
+		}
+	}
+	
+	/**
+	 * Waits for an action like the blocking methods of version 1.0.0 did and rethrows the exception of a failed action unwrapped.
+	 * @param future the future of the action
+	 * @since 1.2.0
+	 */
+	static final void await(CompletableFuture<Void> future) {
+		
+		try {
+			
+			future.join();
+			
+		} catch(CompletionException exception) {
+			
+			Throwable cause = exception.getCause();
+			
+			if(cause instanceof RuntimeException) {
+				
+				throw (RuntimeException)cause;
+				
+			} else if(cause instanceof Error) {
+				
+				throw (Error)cause;
+			}
+			
+			throw exception;
+		}
+	}
+	
+	private final void run() {
+		
+		try {
+			
+			this.runBatches();
+			
+		} finally {
+			
+			// CANCELS EVERYTHING THAT IS LEFT IF THE WORKER DIES UNEXPECTEDLY
+			this.shutdown();
+		}
+	}
+	
+	private final void runBatches() {
+		
+		while(this.running) {
+			
+			long batchStart = System.nanoTime();
+			int batchSize = this.batchSize;
+			int executed = 0;
+			Action action;
+			
+			while(executed < batchSize && (action = this.take()) != null) {
+				
+				this.execute(action);
+				executed++;
+			}
+			
+			if(executed == 0) {
+				
+				// AN ACTION THAT IS QUEUED IN THE MEANTIME HAS ALREADY UNPARKED THE THREAD
+				LockSupport.park(this);
+				continue;
+			}
+			
+			long deadline = batchStart + executed * this.actionInterval;
+			long waitTime;
+			
+			while(this.running && (waitTime = deadline - System.nanoTime()) > 0L) {
+				
+				LockSupport.parkNanos(this, waitTime);
+			}
+		}
+	}
+	
+	private static class Action {
+		
+		final Consumer<Robot> task;
+		final CompletableFuture<Void> future;
+		
+		Action(Consumer<Robot> task) {
+			
+			this.task = task;
+			this.future = new CompletableFuture<>();
+		}
+		
+		boolean merge(Action action) {
+			
+			return false;
+		}
+		
+		void run(Robot robot) {
+			
+			this.task.accept(robot);
+		}
+	}
+	
+	private static final class MoveAction extends Action {
+		
+		private final boolean relative;
+		private float x;
+		private float y;
+		
+		MoveAction(boolean relative, float x, float y) {
+			
+			super(null);
+			
+			this.relative = relative;
+			this.x = x;
+			this.y = y;
+		}
+		
+		@Override
+		boolean merge(Action action) {
+			
+			// ONLY CALLED WHILE THE QUEUE IS LOCKED AND THIS ACTION IS STILL IN IT
+			if(action instanceof MoveAction && ((MoveAction)action).relative == this.relative) {
+				
+				MoveAction move = (MoveAction)action;
+				this.x = this.relative ? this.x + move.x : move.x;
+				this.y = this.relative ? this.y + move.y : move.y;
+				return true;
+			}
+			
+			return false;
+		}
+		
+		@Override
+		void run(Robot robot) {
+			
+			// TAKING THE ACTION FROM THE LOCKED QUEUE MADE THE MERGED VALUES VISIBLE
+			if(this.relative) {
+				
+				Point position = MouseInfo.getPointerInfo().getLocation();
+				robot.mouseMove((int)(position.x + this.x), (int)(position.y + this.y));
+				
+			} else {
+				
+				robot.mouseMove((int)this.x, (int)this.y);
+			}
+		}
+	}
+}
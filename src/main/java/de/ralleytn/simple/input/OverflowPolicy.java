@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+/**
+ * Decides what the {@linkplain AsyncDispatcher} does with an event if its ring buffer is full.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public enum OverflowPolicy {
+
+	/**
+	 * The polling thread waits until the listeners made room for the event.
+	 * No event gets lost, but slow listeners slow down the polling.
+	 * The events of a poll that do not fit are kept aside and the polling thread waits at the end of the poll,
+	 * after it released the lock of the device, so listeners can still query the device.
+	 * @since 1.2.0
+	 */
+	BLOCK,
+	
+	/**
+	 * The oldest event that was not dispatched yet is dropped to make room for the new one.
+	 * @since 1.2.0
+	 */
+	DROP_OLDEST,
+	
+	/**
+	 * Events that do not fit are merged per component until there is room again.
+	 * Values of relative components (like mouse axes) are added up, for all other components only the latest value is kept.
+	 * This means that short key presses can get lost, but the final state is always correct.
+	 * @since 1.2.0
+	 */
+	COALESCE;
+}
@@ -0,0 +1,465 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Multiplexes the polling of all listening devices onto a small number of threads.
+ * Every device has its own poll deadline which is derived from its {@linkplain Device#getPollInterval() poll interval}.
+ * Waiting for the next deadline is done by parking the thread, optionally followed by a short busy spin for sub-millisecond precision.
+ * A worker thread is only alive as long as at least one device is assigned to it.
+ * The threads are created by a {@linkplain ThreadFactory} which can be passed to {@link DeviceManager#create(int, ThreadFactory)}.
+ * With {@link #EXTERNAL_TICK} no threads are created at all and the devices are polled by {@link DeviceManager#tick(long)} instead.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class PollingScheduler {
+
+	/**
+	 * The default number of polling threads.
+	 * @since 1.2.0
+	 */
+	public static final int DEFAULT_THREAD_COUNT = 1;
+	
+	/**
+	 * Thread count that gives every listening device its own polling thread.
+	 * Meant to be used together with {@link #virtualThreadFactory()}.
+	 * @since 1.2.0
+	 */
+	public static final int THREAD_PER_DEVICE = 0;
+	
+	/**
+	 * Thread count that creates no polling threads at all.
+	 * The listening devices are polled on the thread that calls {@link DeviceManager#tick(long)}, usually the game loop.
+	 * @since 1.2.0
+	 */
+	public static final int EXTERNAL_TICK = -1;
+	
+	private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+	private static final Device[] EMPTY_DEVICES = new Device[0];
+	
+	private final List<Worker> workers;
+	private final ThreadFactory threadFactory;
+	private final boolean threadPerDevice;
+	private final boolean externalTick;
+	private volatile Device[] tickedDevices;
+	private volatile long spinThreshold;
+	
+	PollingScheduler(int threadCount, ThreadFactory threadFactory) {
+		
+		if(threadCount < EXTERNAL_TICK) {
+			
+			throw new IllegalArgumentException("The thread count must not be smaller than " + EXTERNAL_TICK);
+		}
+		
+		this.threadFactory = threadFactory != null ? threadFactory : PollingScheduler::createDefaultThread;
+		this.threadPerDevice = threadCount == THREAD_PER_DEVICE;
+		this.externalTick = threadCount == EXTERNAL_TICK;
+		this.tickedDevices = EMPTY_DEVICES;
+		this.workers = new ArrayList<>();
+		
+		for(int index = 0; index < threadCount; index++) {
+			
+			this.workers.add(new Worker());
+		}
+	}
+	
+	/**
+	 * Creates a {@linkplain ThreadFactory} that creates virtual threads.
+	 * Virtual threads are cheap enough to give every device its own polling thread,
+	 * so this is usually combined with {@link #THREAD_PER_DEVICE}.
+	 * @return a {@linkplain ThreadFactory} for virtual threads
+	 * @throws UnsupportedOperationException if the Java runtime does not support virtual threads (requires Java 21 or later)
+	 * @since 1.2.0
+	 */
+	public static final ThreadFactory virtualThreadFactory() {
+		
+		try {
+			
+			// REFLECTION KEEPS THE LIBRARY COMPATIBLE WITH JAVA 11
+			Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "SimpleInput-VirtualPoller-", 0L);
+			return (ThreadFactory)builderClass.getMethod("factory").invoke(builder);
+			
+		} catch(ReflectiveOperationException exception) {
+			
+			throw new UnsupportedOperationException("Virtual threads require Java 21 or later", exception);
+		}
+	}
+	
+	private static final Thread createDefaultThread(Runnable runnable) {
+		
+		return new Thread(runnable, "SimpleInput-Poller-" + THREAD_NUMBER.getAndIncrement());
+	}
+	
+	/**
+	 * Assigns the given device to the worker with the least devices.
+	 * Does nothing if the device is already registered.
+	 * @param device the device
+	 * @since 1.2.0
+	 */
+	synchronized void register(Device device) {
+		
+		if(this.externalTick) {
+			
+			if(!Arrays.asList(this.tickedDevices).contains(device)) {
+				
+				Device[] devices = Arrays.copyOf(this.tickedDevices, this.tickedDevices.length + 1);
+				devices[devices.length - 1] = device;
+				this.tickedDevices = devices;
+			}
+			
+			return;
+		}
+		
+		Worker leastBusy = null;
+		
+		for(Worker worker : this.workers) {
+			
+			if(worker.contains(device)) {
+				
+				return;
+			}
+			
+			if(leastBusy == null || worker.size() < leastBusy.size()) {
+				
+				leastBusy = worker;
+			}
+		}
+		
+		if(this.threadPerDevice) {
+			
+			leastBusy = new Worker();
+			this.workers.add(leastBusy);
+		}
+		
+		device.nextPoll = System.nanoTime();
+		leastBusy.add(device);
+	}
+	
+	/**
+	 * Removes the given device from its worker.
+	 * @param device the device
+	 * @since 1.2.0
+	 */
+	synchronized void unregister(Device device) {
+		
+		if(this.externalTick) {
+			
+			this.tickedDevices = Arrays.stream(this.tickedDevices).filter(current -> current != device).toArray(Device[]::new);
+			return;
+		}
+		
+		for(Worker worker : this.workers) {
+			
+			worker.remove(device);
+		}
+		
+		if(this.threadPerDevice) {
+			
+			this.workers.removeIf(worker -> worker.size() == 0);
+		}
+	}
+	
+	/**
+	 * Removes all devices from all workers which causes the worker threads to terminate.
+	 * @since 1.2.0
+	 */
+	synchronized void shutdown() {
+		
+		this.tickedDevices = EMPTY_DEVICES;
+		
+		for(Worker worker : this.workers) {
+			
+			worker.clear();
+		}
+		
+		if(this.threadPerDevice) {
+			
+			this.workers.clear();
+		}
+	}
+	
+	/**
+	 * Polls all registered devices on the calling thread.
+	 * @param nanoTime the time of the tick
+	 * @since 1.2.0
+	 */
+	void tick(long nanoTime) {
+		
+		for(Device device : this.tickedDevices) {
+			
+			if(device.isListening()) {
+				
+				try {
+					
+					device.tick(nanoTime);
+					
+				} catch(RuntimeException exception) {
+					
+					// A FAULTY LISTENER ONLY TAKES DOWN ITS OWN DEVICE
+					exception.printStackTrace();
+					device.stopListening();
+				}
+			}
+		}
+	}
+	
+	/**
+	 * @return {@code true} if the devices are polled by {@link DeviceManager#tick(long)} instead of polling threads, else {@code false}
+	 * @since 1.2.0
+	 */
+	public boolean isExternalTick() {
+		
+		return this.externalTick;
+	}
+	
+	/**
+	 * Sets how long before a poll deadline the polling threads stop parking and start to busy spin instead.
+	 * Parking alone can overshoot the deadline by tens of microseconds up to a millisecond depending on the platform,
+	 * which matters for devices with a poll interval below one millisecond.
+	 * Spinning costs CPU time, so this should be kept as small as possible.
+	 * Default is {@code 0} (no spinning).
+	 * @param threshold the time before a deadline in which the threads spin
+	 * @throws IllegalArgumentException if the threshold is negative
+	 * @since 1.2.0
+	 */
+	public void setSpinThreshold(Duration threshold) {
+		
+		if(threshold.isNegative()) {
+			
+			throw new IllegalArgumentException("The spin threshold must not be negative");
+		}
+		
+		this.spinThreshold = threshold.toNanos();
+	}
+	
+	/**
+	 * @return the time before a deadline in which the polling threads busy spin instead of parking
+	 * @since 1.2.0
+	 */
+	public Duration getSpinThreshold() {
+		
+		return Duration.ofNanos(this.spinThreshold);
+	}
+	
+	/**
+	 * @return the maximum number of threads that are used for polling, {@link #THREAD_PER_DEVICE} if every device has its own thread
+	 *         or {@link #EXTERNAL_TICK} if the devices are polled by {@link DeviceManager#tick(long)}
+	 * @since 1.2.0
+	 */
+	public synchronized int getThreadCount() {
+		
+		if(this.externalTick) {
+			
+			return EXTERNAL_TICK;
+		}
+		
+		return this.threadPerDevice ? THREAD_PER_DEVICE : this.workers.size();
+	}
+	
+	/**
+	 * @return the number of devices that are currently being polled
+	 * @since 1.2.0
+	 */
+	public synchronized int getDeviceCount() {
+		
+		int count = this.tickedDevices.length;
+		
+		for(Worker worker : this.workers) {
+			
+			count += worker.size();
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * @return the number of devices of every polling thread, in the order in which the threads were added;
+	 *         empty if the devices are polled by {@link DeviceManager#tick(long)}
+	 * @since 1.2.0
+	 */
+	public synchronized int[] getDeviceCounts() {
+		
+		int[] counts = new int[this.workers.size()];
+		
+		for(int index = 0; index < counts.length; index++) {
+			
+			counts[index] = this.workers.get(index).size();
+		}
+		
+		return counts;
+	}
+	
+	private final class Worker implements Runnable {
+		
+		private volatile Device[] devices;
+		private Thread thread;
+		
+		Worker() {
+			
+			this.devices = EMPTY_DEVICES;
+		}
+		
+		synchronized boolean contains(Device device) {
+			
+			for(Device current : this.devices) {
+				
+				if(current == device) {
+					
+					return true;
+				}
+			}
+			
+			return false;
+		}
+		
+		synchronized int size() {
+			
+			return this.devices.length;
+		}
+		
+		synchronized void add(Device device) {
+			
+			Device[] devices = Arrays.copyOf(this.devices, this.devices.length + 1);
+			devices[devices.length - 1] = device;
+			this.devices = devices;
+			
+			if(this.thread == null) {
+				
+				this.thread = PollingScheduler.this.threadFactory.newThread(this);
+				this.thread.start();
+				
+			} else {
+				
+				LockSupport.unpark(this.thread);
+			}
+		}
+		
+		synchronized void remove(Device device) {
+			
+			for(int index = 0; index < this.devices.length; index++) {
+				
+				if(this.devices[index] == device) {
+					
+					Device[] devices = new Device[this.devices.length - 1];
+					System.arraycopy(this.devices, 0, devices, 0, index);
+					System.arraycopy(this.devices, index + 1, devices, index, devices.length - index);
+					this.devices = devices;
+					
+					if(this.thread != null) {
+						
+						LockSupport.unpark(this.thread);
+					}
+					
+					break;
+				}
+			}
+		}
+		
+		synchronized void clear() {
+			
+			this.devices = EMPTY_DEVICES;
+			
+			if(this.thread != null) {
+				
+				LockSupport.unpark(this.thread);
+			}
+		}
+		
+		private synchronized boolean isIdle() {
+			
+			if(this.devices.length == 0) {
+				
+				this.thread = null;
+				return true;
+			}
+			
+			return false;
+		}
+		
+		@Override
+		public void run() {
+			
+			while(!this.isIdle()) {
+				
+				long now = System.nanoTime();
+				long nextDeadline = now + TimeUnit.SECONDS.toNanos(1);
+				
+				for(Device device : this.devices) {
+					
+					if(device.nextPoll - now <= 0 && device.isListening()) {
+						
+						try {
+							
+							device.poll();
+							
+						} catch(RuntimeException exception) {
+							
+							// A FAULTY LISTENER ONLY TAKES DOWN ITS OWN DEVICE
+							exception.printStackTrace();
+							device.stopListening();
+						}
+						
+						// FIXED RATE AS LONG AS THE WORKER KEEPS UP
+						long interval = device.currentPollInterval;
+						long nextPoll = device.nextPoll + interval;
+						device.nextPoll = nextPoll - now <= 0 ? now + interval : nextPoll;
+					}
+					
+					if(device.nextPoll - nextDeadline < 0) {
+						
+						nextDeadline = device.nextPoll;
+					}
+				}
+				
+				long spinThreshold = PollingScheduler.this.spinThreshold;
+				long waitTime = nextDeadline - System.nanoTime();
+				
+				if(waitTime > spinThreshold) {
+					
+					// THE LOOP WILL COME BACK HERE AND SPIN FOR THE REST OF THE TIME
+					LockSupport.parkNanos(this, waitTime - spinThreshold);
+					
+				} else {
+					
+					while(nextDeadline - System.nanoTime() > 0) {
+						
+						Thread.onSpinWait();
+					}
+				}
+			}
+		}
+	}
+}
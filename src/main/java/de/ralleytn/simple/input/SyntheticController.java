@@ -0,0 +1,419 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import net.java.games.input.AbstractComponent;
+import net.java.games.input.AbstractController;
+import net.java.games.input.Component;
+import net.java.games.input.Component.Identifier;
+import net.java.games.input.Component.Identifier.Axis;
+import net.java.games.input.Component.Identifier.Button;
+import net.java.games.input.Component.Identifier.Key;
+import net.java.games.input.Controller;
+import net.java.games.input.Event;
+import net.java.games.input.Rumbler;
+
+/**
+ * Controller without hardware behind it.
+ * It endlessly repeats a script of events at a configurable rate (or a fixed number of events per poll) and emits events that are
+ * {@linkplain #enqueue(int, float, long) enqueued} manually.
+ * Use it together with the {@linkplain SyntheticEnvironment} for tests, load generation and benchmarks.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class SyntheticController extends AbstractController {
+
+	private static final Identifier[] KEYBOARD_COMPONENTS = {
+			
+		Key.A, Key.B, Key.C, Key.D, Key.E, Key.F, Key.G, Key.H, Key.I, Key.J, Key.K, Key.L, Key.M,
+		Key.N, Key.O, Key.P, Key.Q, Key.R, Key.S, Key.T, Key.U, Key.V, Key.W, Key.X, Key.Y, Key.Z,
+		Key._0, Key._1, Key._2, Key._3, Key._4, Key._5, Key._6, Key._7, Key._8, Key._9,
+		Key.SPACE, Key.RETURN, Key.ESCAPE, Key.LSHIFT, Key.LCONTROL, Key.LALT, Key.UP, Key.DOWN, Key.LEFT, Key.RIGHT
+	};
+	private static final Identifier[] MOUSE_COMPONENTS = {Axis.X, Axis.Y, Axis.Z, Button.LEFT, Button.RIGHT, Button.MIDDLE};
+	private static final Identifier[] GAMEPAD_COMPONENTS = {
+			
+		Button._0, Button._1, Button._2, Button._3, Button._4, Button._5, Button._6, Button._7, Button._8, Button._9,
+		Axis.POV, Axis.X, Axis.Y, Axis.Z, Axis.RZ
+	};
+	private static final int INITIAL_QUEUE_CAPACITY = 64;
+	private static final int EVENT_QUEUE_SIZE = 1024;
+	
+	private final Type type;
+	private final boolean xinput;
+	private final int[] scriptComponents;
+	private final float[] scriptValues;
+	private volatile double eventsPerSecond;
+	private volatile int eventsPerPoll;
+	private int position;
+	private long lastPoll;
+	private double pendingEvents;
+	private int scriptedEventsLeft;
+	private int[] queuedComponents;
+	private float[] queuedValues;
+	private long[] queuedNanos;
+	private int queueHead;
+	private int queueSize;
+	
+	/**
+	 * @param name the name of the controller
+	 * @param type the type of the controller
+	 * @param identifiers the identifiers of the components
+	 * @param relative {@code true} for every component that is relative (like mouse axes)
+	 * @param script pairs of component index and value that are repeated endlessly; may be empty
+	 * @param eventsPerSecond how many events of the script are emitted per second
+	 * @throws IllegalArgumentException if the script contains an invalid component index
+	 * @since 1.2.0
+	 */
+	public SyntheticController(String name, Type type, Identifier[] identifiers, boolean[] relative, float[] script, double eventsPerSecond) {
+		
+		this(name, type, false, identifiers, relative, script, eventsPerSecond);
+	}
+	
+	/**
+	 * @param name the name of the controller
+	 * @param type the type of the controller
+	 * @param xinput {@code true} if the controller should be treated like an XInput gamepad
+	 * @param identifiers the identifiers of the components
+	 * @param relative {@code true} for every component that is relative (like mouse axes)
+	 * @param script pairs of component index and value that are repeated endlessly; may be empty
+	 * @param eventsPerSecond how many events of the script are emitted per second
+	 * @throws IllegalArgumentException if the script contains an invalid component index
+	 * @since 1.2.0
+	 */
+	public SyntheticController(String name, Type type, boolean xinput, Identifier[] identifiers, boolean[] relative, float[] script, double eventsPerSecond) {
+		
+		super(name, SyntheticController.createComponents(identifiers, relative), new Controller[0], new Rumbler[0]);
+		
+		this.type = type;
+		this.xinput = xinput;
+		this.scriptComponents = new int[script.length / 2];
+		this.scriptValues = new float[script.length / 2];
+		this.eventsPerSecond = eventsPerSecond;
+		this.queuedComponents = new int[INITIAL_QUEUE_CAPACITY];
+		this.queuedValues = new float[INITIAL_QUEUE_CAPACITY];
+		this.queuedNanos = new long[INITIAL_QUEUE_CAPACITY];
+		this.setEventQueueSize(EVENT_QUEUE_SIZE);
+		
+		for(int index = 0; index < this.scriptComponents.length; index++) {
+			
+			this.scriptComponents[index] = this.checkComponentIndex((int)script[index * 2]);
+			this.scriptValues[index] = script[index * 2 + 1];
+		}
+	}
+	
+	/**
+	 * Creates a keyboard that types the letters, digits and a few special keys one after another.
+	 * @param name the name of the keyboard
+	 * @param eventsPerSecond how many events are emitted per second
+	 * @return the keyboard
+	 * @since 1.2.0
+	 */
+	public static SyntheticController createKeyboard(String name, double eventsPerSecond) {
+		
+		return new SyntheticController(name, Type.KEYBOARD, KEYBOARD_COMPONENTS, new boolean[KEYBOARD_COMPONENTS.length], SyntheticController.pressAndRelease(0, KEYBOARD_COMPONENTS.length), eventsPerSecond);
+	}
+	
+	/**
+	 * Creates a mouse that moves in circles, clicks and scrolls.
+	 * @param name the name of the mouse
+	 * @param eventsPerSecond how many events are emitted per second
+	 * @return the mouse
+	 * @since 1.2.0
+	 */
+	public static SyntheticController createMouse(String name, double eventsPerSecond) {
+		
+		boolean[] relative = {true, true, true, false, false, false};
+		float[] script = {
+			0, 4, 1, 0, 0, 0, 1, 4, 0, -4, 1, 0, 0, 0, 1, -4,
+			3, 1, 0, 2, 1, 2, 3, 0,
+			4, 1, 4, 0, 5, 1, 5, 0,
+			2, 1, 2, -1
+		};
+		
+		return new SyntheticController(name, Type.MOUSE, MOUSE_COMPONENTS, relative, script, eventsPerSecond);
+	}
+	
+	/**
+	 * Creates a gamepad that presses all buttons, rotates the POV and pushes both analog sticks.
+	 * @param name the name of the gamepad
+	 * @param eventsPerSecond how many events are emitted per second
+	 * @return the gamepad
+	 * @since 1.2.0
+	 */
+	public static SyntheticController createGamepad(String name, double eventsPerSecond) {
+		
+		float[] buttons = SyntheticController.pressAndRelease(0, 10);
+		float[] axes = {
+			10, 0.25F, 10, 0.5F, 10, 0.75F, 10, 1.0F, 10, 0.0F,
+			11, 1.0F, 12, -1.0F, 11, 0.0F, 12, 0.0F,
+			13, -0.5F, 14, 0.5F, 13, 0.0F, 14, 0.0F
+		};
+		float[] script = Arrays.copyOf(buttons, buttons.length + axes.length);
+		System.arraycopy(axes, 0, script, buttons.length, axes.length);
+		return new SyntheticController(name, Type.GAMEPAD, GAMEPAD_COMPONENTS, new boolean[GAMEPAD_COMPONENTS.length], script, eventsPerSecond);
+	}
+	
+	private static final float[] pressAndRelease(int first, int count) {
+		
+		float[] script = new float[count * 4];
+		
+		for(int index = 0; index < count; index++) {
+			
+			script[index * 4] = first + index;
+			script[index * 4 + 1] = 1.0F;
+			script[index * 4 + 2] = first + index;
+			script[index * 4 + 3] = 0.0F;
+		}
+		
+		return script;
+	}
+	
+	private static final Component[] createComponents(Identifier[] identifiers, boolean[] relative) {
+		
+		Component[] components = new Component[identifiers.length];
+		
+		for(int index = 0; index < identifiers.length; index++) {
+			
+			components[index] = new SyntheticComponent(identifiers[index], relative[index]);
+		}
+		
+		return components;
+	}
+	
+	private final int checkComponentIndex(int componentIndex) {
+		
+		if(componentIndex < 0 || componentIndex >= this.getComponents().length) {
+			
+			throw new IllegalArgumentException("Invalid component index: " + componentIndex);
+		}
+		
+		return componentIndex;
+	}
+	
+	/**
+	 * Adds an event that will be emitted with the next poll, before any scripted events.
+	 * Can be called from any thread.
+	 * @param componentIndex the position of the component in {@link #getComponents()}
+	 * @param value the value
+	 * @param nanos the timestamp of the event in nanoseconds
+	 * @throws IllegalArgumentException if the component index is invalid
+	 * @since 1.2.0
+	 */
+	public synchronized void enqueue(int componentIndex, float value, long nanos) {
+		
+		this.checkComponentIndex(componentIndex);
+		
+		if(this.queueSize == this.queuedValues.length) {
+			
+			int capacity = this.queueSize * 2;
+			int[] components = new int[capacity];
+			float[] values = new float[capacity];
+			long[] nanoTimes = new long[capacity];
+			
+			for(int index = 0; index < this.queueSize; index++) {
+				
+				int slot = (this.queueHead + index) % this.queueSize;
+				components[index] = this.queuedComponents[slot];
+				values[index] = this.queuedValues[slot];
+				nanoTimes[index] = this.queuedNanos[slot];
+			}
+			
+			this.queuedComponents = components;
+			this.queuedValues = values;
+			this.queuedNanos = nanoTimes;
+			this.queueHead = 0;
+		}
+		
+		int slot = (this.queueHead + this.queueSize) % this.queuedValues.length;
+		this.queuedComponents[slot] = componentIndex;
+		this.queuedValues[slot] = value;
+		this.queuedNanos[slot] = nanos;
+		this.queueSize++;
+	}
+	
+	/**
+	 * Adds an event with the current time that will be emitted with the next poll.
+	 * @param component the component
+	 * @param value the value
+	 * @throws IllegalArgumentException if the component does not belong to this controller
+	 * @since 1.2.0
+	 */
+	public void enqueue(Component component, float value) {
+		
+		this.enqueue(Arrays.asList(this.getComponents()).indexOf(component), value, System.nanoTime());
+	}
+	
+	/**
+	 * @return the number of manually enqueued events that were not emitted yet
+	 * @since 1.2.0
+	 */
+	public synchronized int getQueuedEventCount() {
+		
+		return this.queueSize;
+	}
+	
+	/**
+	 * Sets how many events of the script are emitted per second.
+	 * If the controller is polled less often than events are due, the due events are emitted in bulk,
+	 * but never more than one second worth of events. Events that do not fit into the event queue of the controller
+	 * are skipped.
+	 * @param eventsPerSecond the rate; {@code 0.0} stops the script
+	 * @since 1.2.0
+	 */
+	public void setEventsPerSecond(double eventsPerSecond) {
+		
+		this.eventsPerSecond = eventsPerSecond;
+	}
+	
+	/**
+	 * @return how many events of the script are emitted per second
+	 * @since 1.2.0
+	 */
+	public double getEventsPerSecond() {
+		
+		return this.eventsPerSecond;
+	}
+	
+	/**
+	 * Makes the controller emit exactly this many events of the script with every poll, no matter how much time has passed.
+	 * Unlike the rate, this does not depend on the timing of the polls, which makes tests and benchmarks reproducible.
+	 * Events that do not fit into the event queue of the controller are skipped.
+	 * @param eventsPerPoll the number of events per poll; {@code 0} to use the rate again
+	 * @throws IllegalArgumentException if the number is negative
+	 * @since 1.2.0
+	 */
+	public void setEventsPerPoll(int eventsPerPoll) {
+		
+		if(eventsPerPoll < 0) {
+			
+			throw new IllegalArgumentException("The number of events per poll must not be negative");
+		}
+		
+		this.eventsPerPoll = eventsPerPoll;
+	}
+	
+	/**
+	 * @return how many events of the script are emitted with every poll or {@code 0} if the rate is used
+	 * @since 1.2.0
+	 */
+	public int getEventsPerPoll() {
+		
+		return this.eventsPerPoll;
+	}
+	
+	/**
+	 * @return {@code true} if this controller is treated like an XInput gamepad, else {@code false}
+	 * @since 1.2.0
+	 */
+	public boolean isXInput() {
+		
+		return this.xinput;
+	}
+	
+	@Override
+	public Type getType() {
+		
+		return this.type;
+	}
+	
+	@Override
+	protected void pollDevice() {
+		
+		long now = System.nanoTime();
+		double eventsPerSecond = this.eventsPerSecond;
+		int eventsPerPoll = this.eventsPerPoll;
+		
+		if(eventsPerPoll > 0) {
+			
+			this.pendingEvents = 0.0D;
+			this.scriptedEventsLeft = this.scriptComponents.length > 0 ? eventsPerPoll : 0;
+			
+		} else if(this.lastPoll != 0 && eventsPerSecond > 0.0D && this.scriptComponents.length > 0) {
+			
+			this.pendingEvents = Math.min(this.pendingEvents + (now - this.lastPoll) * eventsPerSecond / TimeUnit.SECONDS.toNanos(1), Math.max(eventsPerSecond, 1.0D));
+			this.scriptedEventsLeft = (int)this.pendingEvents;
+			this.pendingEvents -= this.scriptedEventsLeft;
+			
+		} else {
+			
+			this.pendingEvents = 0.0D;
+			this.scriptedEventsLeft = 0;
+		}
+		
+		this.lastPoll = now;
+	}
+	
+	@Override
+	protected synchronized boolean getNextDeviceEvent(Event event) {
+		
+		Component[] components = this.getComponents();
+		
+		if(this.queueSize > 0) {
+			
+			event.set(components[this.queuedComponents[this.queueHead]], this.queuedValues[this.queueHead], this.queuedNanos[this.queueHead]);
+			this.queueHead = (this.queueHead + 1) % this.queuedValues.length;
+			this.queueSize--;
+			return true;
+		}
+		
+		if(this.scriptedEventsLeft > 0) {
+			
+			this.scriptedEventsLeft--;
+			event.set(components[this.scriptComponents[this.position]], this.scriptValues[this.position], System.nanoTime());
+			this.position = (this.position + 1) % this.scriptComponents.length;
+			return true;
+		}
+		
+		return false;
+	}
+	
+	private static final class SyntheticComponent extends AbstractComponent {
+		
+		private final boolean relative;
+		
+		SyntheticComponent(Identifier identifier, boolean relative) {
+			
+			super(identifier.getName(), identifier);
+			
+			this.relative = relative;
+		}
+		
+		@Override
+		public boolean isRelative() {
+			
+			return this.relative;
+		}
+		
+		@Override
+		protected float poll() {
+			
+			return 0.0F;
+		}
+	}
+}
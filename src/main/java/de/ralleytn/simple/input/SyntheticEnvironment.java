@@ -0,0 +1,174 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input;
+
+import java.util.Arrays;
+
+import net.java.games.input.Controller;
+import net.java.games.input.ControllerEnvironment;
+
+/**
+ * {@linkplain ControllerEnvironment} without hardware behind it.
+ * It provides {@linkplain SyntheticController}s or any other controllers that are added to it.
+ * <pre>
+ * DeviceManager.create(SyntheticEnvironment.create(2, 2, 4, 10_000.0));
+ * </pre>
+ * It can also be selected with the system property {@code -Dde.ralleytn.simple.input.environment=synthetic}.
+ * In that case the number of devices and the rate are read from the system properties
+ * <code>{@value #KEYBOARDS_PROPERTY}</code>, <code>{@value #MICE_PROPERTY}</code>, <code>{@value #GAMEPADS_PROPERTY}</code>
+ * and <code>{@value #RATE_PROPERTY}</code> (one device of each type at 100 events per second by default).
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class SyntheticEnvironment extends ControllerEnvironment {
+
+	/**
+	 * System property with the number of keyboards when the environment is selected by name.
+	 * @since 1.2.0
+	 */
+	public static final String KEYBOARDS_PROPERTY = "de.ralleytn.simple.input.synthetic.keyboards";
+	
+	/**
+	 * System property with the number of mice when the environment is selected by name.
+	 * @since 1.2.0
+	 */
+	public static final String MICE_PROPERTY = "de.ralleytn.simple.input.synthetic.mice";
+	
+	/**
+	 * System property with the number of gamepads when the environment is selected by name.
+	 * @since 1.2.0
+	 */
+	public static final String GAMEPADS_PROPERTY = "de.ralleytn.simple.input.synthetic.gamepads";
+	
+	/**
+	 * System property with the number of events per second and device when the environment is selected by name.
+	 * @since 1.2.0
+	 */
+	public static final String RATE_PROPERTY = "de.ralleytn.simple.input.synthetic.rate";
+	
+	private volatile Controller[] controllers;
+	
+	/**
+	 * @param controllers the initial controllers
+	 * @since 1.2.0
+	 */
+	public SyntheticEnvironment(Controller... controllers) {
+		
+		this.controllers = controllers.clone();
+	}
+	
+	/**
+	 * Creates an environment with scripted devices.
+	 * @param keyboards the number of keyboards
+	 * @param mice the number of mice
+	 * @param gamepads the number of gamepads
+	 * @param eventsPerSecond how many events every single device emits per second
+	 * @return the environment
+	 * @since 1.2.0
+	 * @see SyntheticController#createKeyboard(String, double)
+	 * @see SyntheticController#createMouse(String, double)
+	 * @see SyntheticController#createGamepad(String, double)
+	 */
+	public static SyntheticEnvironment create(int keyboards, int mice, int gamepads, double eventsPerSecond) {
+		
+		Controller[] controllers = new Controller[keyboards + mice + gamepads];
+		int index = 0;
+		
+		for(int keyboard = 0; keyboard < keyboards; keyboard++) {
+			
+			controllers[index++] = SyntheticController.createKeyboard("Synthetic Keyboard " + keyboard, eventsPerSecond);
+		}
+		
+		for(int mouse = 0; mouse < mice; mouse++) {
+			
+			controllers[index++] = SyntheticController.createMouse("Synthetic Mouse " + mouse, eventsPerSecond);
+		}
+		
+		for(int gamepad = 0; gamepad < gamepads; gamepad++) {
+			
+			controllers[index++] = SyntheticController.createGamepad("Synthetic Gamepad " + gamepad, eventsPerSecond);
+		}
+		
+		return new SyntheticEnvironment(controllers);
+	}
+	
+	/**
+	 * Creates an environment as configured by the system properties.
+	 * @return the environment
+	 * @since 1.2.0
+	 */
+	public static SyntheticEnvironment fromSystemProperties() {
+		
+		return SyntheticEnvironment.create(Integer.getInteger(KEYBOARDS_PROPERTY, 1), Integer.getInteger(MICE_PROPERTY, 1), Integer.getInteger(GAMEPADS_PROPERTY, 1), Double.parseDouble(System.getProperty(RATE_PROPERTY, "100")));
+	}
+	
+	/**
+	 * Adds a controller and notifies the listeners of this environment.
+	 * @param controller the controller
+	 * @since 1.2.0
+	 */
+	public synchronized void addController(Controller controller) {
+		
+		Controller[] controllers = Arrays.copyOf(this.controllers, this.controllers.length + 1);
+		controllers[this.controllers.length] = controller;
+		this.controllers = controllers;
+		this.fireControllerAdded(controller);
+	}
+	
+	/**
+	 * Removes a controller and notifies the listeners of this environment.
+	 * @param controller the controller
+	 * @return {@code true} if the controller was removed, else {@code false}
+	 * @since 1.2.0
+	 */
+	public synchronized boolean removeController(Controller controller) {
+		
+		int index = Arrays.asList(this.controllers).indexOf(controller);
+		
+		if(index == -1) {
+			
+			return false;
+		}
+		
+		Controller[] controllers = new Controller[this.controllers.length - 1];
+		System.arraycopy(this.controllers, 0, controllers, 0, index);
+		System.arraycopy(this.controllers, index + 1, controllers, index, controllers.length - index);
+		this.controllers = controllers;
+		this.fireControllerRemoved(controller);
+		return true;
+	}
+	
+	@Override
+	public Controller[] getControllers() {
+		
+		return this.controllers.clone();
+	}
+	
+	@Override
+	public boolean isSupported() {
+		
+		return true;
+	}
+}
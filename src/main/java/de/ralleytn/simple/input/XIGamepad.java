@@ -35,7 +35,7 @@ import net.java.games.input.Event;
 /**
  * Represents a gamepad that uses the XInput API.
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 1.1.0
+ * @version 1.2.0
  * @since 1.0.0
  */
 public class XIGamepad extends Gamepad {
@@ -46,10 +46,17 @@ public class XIGamepad extends Gamepad {
 	private float axisRY;
 	private float axisZ;
 	private float axisRZ;
+	private final XIGamepadEvent reusableTriggerEvent;
+	private final XIGamepadEvent reusableTriggerButtonEvent;
+	private volatile DeadZone[] triggerDeadZones;
 
 	XIGamepad(Controller controller) {
 		
-		super(controller, XIGamepadButtonMapping.getDownButtonArraySize(Util.hasNoNavigation(controller)), new XIMouseControl());
+		super(controller, XIGamepadButtonMapping.getMap(Util.hasNoNavigation(controller)), XIGamepadButtonMapping.getDownButtonArraySize(Util.hasNoNavigation(controller)), new XIMouseControl());
+		
+		this.reusableTriggerEvent = new XIGamepadEvent(this, TRIGGER_NONE, 0.0F);
+		this.reusableTriggerButtonEvent = new XIGamepadEvent(this, BUTTON_NONE, false);
+		this.triggerDeadZones = new DeadZone[] {DeadZone.NONE, DeadZone.NONE};
 	}
 	
 	@Override
@@ -68,9 +75,36 @@ public class XIGamepad extends Gamepad {
 		return buttonCount;
 	}
 	
+	/**
+	 * Sets the threshold and response curve of a trigger.
+	 * Values below the inner dead zone become {@code 0.0F}, values beyond the outer dead zone become {@code 1.0F} and therefore also press {@link XIGamepadEvent#BUTTON_LT} or {@link XIGamepadEvent#BUTTON_RT}.
+	 * The default is {@link DeadZone#NONE}.
+	 * @param trigger the trigger ({@link XIGamepadEvent#TRIGGER_LEFT} or {@link XIGamepadEvent#TRIGGER_RIGHT})
+	 * @param deadZone the dead zone or {@code null} to keep the raw values
+	 * @since 1.2.0
+	 */
+	public void setTriggerDeadZone(int trigger, DeadZone deadZone) {
+		
+		DeadZone[] deadZones = this.triggerDeadZones.clone();
+		deadZones[trigger] = deadZone != null ? deadZone : DeadZone.NONE;
+		this.triggerDeadZones = deadZones;
+	}
+	
+	/**
+	 * @param trigger the trigger ({@link XIGamepadEvent#TRIGGER_LEFT} or {@link XIGamepadEvent#TRIGGER_RIGHT})
+	 * @return the {@linkplain DeadZone} of the trigger
+	 * @since 1.2.0
+	 */
+	public DeadZone getTriggerDeadZone(int trigger) {
+		
+		return this.triggerDeadZones[trigger];
+	}
+	
 	@Override
 	protected void update() {
 		
+		this.flushAxisFilters();
+		this.flushAnalogStickEvents();
 		this.mouseControl.updateCursorPosition(this.axisX, this.axisY, this.axisRX, this.axisRY);
 	}
 
@@ -80,86 +114,143 @@ public class XIGamepad extends Gamepad {
 		Component component = event.getComponent();
 		Identifier id = component.getIdentifier();
 		float value = event.getValue();
+		int button = this.getCode(this.buttonCodes, component);
 
 		if(Axis.POV.equals(id)) {
 			
 			this.processPOVEvent(id, value);
 			
-		} else if(XIGamepadButtonMapping.isValidButton(id, this.hasNoNavigation())) {
+		} else if(button != BUTTON_NONE) {
 			
-			int button = XIGamepadButtonMapping.getMap(this.hasNoNavigation()).get(id);
 			this.processButtonEvent(button, value);
 			       
 		} else if(Axis.Y.equals(id)) {
 			
-			this.axisY = Gamepad.isDead(value) ? 0.0F : value;
-			Direction direction = XIGamepadButtonMapping.getAnalogStickDirection(value, this.axisX, this.axisY);
+			this.filterAxisEvent(AXIS_LEFT_Y, value);
+			
+		} else if(Axis.X.equals(id)) {
+			
+			this.filterAxisEvent(AXIS_LEFT_X, value);
+			
+		} else if(Axis.RX.equals(id)) {
+			
+			this.filterAxisEvent(AXIS_RIGHT_X, value);
+
+		} else if(Axis.RY.equals(id)) {
+			
+			this.filterAxisEvent(AXIS_RIGHT_Y, value);
+			
+		} else if(Axis.Z.equals(id)) {
+			
+			this.filterAxisEvent(AXIS_LEFT_TRIGGER, value);
+			
+		} else if(Axis.RZ.equals(id)) {
+			
+			this.filterAxisEvent(AXIS_RIGHT_TRIGGER, value);
+		}
+	}
+	
+	@Override
+	protected void processAxisEvent(int axis, float value) {
+		
+		if(axis == AXIS_LEFT_Y) {
+			
+			float[] stick = this.applyDeadZone(AXIS_LEFT_Y, value);
+			this.axisX = stick[0];
+			this.axisY = stick[1];
+			Direction direction = this.getAnalogStickDirection(ANALOG_STICK_LEFT, value, this.axisX, this.axisY);
 			
 			if(direction != null) {
 				
-				this.processAnalogStickEvent(ANALOG_STICK_LEFT, value, id, this.axisX, this.axisY, direction);
+				this.processAnalogStickEvent(ANALOG_STICK_LEFT, value, Axis.Y, this.axisX, this.axisY, direction);
 			}
 			
-		} else if(Axis.X.equals(id)) {
+		} else if(axis == AXIS_LEFT_X) {
 			
-			this.axisX = Gamepad.isDead(value) ? 0.0F : value;
-			Direction direction = XIGamepadButtonMapping.getAnalogStickDirection(value, this.axisX, this.axisY);
+			float[] stick = this.applyDeadZone(AXIS_LEFT_X, value);
+			this.axisX = stick[0];
+			this.axisY = stick[1];
+			Direction direction = this.getAnalogStickDirection(ANALOG_STICK_LEFT, value, this.axisX, this.axisY);
 			
 			if(direction != null) {
 				
-				this.processAnalogStickEvent(ANALOG_STICK_LEFT, value, id, this.axisX, this.axisY, direction);
+				this.processAnalogStickEvent(ANALOG_STICK_LEFT, value, Axis.X, this.axisX, this.axisY, direction);
 			}
 			
-		} else if(Axis.RX.equals(id)) {
+		} else if(axis == AXIS_RIGHT_X) {
 			
-			this.axisRX = Gamepad.isDead(value) ? 0.0F : value;
-			Direction direction = XIGamepadButtonMapping.getAnalogStickDirection(value, this.axisRX, this.axisRY);
+			float[] stick = this.applyDeadZone(AXIS_RIGHT_X, value);
+			this.axisRX = stick[0];
+			this.axisRY = stick[1];
+			Direction direction = this.getAnalogStickDirection(ANALOG_STICK_RIGHT, value, this.axisRX, this.axisRY);
 			
 			if(direction != null) {
 				
-				this.processAnalogStickEvent(ANALOG_STICK_RIGHT, value, id, this.axisRX, this.axisRY, direction);
+				this.processAnalogStickEvent(ANALOG_STICK_RIGHT, value, Axis.RX, this.axisRX, this.axisRY, direction);
 			}
 
-		} else if(Axis.RY.equals(id)) {
+		} else if(axis == AXIS_RIGHT_Y) {
 			
-			this.axisRY = Gamepad.isDead(value) ? 0.0F : value;
-			Direction direction = XIGamepadButtonMapping.getAnalogStickDirection(value, this.axisRX, this.axisRY);
+			float[] stick = this.applyDeadZone(AXIS_RIGHT_Y, value);
+			this.axisRX = stick[0];
+			this.axisRY = stick[1];
+			Direction direction = this.getAnalogStickDirection(ANALOG_STICK_RIGHT, value, this.axisRX, this.axisRY);
 			
 			if(direction != null) {
 				
-				this.processAnalogStickEvent(ANALOG_STICK_RIGHT, value, id, this.axisRX, this.axisRY, direction);
+				this.processAnalogStickEvent(ANALOG_STICK_RIGHT, value, Axis.RY, this.axisRX, this.axisRY, direction);
 			}
 			
-		} else if(Axis.Z.equals(id)) {
+		} else if(axis == AXIS_LEFT_TRIGGER) {
 			
-			this.axisZ = value;
-			this.processTriggerEvent(TRIGGER_LEFT, value);
+			float trigger = this.triggerDeadZones[TRIGGER_LEFT].process(value);
 			
-		} else if(Axis.RZ.equals(id)) {
+			if(trigger != this.axisZ) {
+				
+				this.axisZ = trigger;
+				this.processTriggerEvent(TRIGGER_LEFT, trigger);
+			}
 			
-			this.axisRZ = value;
-			this.processTriggerEvent(TRIGGER_RIGHT, value);
+		} else if(axis == AXIS_RIGHT_TRIGGER) {
+			
+			float trigger = this.triggerDeadZones[TRIGGER_RIGHT].process(value);
+			
+			if(trigger != this.axisRZ) {
+				
+				this.axisRZ = trigger;
+				this.processTriggerEvent(TRIGGER_RIGHT, trigger);
+			}
 		}
 	}
 	
 	private final void processTriggerEvent(int trigger, float value) {
 		
-		this.listeners.forEach(listener -> {
+		XIGamepadEvent triggerEvent = null;
+		XIGamepadEvent buttonEvent = null;
+		
+		for(GamepadListener listener : this.listeners.getSnapshot()) {
 			
 			if(listener instanceof XIGamepadListener) {
 				
-				((XIGamepadListener)listener).onTriggerPush(new XIGamepadEvent(this, trigger, value));
+				if(triggerEvent == null) {
+					
+					int button = trigger == TRIGGER_LEFT ? BUTTON_LT : BUTTON_RT;
+					triggerEvent = this.stamp(this.reusingEvents ? this.reusableTriggerEvent.set(null, ANALOG_STICK_NONE, BUTTON_NONE, value, trigger) : new XIGamepadEvent(this, trigger, value));
+					buttonEvent = this.stamp(this.reusingEvents ? this.reusableTriggerButtonEvent.set(null, ANALOG_STICK_NONE, button, value == 1.0F ? 1.0F : 0.0F, TRIGGER_NONE) : new XIGamepadEvent(this, button, value == 1.0F));
+				}
+				
+				((XIGamepadListener)listener).onTriggerPush(triggerEvent);
 				
 				if(value == 1.0F) {
 					
-					listener.onButtonPress(new XIGamepadEvent(this, trigger == TRIGGER_LEFT ? BUTTON_LT : BUTTON_RT, true));
+					listener.onButtonPress(buttonEvent);
 					
 				} else if(value == 0.0F) {
 					
-					listener.onButtonRelease(new XIGamepadEvent(this, trigger == TRIGGER_LEFT ? BUTTON_LT : BUTTON_RT, false));
+					listener.onButtonRelease(buttonEvent);
 				}
 			}
-		});
+		}
 	}
 	
 	/**
@@ -26,7 +26,7 @@ package de.ralleytn.simple.input;
 /**
  * Represents an event that was fired by a gamepad that uses the XInput API.
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 1.1.0
+ * @version 1.2.0
  * @since 1.1.0
  */
 public class XIGamepadEvent extends GamepadEvent {
@@ -91,7 +91,19 @@ public class XIGamepadEvent extends GamepadEvent {
 	 */
 	public static final int TRIGGER_RIGHT = 1;
 	
-	private final int trigger;
+	/**
+	 * The axis of LT
+	 * @since 1.2.0
+	 */
+	public static final int AXIS_LEFT_TRIGGER = 4;
+	
+	/**
+	 * The axis of RT
+	 * @since 1.2.0
+	 */
+	public static final int AXIS_RIGHT_TRIGGER = 5;
+	
+	private int trigger;
 	
 	/**
 	 * @param device the device that fired this event
@@ -137,6 +149,13 @@ public class XIGamepadEvent extends GamepadEvent {
 		this.trigger = trigger;
 	}
 	
+	final XIGamepadEvent set(Direction direction, int analogStick, int button, float intensity, int trigger) {
+		
+		this.set(direction, analogStick, button, intensity);
+		this.trigger = trigger;
+		return this;
+	}
+	
 	/**
 	 * @return the trigger that was pushed
 	 * @since 1.1.0
@@ -0,0 +1,217 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Fixed size bit set that is written by a single thread and can be read by any number of other threads.
+ * Single bits are published with release semantics and read with acquire semantics, so reading one bit costs one memory read.
+ * Copies of the whole bit set are guarded by a sequence counter and are therefore always consistent.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class AtomicBitSet {
+
+	private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+	private static final VarHandle VERSION;
+	
+	static {
+		
+		try {
+			
+			VERSION = MethodHandles.lookup().findVarHandle(AtomicBitSet.class, "version", long.class);
+			
+		} catch(NoSuchFieldException | IllegalAccessException exception) {
+			
+			// WILL NEVER HAPPEN!
+			// THE FIELD EXISTS!
+			throw new ExceptionInInitializerError(exception);
+		}
+	}
+	
+	private final long[] words;
+	private final int size;
+	
+	@SuppressWarnings("unused")
+	private long version;
+	
+	/**
+	 * @param size the number of bits
+	 * @since 1.2.0
+	 */
+	public AtomicBitSet(int size) {
+		
+		this.size = size;
+		this.words = new long[AtomicBitSet.getWordCount(size)];
+	}
+	
+	/**
+	 * @param size the number of bits
+	 * @return the number of {@code long} words that are needed to store the given number of bits
+	 * @since 1.2.0
+	 */
+	public static final int getWordCount(int size) {
+		
+		return (size + 63) >>> 6;
+	}
+	
+	/**
+	 * Creates a mask in which the given bits are set.
+	 * @param size the number of bits of the bit set the mask is meant for
+	 * @param bits the bits
+	 * @return the mask
+	 * @throws IndexOutOfBoundsException if one of the bits does not fit into the given size
+	 * @since 1.2.0
+	 */
+	public static final long[] createMask(int size, int... bits) {
+		
+		long[] mask = new long[AtomicBitSet.getWordCount(size)];
+		
+		for(int bit : bits) {
+			
+			if(bit < 0 || bit >= size) {
+				
+				throw new IndexOutOfBoundsException("Bit: " + bit + ", Size: " + size);
+			}
+			
+			mask[bit >>> 6] |= 1L << bit;
+		}
+		
+		return mask;
+	}
+	
+	/**
+	 * Sets or clears a bit. Must only be called by the thread that owns this bit set.
+	 * @param bit the bit
+	 * @param value {@code true} = set, {@code false} = clear
+	 * @since 1.2.0
+	 */
+	public final void set(int bit, boolean value) {
+		
+		int index = bit >>> 6;
+		long word = this.words[index];
+		long updated = value ? word | (1L << bit) : word & ~(1L << bit);
+		
+		if(updated != word) {
+			
+			long version = (long)VERSION.getOpaque(this);
+			VERSION.setOpaque(this, version + 1);
+			VarHandle.releaseFence();
+			WORDS.setRelease(this.words, index, updated);
+			VERSION.setRelease(this, version + 2);
+		}
+	}
+	
+	/**
+	 * @param bit the bit
+	 * @return {@code true} if the bit is set, else {@code false}
+	 * @since 1.2.0
+	 */
+	public final boolean get(int bit) {
+		
+		return ((long)WORDS.getAcquire(this.words, bit >>> 6) & (1L << bit)) != 0;
+	}
+	
+	/**
+	 * @param mask a mask created with {@link #createMask(int, int...)}
+	 * @return {@code true} if all bits of the mask are set, else {@code false}
+	 * @since 1.2.0
+	 */
+	public final boolean containsAll(long[] mask) {
+		
+		long before;
+		long after;
+		boolean containsAll;
+		
+		do {
+			
+			before = (long)VERSION.getAcquire(this);
+			containsAll = true;
+			
+			for(int index = 0; index < mask.length; index++) {
+				
+				long word = index < this.words.length ? (long)WORDS.getOpaque(this.words, index) : 0L;
+				
+				if((word & mask[index]) != mask[index]) {
+					
+					containsAll = false;
+				}
+			}
+			
+			VarHandle.acquireFence();
+			after = (long)VERSION.getOpaque(this);
+			
+		} while((before & 1) != 0 || before != after);
+		
+		return containsAll;
+	}
+	
+	/**
+	 * Copies the bits into the given array. The copy is consistent even while the owning thread modifies the bit set.
+	 * @param destination an array with at least {@link #getWordCount(int)} elements
+	 * @since 1.2.0
+	 */
+	public final void copyTo(long[] destination) {
+		
+		long before;
+		long after;
+		
+		do {
+			
+			before = (long)VERSION.getAcquire(this);
+			
+			for(int index = 0; index < this.words.length; index++) {
+				
+				destination[index] = (long)WORDS.getOpaque(this.words, index);
+			}
+			
+			VarHandle.acquireFence();
+			after = (long)VERSION.getOpaque(this);
+			
+		} while((before & 1) != 0 || before != after);
+	}
+	
+	/**
+	 * @return a consistent copy of the bits
+	 * @since 1.2.0
+	 */
+	public final long[] toLongArray() {
+		
+		long[] copy = new long[this.words.length];
+		this.copyTo(copy);
+		return copy;
+	}
+	
+	/**
+	 * @return the number of bits
+	 * @since 1.2.0
+	 */
+	public final int size() {
+		
+		return this.size;
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.internal;
+
+import net.java.games.input.Component;
+
+/**
+ * Identity based lookup table that maps the components of a controller to their position in {@code Controller#getComponents()}.
+ * Lookups neither box nor call {@code equals}, which makes them cheap enough to be done for every single event.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class ComponentIndex {
+
+	private final Component[] keys;
+	private final int[] values;
+	private final int mask;
+	
+	/**
+	 * @param components the components of a controller
+	 * @since 1.2.0
+	 */
+	public ComponentIndex(Component[] components) {
+		
+		int capacity = Integer.highestOneBit(Math.max(components.length, 1) * 2 - 1) << 1;
+		
+		this.keys = new Component[capacity];
+		this.values = new int[capacity];
+		this.mask = capacity - 1;
+		
+		for(int index = 0; index < components.length; index++) {
+			
+			int slot = this.slotOf(components[index]);
+			
+			while(this.keys[slot] != null) {
+				
+				slot = (slot + 1) & this.mask;
+			}
+			
+			this.keys[slot] = components[index];
+			this.values[slot] = index;
+		}
+	}
+	
+	private final int slotOf(Component component) {
+		
+		int hash = System.identityHashCode(component);
+		return (hash ^ (hash >>> 16)) & this.mask;
+	}
+	
+	/**
+	 * @param component the component
+	 * @return the position of the component in {@code Controller#getComponents()}, or {@code -1} if it does not belong to the controller
+	 * @since 1.2.0
+	 */
+	public final int indexOf(Component component) {
+		
+		int slot = this.slotOf(component);
+		Component key;
+		
+		while((key = this.keys[slot]) != null) {
+			
+			if(key == component) {
+				
+				return this.values[slot];
+			}
+			
+			slot = (slot + 1) & this.mask;
+		}
+		
+		return -1;
+	}
+}
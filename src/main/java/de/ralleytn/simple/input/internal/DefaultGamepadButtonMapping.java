@@ -28,7 +28,6 @@ import static net.java.games.input.Component.Identifier.Button.*;
 import java.util.Collections;
 import java.util.Map;
 
-import de.ralleytn.simple.input.Direction;
 import net.java.games.input.Component.Identifier;
 
 import static de.ralleytn.simple.input.GamepadEvent.*;
@@ -75,36 +74,6 @@ public final class DefaultGamepadButtonMapping {
 	
 	private DefaultGamepadButtonMapping() {}
 	
-	/**
-	 * Moved from {@linkplain Gamepad} to {@linkplain DefaultGamepadButtonMapping}.
-	 * @param value the value
-	 * @param x x value
-	 * @param y y value
-	 * @return the direction in which the analog stick is pushed
-	 * @since 1.0.0
-	 */
-	public static final Direction getAnalogStickDirection(float value, float x, float y) {
-		
-		Direction direction = null;
-		
-		if(value != 0.0F) {
-			
-			double angle = Math.toDegrees(Math.atan2(y, x));
-			
-			       if(angle == -90.0F) {direction = Direction.NORTH;
-			} else if(angle == 0.0F)   {direction = Direction.EAST;
-			} else if(angle == 180.0F) {direction = Direction.WEST;
-			} else if(angle == 90.0F)  {direction = Direction.SOUTH;
-			} else if(angle < -90.0F)  {direction = Direction.NORTH_WEST;
-			} else if(angle < 0.0F)    {direction = Direction.NORTH_EAST;
-			} else if(angle > 90.0F)   {direction = Direction.SOUTH_WEST;
-			} else if(angle > 0.0F)    {direction = Direction.SOUTH_EAST;
-			}
-		}
-		
-		return direction;
-	}
-	
 	/**
 	 * @return the button mapping
 	 * @since 1.0.0
@@ -0,0 +1,187 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free copy-on-write list of listeners.
+ * Adding or removing a listener replaces the backing array, so the poll thread can iterate over a snapshot of it
+ * without locking and without being affected by concurrent modifications.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ * @param <T> the listener type
+ */
+public final class ListenerList<T> {
+
+	private final AtomicReference<T[]> listeners;
+	
+	/**
+	 * @param empty an empty array of the listener type
+	 * @since 1.2.0
+	 */
+	public ListenerList(T[] empty) {
+		
+		this.listeners = new AtomicReference<>(empty);
+	}
+	
+	/**
+	 * Adds a listener to the end of the list.
+	 * @param listener the listener
+	 * @since 1.2.0
+	 */
+	public final void add(T listener) {
+		
+		T[] current;
+		T[] updated;
+		
+		do {
+			
+			current = this.listeners.get();
+			updated = Arrays.copyOf(current, current.length + 1);
+			updated[current.length] = listener;
+			
+		} while(!this.listeners.compareAndSet(current, updated));
+	}
+	
+	/**
+	 * Removes the first occurrence of a listener.
+	 * @param listener the listener
+	 * @return {@code true} if the listener was removed, else {@code false}
+	 * @since 1.2.0
+	 */
+	public final boolean remove(T listener) {
+		
+		T[] current;
+		T[] updated;
+		
+		do {
+			
+			current = this.listeners.get();
+			int index = ListenerList.indexOf(current, listener);
+			
+			if(index == -1) {
+				
+				return false;
+			}
+			
+			updated = ListenerList.without(current, index);
+			
+		} while(!this.listeners.compareAndSet(current, updated));
+		
+		return true;
+	}
+	
+	/**
+	 * Removes the listener with the given index.
+	 * @param index the index
+	 * @return the removed listener
+	 * @throws IndexOutOfBoundsException if there is no listener with the given index
+	 * @since 1.2.0
+	 */
+	public final T remove(int index) {
+		
+		T[] current;
+		T[] updated;
+		
+		do {
+			
+			current = this.listeners.get();
+			
+			if(index < 0 || index >= current.length) {
+				
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + current.length);
+			}
+			
+			updated = ListenerList.without(current, index);
+			
+		} while(!this.listeners.compareAndSet(current, updated));
+		
+		return current[index];
+	}
+	
+	/**
+	 * @param index the index
+	 * @return the listener with the given index
+	 * @throws IndexOutOfBoundsException if there is no listener with the given index
+	 * @since 1.2.0
+	 */
+	public final T get(int index) {
+		
+		return this.listeners.get()[index];
+	}
+	
+	/**
+	 * Returns the current backing array. It is never modified, so it can be iterated without any synchronization.
+	 * <b>Do not modify the returned array!</b>
+	 * @return the current listeners
+	 * @since 1.2.0
+	 */
+	public final T[] getSnapshot() {
+		
+		return this.listeners.get();
+	}
+	
+	/**
+	 * @return an unmodifiable list with the listeners at the time of the call
+	 * @since 1.2.0
+	 */
+	public final List<T> toList() {
+		
+		return Collections.unmodifiableList(Arrays.asList(this.listeners.get()));
+	}
+	
+	/**
+	 * @return the number of listeners
+	 * @since 1.2.0
+	 */
+	public final int size() {
+		
+		return this.listeners.get().length;
+	}
+	
+	private static final int indexOf(Object[] array, Object element) {
+		
+		for(int index = 0; index < array.length; index++) {
+			
+			if(array[index] == null ? element == null : array[index].equals(element)) {
+				
+				return index;
+			}
+		}
+		
+		return -1;
+	}
+	
+	private static final <T> T[] without(T[] array, int index) {
+		
+		T[] result = Arrays.copyOf(array, array.length - 1);
+		System.arraycopy(array, index + 1, result, index, result.length - index);
+		return result;
+	}
+}
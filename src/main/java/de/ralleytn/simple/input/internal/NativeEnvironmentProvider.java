@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.internal;
+
+import de.ralleytn.plugins.jinput.xinput.XInputEnvironmentPlugin;
+import de.ralleytn.simple.input.EnvironmentProvider;
+import net.java.games.input.ControllerEnvironment;
+
+/**
+ * Provides the XInput environment if it is supported and the default environment of JInput otherwise.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class NativeEnvironmentProvider implements EnvironmentProvider {
+
+	@Override
+	public String getName() {
+		
+		return "native";
+	}
+	
+	@Override
+	public ControllerEnvironment createEnvironment() {
+		
+		ControllerEnvironment environment = new XInputEnvironmentPlugin();
+		
+		if(!environment.isSupported()) {
+			
+			environment = ControllerEnvironment.getDefaultEnvironment();
+		}
+		
+		return environment;
+	}
+}
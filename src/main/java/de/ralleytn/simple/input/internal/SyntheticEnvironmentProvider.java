@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.internal;
+
+import de.ralleytn.simple.input.EnvironmentProvider;
+import de.ralleytn.simple.input.SyntheticEnvironment;
+import net.java.games.input.ControllerEnvironment;
+
+/**
+ * Provides a {@linkplain SyntheticEnvironment} that is configured with system properties.
+ * Has a lower priority than the native environment, so it has to be selected by its name.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class SyntheticEnvironmentProvider implements EnvironmentProvider {
+
+	@Override
+	public String getName() {
+		
+		return "synthetic";
+	}
+	
+	@Override
+	public ControllerEnvironment createEnvironment() {
+		
+		return SyntheticEnvironment.fromSystemProperties();
+	}
+	
+	@Override
+	public int getPriority() {
+		
+		return -100;
+	}
+}
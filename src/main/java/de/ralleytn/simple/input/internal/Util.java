@@ -25,11 +25,14 @@ package de.ralleytn.simple.input.internal;
 
 import java.awt.AWTException;
 import java.awt.Robot;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
+import de.ralleytn.simple.input.SyntheticController;
 import de.ralleytn.simple.input.XIGamepad;
+import net.java.games.input.Component;
 import net.java.games.input.Controller;
 import net.java.games.input.Controller.Type;
 import net.java.games.input.Component.Identifier;
@@ -37,7 +40,7 @@ import net.java.games.input.Component.Identifier;
 /**
  * Contains utility methods for SimpleInput.
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 1.1.0
+ * @version 1.2.0
  * @since 1.0.0
  */
 public final class Util {
@@ -100,6 +103,32 @@ public final class Util {
 		return map;
 	}
 	
+	/**
+	 * Translates a mapping into a dense table that is indexed by the position of the components in {@code Controller#getComponents()}.
+	 * This way the SimpleInput constant for an event can be looked up without hashing and boxing.
+	 * @param components the components of a controller
+	 * @param map the button or key mapping
+	 * @return the table; components that are not in the mapping have the value {@code -1}
+	 * @since 1.2.0
+	 */
+	public static final int[] toCodeTable(Component[] components, Map<Identifier, Integer> map) {
+		
+		int[] table = new int[components.length];
+		Arrays.fill(table, -1);
+		
+		for(int index = 0; index < components.length; index++) {
+			
+			Integer code = map.get(components[index].getIdentifier());
+			
+			if(code != null) {
+				
+				table[index] = code;
+			}
+		}
+		
+		return table;
+	}
+	
 	/**
 	 * If a gamepad has an RX, RY and a Z axis, it is probably an XInput gamepad.
 	 * THis method assumes that the controller has the type {@link Type#GAMEPAD}.
@@ -109,6 +138,11 @@ public final class Util {
 	 */
 	public static final boolean isXInput(Controller controller) {
 
+		if(controller instanceof SyntheticController) {
+			
+			return ((SyntheticController)controller).isXInput();
+		}
+		
 		return "XIController".equals(controller.getClass().getSimpleName());
 	}
 
@@ -24,13 +24,11 @@
 package de.ralleytn.simple.input.internal;
 
 import static de.ralleytn.simple.input.GamepadEvent.*;
-import static de.ralleytn.simple.input.Direction.*;
 import static net.java.games.input.Component.Identifier.Button.*;
 
 import java.util.Collections;
 import java.util.Map;
 
-import de.ralleytn.simple.input.Direction;
 import net.java.games.input.Component.Identifier;
 
 /**
@@ -73,36 +71,6 @@ public final class XIGamepadButtonMapping {
 	
 	private XIGamepadButtonMapping() {}
 	
-	/**
-	 * Gives the direction in which an analog stick is pushed.
-	 * Had to put these methods to the gamepad mapping classes because it is different for DirectInput and XInput.
-	 * XInput up and down is inverted to DirectInput.
-	 * @param value the value
-	 * @param x x value
-	 * @param y y value
-	 * @return the direction in which the analog stick is pushed
-	 * @since 1.1.0
-	 */
-	public static final Direction getAnalogStickDirection(float value, float x, float y) {
-		
-		if(value != 0.0F) {
-			
-			double angle = Math.toDegrees(Math.atan2(y, x));
-			
-			       if(angle == -90.0F) {return SOUTH;
-			} else if(angle == 0.0F)   {return EAST;
-			} else if(angle == 180.0F) {return WEST;
-			} else if(angle == 90.0F)  {return NORTH;
-			} else if(angle < -90.0F)  {return SOUTH_WEST;
-			} else if(angle < 0.0F)    {return SOUTH_EAST;
-			} else if(angle > 90.0F)   {return NORTH_WEST;
-			} else if(angle > 0.0F)    {return NORTH_EAST;
-			}
-		}
-		
-		return null;
-	}
-	
 	/**
 	 * @param nonav
 	 * @return the button mapping
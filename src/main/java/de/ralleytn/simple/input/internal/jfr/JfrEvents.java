@@ -0,0 +1,43 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.internal.jfr;
+
+import jdk.jfr.EventType;
+
+/**
+ * Event types of the JFR events that are emitted on the hot paths.
+ * All of them are disabled by default. As long as they are disabled, the only cost is a volatile read per check and no event object is created.
+ * They can be enabled with a recording setting like {@code de.ralleytn.simple.input.Poll#enabled=true}.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class JfrEvents {
+
+	/** @since 1.2.0 */ public static final EventType POLL = EventType.getEventType(PollEvent.class);
+	/** @since 1.2.0 */ public static final EventType DRAIN = EventType.getEventType(DrainEvent.class);
+	/** @since 1.2.0 */ public static final EventType SLOW_LISTENER = EventType.getEventType(SlowListenerEvent.class);
+	
+	private JfrEvents() {}
+}
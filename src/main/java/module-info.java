@@ -2,6 +2,15 @@ module de.ralleytn.simple.input {
 	
 	requires jinput;
 	requires java.desktop;
+	requires java.management;
+	requires jdk.jfr;
 	
 	exports de.ralleytn.simple.input;
-}
\ No newline at end of file
+	exports de.ralleytn.simple.input.internal.jfr to jdk.jfr;
+	
+	uses de.ralleytn.simple.input.EnvironmentProvider;
+	
+	provides de.ralleytn.simple.input.EnvironmentProvider with
+		de.ralleytn.simple.input.internal.NativeEnvironmentProvider,
+		de.ralleytn.simple.input.internal.SyntheticEnvironmentProvider;
+}
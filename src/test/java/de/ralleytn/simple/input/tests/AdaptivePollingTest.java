@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.Keyboard;
+import net.java.games.input.Component.Identifier.Key;
+import net.java.games.input.Controller.Type;
+
+class AdaptivePollingTest {
+
+	private static final TestController createController() {
+		
+		// NO SCRIPT; EVENTS ONLY COME FROM THE QUEUE
+		return new TestController("Test Keyboard", Type.KEYBOARD, new Key[] {Key.A}, false, new float[0], 0);
+	}
+	
+	@Test
+	public void testBackOffAndReset() {
+		
+		TestController controller = AdaptivePollingTest.createController();
+		DeviceManager.create(new TestEnvironment(controller));
+		Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+		keyboard.setPollInterval(Duration.ofMillis(10));
+		keyboard.setMaxPollInterval(Duration.ofMillis(100));
+		keyboard.setAdaptivePolling(true);
+		
+		long[] expected = {20, 40, 80, 100, 100};
+		
+		for(long millis : expected) {
+			
+			keyboard.poll();
+			assertEquals(Duration.ofMillis(millis), keyboard.getCurrentPollInterval());
+		}
+		
+		// THE FIRST EVENT GOES BACK TO THE NORMAL INTERVAL
+		controller.enqueue(0, 1.0F, System.nanoTime());
+		keyboard.poll();
+		assertEquals(Duration.ofMillis(10), keyboard.getCurrentPollInterval());
+		
+		keyboard.poll();
+		assertEquals(Duration.ofMillis(20), keyboard.getCurrentPollInterval());
+		
+		keyboard.setAdaptivePolling(false);
+		assertEquals(Duration.ofMillis(10), keyboard.getCurrentPollInterval());
+		keyboard.poll();
+		assertEquals(Duration.ofMillis(10), keyboard.getCurrentPollInterval());
+		
+		DeviceManager.destroy();
+	}
+	
+	@Test
+	public void testMaximumBelowPollInterval() {
+		
+		DeviceManager.create(new TestEnvironment(AdaptivePollingTest.createController()));
+		Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+		keyboard.setPollInterval(Duration.ofMillis(50));
+		keyboard.setMaxPollInterval(Duration.ofMillis(20));
+		keyboard.setAdaptivePolling(true);
+		
+		// THE INTERVAL NEVER GETS SHORTER THAN THE NORMAL ONE
+		keyboard.poll();
+		assertEquals(Duration.ofMillis(50), keyboard.getCurrentPollInterval());
+		keyboard.poll();
+		assertEquals(Duration.ofMillis(50), keyboard.getCurrentPollInterval());
+		
+		DeviceManager.destroy();
+	}
+	
+	@Test
+	public void testOverflowIsClamped() {
+		
+		DeviceManager.create(new TestEnvironment(AdaptivePollingTest.createController()));
+		Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+		keyboard.setPollInterval(Duration.ofNanos(1L << 62));
+		keyboard.setMaxPollInterval(Duration.ofNanos(Long.MAX_VALUE));
+		keyboard.setAdaptivePolling(true);
+		
+		// 2^62 DOUBLED OVERFLOWS TO A NEGATIVE NUMBER
+		keyboard.poll();
+		assertEquals(Duration.ofNanos(Long.MAX_VALUE), keyboard.getCurrentPollInterval());
+		keyboard.poll();
+		assertEquals(Duration.ofNanos(Long.MAX_VALUE), keyboard.getCurrentPollInterval());
+		
+		DeviceManager.destroy();
+	}
+	
+	@Test
+	public void testZeroPollInterval() {
+		
+		DeviceManager.create(new TestEnvironment(AdaptivePollingTest.createController()));
+		Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+		keyboard.setPollInterval(Duration.ZERO);
+		keyboard.setMaxPollInterval(Duration.ofNanos(8));
+		keyboard.setAdaptivePolling(true);
+		
+		long[] expected = {2, 4, 8, 8};
+		
+		for(long nanos : expected) {
+			
+			keyboard.poll();
+			assertEquals(Duration.ofNanos(nanos), keyboard.getCurrentPollInterval());
+		}
+		
+		DeviceManager.destroy();
+	}
+}
@@ -0,0 +1,527 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.AsyncDispatcher;
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.DeviceState;
+import de.ralleytn.simple.input.Keyboard;
+import de.ralleytn.simple.input.KeyboardEvent;
+import de.ralleytn.simple.input.KeyboardListener;
+import de.ralleytn.simple.input.Mouse;
+import de.ralleytn.simple.input.MouseAdapter;
+import de.ralleytn.simple.input.MouseEvent;
+import de.ralleytn.simple.input.OverflowPolicy;
+import net.java.games.input.Component;
+import net.java.games.input.Component.Identifier.Axis;
+import net.java.games.input.Component.Identifier.Key;
+import net.java.games.input.Controller.Type;
+import net.java.games.input.Event;
+
+class AsyncDispatcherTest {
+
+	private static final Keyboard createKeyboard() {
+		
+		// A DOWN, A UP, S DOWN, S UP
+		TestController controller = new TestController("Test Keyboard", Type.KEYBOARD, new Key[] {Key.A, Key.S}, false, new float[] {0, 1, 0, 0, 1, 1, 1, 0}, 4);
+		DeviceManager.create(new TestEnvironment(controller));
+		return DeviceManager.getKeyboards().get(0);
+	}
+	
+	@Test
+	public void testListenersAreCalledByTheConsumerInOrder() throws InterruptedException {
+		
+		Keyboard keyboard = AsyncDispatcherTest.createKeyboard();
+		keyboard.enableAsyncDispatch(16, OverflowPolicy.BLOCK);
+		CountDownLatch latch = new CountDownLatch(400);
+		List<Integer> keys = new ArrayList<>();
+		Thread[] consumer = new Thread[1];
+		keyboard.addKeyboardListener(new KeyboardListener() {
+			
+			@Override
+			public void onKeyPress(KeyboardEvent event) {
+				
+				consumer[0] = Thread.currentThread();
+				keys.add(event.getKeyCode());
+				latch.countDown();
+			}
+			
+			@Override
+			public void onKeyRelease(KeyboardEvent event) {
+				
+				keys.add(-event.getKeyCode());
+				latch.countDown();
+			}
+		});
+		
+		for(int poll = 0; poll < 100; poll++) {
+			
+			keyboard.poll();
+		}
+		
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertNotSame(Thread.currentThread(), consumer[0]);
+		assertEquals(0L, keyboard.getAsyncDispatcher().getDroppedEventCount());
+		
+		for(int index = 0; index < keys.size(); index += 4) {
+			
+			assertEquals(KeyboardEvent.KEY_A, (int)keys.get(index));
+			assertEquals(-KeyboardEvent.KEY_A, (int)keys.get(index + 1));
+			assertEquals(KeyboardEvent.KEY_S, (int)keys.get(index + 2));
+			assertEquals(-KeyboardEvent.KEY_S, (int)keys.get(index + 3));
+		}
+		
+		DeviceManager.destroy();
+	}
+	
+	@Test
+	public void testDropOldest() {
+		
+		Keyboard keyboard = AsyncDispatcherTest.createKeyboard();
+		List<Runnable> tasks = new ArrayList<>();
+		keyboard.enableAsyncDispatch(4, OverflowPolicy.DROP_OLDEST, tasks::add);
+		int[] events = new int[1];
+		keyboard.addKeyboardListener(new KeyboardListener() {
+			
+			@Override public void onKeyPress(KeyboardEvent event) {events[0]++;}
+			@Override public void onKeyRelease(KeyboardEvent event) {events[0]++;}
+		});
+		
+		// 3 POLLS WITH 4 EVENTS AND AN END OF POLL MARKER EACH
+		keyboard.poll();
+		keyboard.poll();
+		keyboard.poll();
+		
+		AsyncDispatcher dispatcher = keyboard.getAsyncDispatcher();
+		assertEquals(4, dispatcher.getPendingEventCount());
+		assertEquals(11L, dispatcher.getDroppedEventCount());
+		assertEquals(1, tasks.size());
+		
+		tasks.get(0).run();
+		
+		assertEquals(0, dispatcher.getPendingEventCount());
+		assertEquals(3, events[0]);
+		assertFalse(keyboard.isKeyDown(KeyboardEvent.KEY_A));
+		assertFalse(keyboard.isKeyDown(KeyboardEvent.KEY_S));
+		DeviceManager.destroy();
+	}
+	
+	@Test
+	public void testCoalesceKeepsTheLatestState() {
+		
+		TestController controller = new TestController("Test Keyboard", Type.KEYBOARD, new Key[] {Key.A, Key.S}, false, new float[] {0, 1, 1, 1, 0, 0, 0, 1, 1, 0, 1, 1}, 6);
+		DeviceManager.create(new TestEnvironment(controller));
+		Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+		List<Runnable> tasks = new ArrayList<>();
+		keyboard.enableAsyncDispatch(2, OverflowPolicy.COALESCE, tasks::add);
+		
+		// A DOWN, S DOWN, A UP, A DOWN, S UP, S DOWN
+		keyboard.poll();
+		
+		AsyncDispatcher dispatcher = keyboard.getAsyncDispatcher();
+		assertEquals(2, dispatcher.getPendingEventCount());
+		assertEquals(2L, dispatcher.getCoalescedEventCount());
+		assertEquals(0L, dispatcher.getDroppedEventCount());
+		
+		// THE CONSUMER MAKES ROOM, EVERY FOLLOWING POLL FLUSHES THE COALESCED EVENTS FIRST
+		for(int poll = 0; poll < 4; poll++) {
+			
+			tasks.get(0).run();
+			keyboard.poll();
+		}
+		
+		tasks.get(0).run();
+		
+		assertTrue(keyboard.isKeyDown(KeyboardEvent.KEY_A));
+		assertTrue(keyboard.isKeyDown(KeyboardEvent.KEY_S));
+		DeviceManager.destroy();
+	}
+	
+	@Test
+	public void testStatesAreCapturedByTheConsumer() {
+		
+		// A DOWN, A UP; ONE EVENT PER POLL
+		TestController controller = new TestController("Test Keyboard", Type.KEYBOARD, new Key[] {Key.A}, false, new float[] {0, 1, 0, 0}, 1);
+		DeviceManager.create(new TestEnvironment(controller));
+		Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+		List<Runnable> tasks = new ArrayList<>();
+		keyboard.enableAsyncDispatch(16, OverflowPolicy.BLOCK, tasks::add);
+		DeviceState initial = keyboard.getState();
+		
+		// THE LISTENERS DID NOT SEE THE POLL YET, SO NEITHER DOES THE STATE
+		keyboard.poll();
+		assertSame(initial, keyboard.getState());
+		
+		while(!tasks.isEmpty()) {
+			
+			tasks.remove(0).run();
+		}
+		
+		DeviceState pressed = keyboard.getState();
+		assertEquals(1L, pressed.getSequence());
+		assertTrue(pressed.isButtonDown(KeyboardEvent.KEY_A));
+		assertEquals(1.0F, pressed.getValue(Key.A));
+		
+		keyboard.poll();
+		
+		while(!tasks.isEmpty()) {
+			
+			tasks.remove(0).run();
+		}
+		
+		DeviceState released = keyboard.getState();
+		assertEquals(2L, released.getSequence());
+		assertFalse(released.isButtonDown(KeyboardEvent.KEY_A));
+		assertEquals(0.0F, released.getValue(Key.A));
+		DeviceManager.destroy();
+	}
+	
+	@Test
+	public void testDisableWhileEventsAreInFlight() {
+		
+		Keyboard keyboard = AsyncDispatcherTest.createKeyboard();
+		keyboard.enableAsyncDispatch(64, OverflowPolicy.BLOCK);
+		List<Integer> keys = new ArrayList<>();
+		List<Thread> threads = new ArrayList<>();
+		AtomicInteger active = new AtomicInteger();
+		AtomicBoolean overlapped = new AtomicBoolean();
+		keyboard.addKeyboardListener(new KeyboardListener() {
+			
+			private final void record(int key) {
+				
+				if(active.incrementAndGet() > 1) {
+					
+					overlapped.set(true);
+				}
+				
+				try {
+					
+					// SLOW ENOUGH THAT THE POLLS BELOW OUTRUN THE CONSUMER
+					Thread.sleep(1);
+					
+				} catch(InterruptedException exception) {
+					
+					Thread.currentThread().interrupt();
+				}
+				
+				synchronized(keys) {
+					
+					keys.add(key);
+					threads.add(Thread.currentThread());
+				}
+				
+				active.decrementAndGet();
+			}
+			
+			@Override public void onKeyPress(KeyboardEvent event) {this.record(event.getKeyCode());}
+			@Override public void onKeyRelease(KeyboardEvent event) {this.record(-event.getKeyCode());}
+		});
+		
+		for(int poll = 0; poll < 10; poll++) {
+			
+			keyboard.poll();
+		}
+		
+		keyboard.disableAsyncDispatch();
+		
+		// EVERYTHING THAT WAS IN FLIGHT WAS DISPATCHED BEFORE THE HAND-OFF
+		assertNull(keyboard.getAsyncDispatcher());
+		assertEquals(40, keys.size());
+		
+		keyboard.poll();
+		
+		assertEquals(44, keys.size());
+		assertFalse(overlapped.get());
+		
+		for(int index = 0; index < keys.size(); index += 4) {
+			
+			assertEquals(KeyboardEvent.KEY_A, (int)keys.get(index));
+			assertEquals(-KeyboardEvent.KEY_A, (int)keys.get(index + 1));
+			assertEquals(KeyboardEvent.KEY_S, (int)keys.get(index + 2));
+			assertEquals(-KeyboardEvent.KEY_S, (int)keys.get(index + 3));
+		}
+		
+		for(int index = 40; index < 44; index++) {
+			
+			assertSame(Thread.currentThread(), threads.get(index));
+		}
+		
+		DeviceManager.destroy();
+	}
+	
+	@Test
+	public void testDisableFlushesCoalescedEvents() {
+		
+		TestController controller = new TestController("Test Keyboard", Type.KEYBOARD, new Key[] {Key.A, Key.S}, false, new float[] {0, 1, 1, 1, 0, 0, 0, 1, 1, 0, 1, 1}, 6);
+		DeviceManager.create(new TestEnvironment(controller));
+		Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+		List<Runnable> tasks = new ArrayList<>();
+		keyboard.enableAsyncDispatch(2, OverflowPolicy.COALESCE, tasks::add);
+		int[] events = new int[1];
+		keyboard.addKeyboardListener(new KeyboardListener() {
+			
+			@Override public void onKeyPress(KeyboardEvent event) {events[0]++;}
+			@Override public void onKeyRelease(KeyboardEvent event) {events[0]++;}
+		});
+		
+		// A DOWN, S DOWN, A UP, A DOWN, S UP, S DOWN; 2 EVENTS IN THE RING BUFFER, THE REST COALESCED
+		keyboard.poll();
+		
+		// THE EXECUTOR NEVER RAN THE TASK, SO THE DISABLING THREAD DISPATCHES EVERYTHING
+		keyboard.disableAsyncDispatch();
+		
+		assertEquals(4, events[0]);
+		assertTrue(keyboard.isKeyDown(KeyboardEvent.KEY_A));
+		assertTrue(keyboard.isKeyDown(KeyboardEvent.KEY_S));
+		
+		// THE LATE TASK MUST NOT DISPATCH ANYTHING
+		tasks.get(0).run();
+		
+		assertEquals(4, events[0]);
+		DeviceManager.destroy();
+	}
+	
+	@Test
+	public void testDisableFromListenerCompletesOnNextPoll() throws InterruptedException {
+		
+		Keyboard keyboard = AsyncDispatcherTest.createKeyboard();
+		keyboard.enableAsyncDispatch(16, OverflowPolicy.BLOCK);
+		CountDownLatch latch = new CountDownLatch(4);
+		List<Integer> keys = new ArrayList<>();
+		keyboard.addKeyboardListener(new KeyboardListener() {
+			
+			@Override
+			public void onKeyPress(KeyboardEvent event) {
+				
+				keyboard.disableAsyncDispatch();
+				keys.add(event.getKeyCode());
+				latch.countDown();
+			}
+			
+			@Override
+			public void onKeyRelease(KeyboardEvent event) {
+				
+				keys.add(-event.getKeyCode());
+				latch.countDown();
+			}
+		});
+		
+		keyboard.poll();
+		
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		
+		keyboard.poll();
+		
+		assertNull(keyboard.getAsyncDispatcher());
+		assertEquals(8, keys.size());
+		assertEquals(KeyboardEvent.KEY_A, (int)keys.get(4));
+		assertEquals(-KeyboardEvent.KEY_S, (int)keys.get(7));
+		DeviceManager.destroy();
+	}
+	
+	@Test
+	public void testListenersCanQueryTheDeviceWhileThePollBlocks() throws InterruptedException {
+		
+		Keyboard keyboard = AsyncDispatcherTest.createKeyboard();
+		keyboard.enableAsyncDispatch(1, OverflowPolicy.BLOCK);
+		AsyncDispatcher dispatcher = keyboard.getAsyncDispatcher();
+		CountDownLatch latch = new CountDownLatch(4);
+		List<DeviceState> states = new ArrayList<>();
+		keyboard.addKeyboardListener(new KeyboardListener() {
+			
+			@Override
+			public void onKeyPress(KeyboardEvent event) {
+				
+				if(states.isEmpty()) {
+					
+					long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+					
+					// THE POLLING THREAD IS NOW WAITING FOR ROOM
+					while(dispatcher.getPendingEventCount() < dispatcher.getCapacity() && System.nanoTime() < deadline) {
+						
+						Thread.onSpinWait();
+					}
+					
+					states.add(keyboard.getState());
+					DeviceManager.snapshot();
+				}
+				
+				latch.countDown();
+			}
+			
+			@Override
+			public void onKeyRelease(KeyboardEvent event) {
+				
+				latch.countDown();
+			}
+		});
+		
+		Thread poller = new Thread(keyboard::poll);
+		poller.setDaemon(true);
+		poller.start();
+		poller.join(TimeUnit.SECONDS.toMillis(5));
+		
+		assertFalse(poller.isAlive());
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertEquals(1, states.size());
+		assertEquals(0L, dispatcher.getDroppedEventCount());
+		DeviceManager.destroy();
+	}
+	
+	@Test
+	public void testDisableWhileAListenerQueriesTheDevice() throws InterruptedException {
+		
+		Keyboard keyboard = AsyncDispatcherTest.createKeyboard();
+		keyboard.enableAsyncDispatch(16, OverflowPolicy.BLOCK);
+		CountDownLatch inListener = new CountDownLatch(1);
+		CountDownLatch disabling = new CountDownLatch(1);
+		AtomicInteger events = new AtomicInteger();
+		keyboard.addKeyboardListener(new KeyboardListener() {
+			
+			@Override
+			public void onKeyPress(KeyboardEvent event) {
+				
+				if(events.getAndIncrement() == 0) {
+					
+					inListener.countDown();
+					
+					try {
+						
+						// GIVES THE DISABLING THREAD TIME TO START WAITING FOR THIS LISTENER
+						disabling.await(5, TimeUnit.SECONDS);
+						Thread.sleep(50);
+						
+					} catch(InterruptedException exception) {
+						
+						Thread.currentThread().interrupt();
+					}
+					
+					keyboard.getState();
+				}
+			}
+			
+			@Override
+			public void onKeyRelease(KeyboardEvent event) {
+				
+				events.incrementAndGet();
+			}
+		});
+		
+		keyboard.poll();
+		assertTrue(inListener.await(5, TimeUnit.SECONDS));
+		
+		Thread disabler = new Thread(keyboard::disableAsyncDispatch);
+		disabler.setDaemon(true);
+		disabler.start();
+		disabling.countDown();
+		disabler.join(TimeUnit.SECONDS.toMillis(5));
+		
+		assertFalse(disabler.isAlive());
+		assertNull(keyboard.getAsyncDispatcher());
+		assertEquals(4, events.get());
+		DeviceManager.destroy();
+	}
+	
+	private static final List<String> recordForeignMoves(boolean async) {
+		
+		Component foreign = new TestController("Other Mouse", Type.MOUSE, new Axis[] {Axis.X}, true, new float[0], 0).getComponents()[0];
+		
+		// X BY 1, X BY 2 FROM A COMPONENT THE CONTROLLER DOES NOT KNOW, Y BY 3
+		TestController controller = new TestController("Test Mouse", Type.MOUSE, new Axis[] {Axis.X, Axis.Y}, true, new float[] {0, 1, 0, 2, 1, 3}, 3) {
+			
+			private int events;
+			
+			@Override
+			protected synchronized boolean getNextDeviceEvent(Event event) {
+				
+				if(!super.getNextDeviceEvent(event)) {
+					
+					return false;
+				}
+				
+				if(++this.events % 3 == 2) {
+					
+					event.set(foreign, event.getValue(), event.getNanos());
+				}
+				
+				return true;
+			}
+		};
+		
+		DeviceManager.create(new TestEnvironment(controller));
+		Mouse mouse = DeviceManager.getMice().get(0);
+		mouse.setReusingEvents(true);
+		mouse.setCoalescingMotion(true);
+		List<Runnable> tasks = new ArrayList<>();
+		List<String> moves = new ArrayList<>();
+		mouse.addMouseListener(new MouseAdapter() {
+			
+			@Override
+			public void onMove(MouseEvent event) {
+				
+				moves.add(event.getDeltaX() + "," + event.getDeltaY());
+			}
+		});
+		
+		if(async) {
+			
+			mouse.enableAsyncDispatch(16, OverflowPolicy.BLOCK, tasks::add);
+		}
+		
+		mouse.poll();
+		mouse.poll();
+		
+		for(Runnable task : tasks) {
+			
+			task.run();
+		}
+		
+		DeviceManager.destroy();
+		return moves;
+	}
+	
+	@Test
+	public void testForeignComponentsAreDispatchedLikeOnThePollingThread() {
+		
+		// THE FOREIGN EVENT IS NEITHER LOST NOR MISTAKEN FOR THE END OF THE POLL
+		assertEquals(List.of("3,3", "3,3"), AsyncDispatcherTest.recordForeignMoves(false));
+		assertEquals(List.of("3,3", "3,3"), AsyncDispatcherTest.recordForeignMoves(true));
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.Keyboard;
+import de.ralleytn.simple.input.KeyboardEvent;
+import de.ralleytn.simple.input.internal.AtomicBitSet;
+import net.java.games.input.Component.Identifier.Key;
+import net.java.games.input.Controller.Type;
+
+class AtomicBitSetTest {
+
+	@Test
+	public void testSetAndGet() {
+		
+		AtomicBitSet bits = new AtomicBitSet(130);
+		bits.set(0, true);
+		bits.set(64, true);
+		bits.set(129, true);
+		bits.set(64, false);
+		
+		assertTrue(bits.get(0));
+		assertFalse(bits.get(64));
+		assertTrue(bits.get(129));
+		assertEquals(3, bits.toLongArray().length);
+		assertEquals(1L, bits.toLongArray()[0]);
+		assertEquals(2L, bits.toLongArray()[2]);
+	}
+	
+	@Test
+	public void testMask() {
+		
+		AtomicBitSet bits = new AtomicBitSet(130);
+		long[] mask = AtomicBitSet.createMask(130, 3, 100);
+		bits.set(3, true);
+		
+		assertFalse(bits.containsAll(mask));
+		
+		bits.set(100, true);
+		bits.set(7, true);
+		
+		assertTrue(bits.containsAll(mask));
+	}
+	
+	@Test
+	public void testKeyboardChord() {
+		
+		DeviceManager.create(new TestEnvironment(new TestController("Test Keyboard", Type.KEYBOARD, new Key[] {Key.LCONTROL, Key.S}, false, new float[] {0, 1, 1, 1, 0, 0, 1, 0}, 1)));
+		Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+		long[] save = Keyboard.createKeyMask(KeyboardEvent.KEY_CONTROL, KeyboardEvent.KEY_S);
+		
+		keyboard.poll();
+		assertTrue(keyboard.isKeyDown(KeyboardEvent.KEY_CONTROL));
+		assertFalse(keyboard.areKeysDown(save));
+		
+		keyboard.poll();
+		assertTrue(keyboard.areKeysDown(save));
+		
+		keyboard.poll();
+		assertFalse(keyboard.areKeysDown(save));
+		assertTrue(keyboard.isKeyDown(KeyboardEvent.KEY_S));
+		
+		DeviceManager.destroy();
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.AxisFilter;
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.Gamepad;
+import de.ralleytn.simple.input.GamepadEvent;
+import de.ralleytn.simple.input.GamepadListener;
+import net.java.games.input.Component.Identifier.Axis;
+import net.java.games.input.Controller.Type;
+
+class AxisFilterTest {
+
+	private static final List<Float> pushStick(AxisFilter filter, float[] script, int eventsPerPoll, int polls, long pause) throws InterruptedException {
+		
+		DeviceManager.create(new TestEnvironment(new TestController("Test Gamepad", Type.STICK, new Axis[] {Axis.X, Axis.Y}, false, script, eventsPerPoll)));
+		Gamepad gamepad = DeviceManager.getGamepads().get(0);
+		gamepad.setAnalogStickFilter(GamepadEvent.ANALOG_STICK_LEFT, filter);
+		List<Float> pushes = new ArrayList<>();
+		gamepad.addGamepadListener(new GamepadListener() {
+			
+			@Override public void onAnalogStickPush(GamepadEvent event) {pushes.add(event.getX());}
+			@Override public void onButtonPress(GamepadEvent event) {}
+			@Override public void onButtonRelease(GamepadEvent event) {}
+			@Override public void onPOVPress(GamepadEvent event) {}
+			@Override public void onPOVRelease(GamepadEvent event) {}
+		});
+		
+		for(int poll = 0; poll < polls; poll++) {
+			
+			gamepad.poll();
+			Thread.sleep(pause);
+		}
+		
+		DeviceManager.destroy();
+		return pushes;
+	}
+	
+	@Test
+	public void testQuantize() {
+		
+		AxisFilter filter = AxisFilter.NONE.withQuantization(0.25F);
+		
+		assertEquals(0.25F, filter.quantize(0.3F));
+		assertEquals(0.5F, filter.quantize(0.45F));
+		assertEquals(-1.0F, filter.quantize(-0.95F));
+		assertEquals(0.3F, AxisFilter.NONE.quantize(0.3F));
+		assertThrows(IllegalArgumentException.class, () -> AxisFilter.NONE.withEpsilon(-0.1F));
+	}
+	
+	@Test
+	public void testEpsilon() throws InterruptedException {
+		
+		List<Float> pushes = AxisFilterTest.pushStick(AxisFilter.NONE.withEpsilon(0.1F), new float[] {0, 0.5F, 0, 0.52F, 0, 0.55F, 0, 0.65F, 0, 0.0F}, 5, 1, 0);
+		
+		// THE RETURN TO ZERO IS DELIVERED BUT DOES NOT EXCEED THE DEAD ZONE
+		assertEquals(List.of(0.5F, 0.65F), pushes);
+	}
+	
+	@Test
+	public void testQuantization() throws InterruptedException {
+		
+		List<Float> pushes = AxisFilterTest.pushStick(AxisFilter.NONE.withQuantization(0.25F), new float[] {0, 0.3F, 0, 0.35F, 0, 0.45F, 0, 0.6F}, 4, 1, 0);
+		assertEquals(List.of(0.25F, 0.5F), pushes);
+	}
+	
+	@Test
+	public void testMinInterval() throws InterruptedException {
+		
+		List<Float> pushes = AxisFilterTest.pushStick(AxisFilter.NONE.withMinInterval(Duration.ofMillis(20)), new float[] {0, 0.3F, 0, 0.6F, 0, 0.9F, 0, 0.9F, 0, 0.9F, 0, 0.9F}, 3, 2, 40);
+		
+		// THE NEWEST HELD BACK VALUE IS DELIVERED AFTER THE INTERVAL
+		assertEquals(List.of(0.3F, 0.9F), pushes);
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.DeadZone;
+import de.ralleytn.simple.input.DeadZoneType;
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.Gamepad;
+import de.ralleytn.simple.input.GamepadEvent;
+import de.ralleytn.simple.input.GamepadListener;
+import net.java.games.input.Component.Identifier.Axis;
+import net.java.games.input.Controller.Type;
+
+class DeadZoneTest {
+
+	@Test
+	public void testAxial() {
+		
+		float[] result = new float[2];
+		DeadZone.DEFAULT.process(0.05F, -0.5F, result);
+		
+		assertEquals(0.0F, result[0]);
+		assertEquals(-0.5F, result[1]);
+		assertEquals(-0.1F, DeadZone.DEFAULT.process(-0.1F));
+		assertEquals(0.3F, DeadZone.NONE.process(0.3F));
+	}
+	
+	@Test
+	public void testRadial() {
+		
+		DeadZone deadZone = new DeadZone(DeadZoneType.RADIAL, 0.2F, 1.0F);
+		float[] result = new float[2];
+		
+		// INSIDE THE CIRCLE ALTHOUGH BOTH AXES ARE OUTSIDE OF THE DEFAULT AXIAL DEAD ZONE
+		deadZone.process(0.13F, 0.13F, result);
+		assertEquals(0.0F, result[0]);
+		assertEquals(0.0F, result[1]);
+		
+		deadZone.process(0.05F, 0.5F, result);
+		assertEquals(0.05F, result[0], 0.0001F);
+		assertEquals(0.5F, result[1], 0.0001F);
+	}
+	
+	@Test
+	public void testScaledRadial() {
+		
+		DeadZone deadZone = new DeadZone(DeadZoneType.SCALED_RADIAL, 0.2F, 0.9F);
+		float[] result = new float[2];
+		
+		deadZone.process(0.0F, 0.2F, result);
+		assertEquals(0.0F, result[1], 0.0001F);
+		
+		deadZone.process(0.0F, -0.55F, result);
+		assertEquals(-0.5F, result[1], 0.0001F);
+		
+		// BEYOND THE OUTER DEAD ZONE THE DIRECTION IS KEPT
+		deadZone.process(0.8F, 0.8F, result);
+		assertEquals(Math.sqrt(0.5), result[0], 0.0001F);
+		assertEquals(Math.sqrt(0.5), result[1], 0.0001F);
+		
+		assertEquals(1.0F, deadZone.process(0.95F));
+		assertThrows(IllegalArgumentException.class, () -> deadZone.withInner(0.95F));
+	}
+	
+	@Test
+	public void testResponseCurve() {
+		
+		DeadZone deadZone = DeadZone.NONE.withExponent(2.0F);
+		
+		assertEquals(0.25F, deadZone.process(0.5F), 0.001F);
+		assertEquals(-0.09F, deadZone.process(-0.3F), 0.001F);
+		assertEquals(1.0F, deadZone.process(1.0F), 0.001F);
+		assertEquals(0.0F, deadZone.process(0.0F));
+	}
+	
+	@Test
+	public void testGamepad() {
+		
+		DeviceManager.create(new TestEnvironment(new TestController("Test Gamepad", Type.STICK, new Axis[] {Axis.X, Axis.Y}, false, new float[] {0, 0.15F, 1, 0.15F, 0, 0.6F}, 3)));
+		Gamepad gamepad = DeviceManager.getGamepads().get(0);
+		gamepad.setAnalogStickDeadZone(GamepadEvent.ANALOG_STICK_LEFT, new DeadZone(DeadZoneType.SCALED_RADIAL, 0.25F, 1.0F));
+		List<String> pushes = new ArrayList<>();
+		gamepad.addGamepadListener(new GamepadListener() {
+			
+			@Override public void onAnalogStickPush(GamepadEvent event) {pushes.add(Math.round(event.getX() * 100) + "," + Math.round(event.getY() * 100));}
+			@Override public void onButtonPress(GamepadEvent event) {}
+			@Override public void onButtonRelease(GamepadEvent event) {}
+			@Override public void onPOVPress(GamepadEvent event) {}
+			@Override public void onPOVRelease(GamepadEvent event) {}
+		});
+		
+		gamepad.poll();
+		DeviceManager.destroy();
+		
+		// THE FIRST TWO SAMPLES ARE INSIDE THE RADIAL DEAD ZONE
+		assertEquals(List.of("48,12"), pushes);
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.DeviceMetrics;
+import de.ralleytn.simple.input.Keyboard;
+import de.ralleytn.simple.input.KeyboardEvent;
+import de.ralleytn.simple.input.KeyboardListener;
+import net.java.games.input.Component.Identifier.Key;
+import net.java.games.input.Controller.Type;
+
+class DeviceMetricsTest {
+
+	private static final TestEnvironment createEnvironment() {
+		
+		return new TestEnvironment(new TestController("Test Keyboard", Type.KEYBOARD, new Key[] {Key.A, Key.S}, false, new float[] {0, 1, 1, 1, 0, 0, 1, 0}, 4));
+	}
+	
+	@Test
+	public void testMetrics() {
+		
+		DeviceManager.create(DeviceMetricsTest.createEnvironment());
+		Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+		DeviceMetrics metrics = keyboard.getMetrics();
+		keyboard.addKeyboardListener(new KeyboardListener() {
+			
+			@Override public void onKeyPress(KeyboardEvent event) {}
+			@Override public void onKeyRelease(KeyboardEvent event) {}
+		});
+		
+		assertNull(metrics.getTimeSinceLastEvent());
+		assertEquals(-1L, metrics.getNanosSinceLastEvent());
+		
+		metrics.setRecordingDispatchDuration(true);
+		
+		for(int poll = 0; poll < 10; poll++) {
+			
+			keyboard.poll();
+		}
+		
+		assertEquals(10L, metrics.getPollCount());
+		assertEquals(40L, metrics.getEventCount());
+		assertEquals(10L, metrics.getPollDuration().getCount());
+		assertEquals(40L, metrics.getDispatchDuration().getCount());
+		assertEquals(4L, metrics.getMaxDrainSize());
+		assertEquals(4L, metrics.getDrainSize().getValueAtPercentile(50.0));
+		assertEquals(4.0, metrics.getDrainSize().getMean(), 0.0);
+		assertTrue(metrics.getPollDuration().getValueAtPercentile(99.0) <= metrics.getMaxPollDuration());
+		assertTrue(metrics.getEventsPerSecond() > 0.0);
+		assertNotNull(metrics.getTimeSinceLastEvent());
+		assertEquals(0L, metrics.getDisconnectCount());
+		
+		metrics.reset();
+		
+		assertEquals(0L, metrics.getPollCount());
+		assertEquals(0L, metrics.getPollDuration().getCount());
+		assertEquals(0L, metrics.getPollDuration().getValueAtPercentile(99.0));
+		DeviceManager.destroy();
+	}
+	
+	@Test
+	public void testMBeansAreRegistered() throws Exception {
+		
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName query = new ObjectName("de.ralleytn.simple.input:type=Keyboard,*");
+		System.setProperty(DeviceMetrics.JMX_PROPERTY, "true");
+		
+		try {
+			
+			DeviceManager.create(DeviceMetricsTest.createEnvironment());
+			DeviceManager.getKeyboards().get(0).poll();
+			
+			ObjectName name = server.queryNames(query, null).iterator().next();
+			assertEquals(4L, server.getAttribute(name, "EventCount"));
+			assertEquals("Test Keyboard", server.getAttribute(name, "DeviceName"));
+			
+			DeviceManager.destroy();
+			
+			assertTrue(server.queryNames(query, null).isEmpty());
+			
+		} finally {
+			
+			System.clearProperty(DeviceMetrics.JMX_PROPERTY);
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.DeviceRegistry;
+import de.ralleytn.simple.input.Keyboard;
+import de.ralleytn.simple.input.SyntheticController;
+import de.ralleytn.simple.input.SyntheticEnvironment;
+
+class DeviceRegistryTest {
+
+	@Test
+	public void testLookups() {
+		
+		DeviceManager.create(new SyntheticEnvironment(
+			SyntheticController.createKeyboard("Keyboard", 0.0),
+			SyntheticController.createKeyboard("Keyboard", 0.0),
+			SyntheticController.createMouse("Mouse", 0.0),
+			SyntheticController.createGamepad("Gamepad", 0.0)
+		));
+		
+		DeviceRegistry registry = DeviceManager.getRegistry();
+		
+		assertEquals(4, registry.getDevices().size());
+		assertEquals(2, registry.getKeyboards().size());
+		assertEquals(1, registry.getMice().size());
+		assertEquals(1, registry.getGamepads().size());
+		assertEquals(2, registry.getKeyboardsByName("Keyboard").size());
+		assertEquals(2, registry.getDevicesByName("Keyboard").size());
+		assertTrue(registry.getMiceByName("Keyboard").isEmpty());
+		assertEquals(4, registry.getDevicesByPort(0).size());
+		assertTrue(registry.getDevicesByPort(1).isEmpty());
+		
+		// CACHED AND IMMUTABLE
+		assertSame(DeviceManager.getKeyboards(), DeviceManager.getKeyboards());
+		assertSame(registry.getKeyboardsByName("Keyboard"), DeviceManager.getKeyboardsByName("Keyboard"));
+		assertThrows(UnsupportedOperationException.class, () -> DeviceManager.getKeyboards().clear());
+		
+		DeviceManager.destroy();
+		
+		assertTrue(DeviceManager.getKeyboards().isEmpty());
+	}
+	
+	@Test
+	public void testRegistryIsRebuiltOnHotPlug() {
+		
+		SyntheticController mouse = SyntheticController.createMouse("Mouse", 0.0);
+		SyntheticEnvironment environment = new SyntheticEnvironment(SyntheticController.createKeyboard("Keyboard", 0.0));
+		DeviceManager.create(environment);
+		
+		DeviceRegistry before = DeviceManager.getRegistry();
+		List<Keyboard> keyboards = DeviceManager.getKeyboards();
+		environment.addController(mouse);
+		DeviceRegistry after = DeviceManager.getRegistry();
+		
+		assertEquals(0, before.getMice().size());
+		assertEquals(1, after.getMice().size());
+		assertTrue(after.getVersion() > before.getVersion());
+		assertSame(keyboards.get(0), after.getKeyboards().get(0));
+		
+		environment.removeController(mouse);
+		
+		assertTrue(DeviceManager.getMice().isEmpty());
+		assertTrue(DeviceManager.getRegistry().getVersion() > after.getVersion());
+		DeviceManager.destroy();
+	}
+}
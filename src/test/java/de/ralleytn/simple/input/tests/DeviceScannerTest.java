@@ -0,0 +1,214 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.BatchListener;
+import de.ralleytn.simple.input.Device;
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.DeviceScanner;
+import de.ralleytn.simple.input.EventBatch;
+import de.ralleytn.simple.input.HotPlugListener;
+import de.ralleytn.simple.input.Keyboard;
+import de.ralleytn.simple.input.Mouse;
+import net.java.games.input.Component.Identifier.Axis;
+import net.java.games.input.Component.Identifier.Key;
+import net.java.games.input.Controller.Type;
+
+class DeviceScannerTest {
+
+	private static final TestController createKeyboard() {
+		
+		return new TestController("Test Keyboard", Type.KEYBOARD, new Key[] {Key.A}, false, new float[] {0, 1, 0, 0}, 2);
+	}
+	
+	private static final TestController createMouse() {
+		
+		return new TestController("Test Mouse", Type.MOUSE, new Axis[] {Axis.X, Axis.Y}, true, new float[] {0, 1, 1, 1}, 2);
+	}
+	
+	@Test
+	public void testRescan() {
+		
+		TestController keyboard = DeviceScannerTest.createKeyboard();
+		TestEnvironment environment = new TestEnvironment(keyboard);
+		List<String> changes = new CopyOnWriteArrayList<>();
+		HotPlugListener listener = new HotPlugListener() {
+			
+			@Override public void onDeviceAdded(Device device) {changes.add("+" + device.getName());}
+			@Override public void onDeviceRemoved(Device device) {changes.add("-" + device.getName());}
+		};
+		
+		DeviceManager.addHotPlugListener(listener);
+		DeviceManager.create(environment);
+		
+		// THE DEVICES THAT EXIST WHEN THE CONTEXT IS CREATED ARE NOT REPORTED
+		assertTrue(changes.isEmpty());
+		
+		environment.setControllers(keyboard, DeviceScannerTest.createMouse());
+		DeviceManager.rescan();
+		Mouse mouse = DeviceManager.getMice().get(0);
+		
+		environment.setControllers(DeviceScannerTest.createMouse());
+		DeviceManager.rescan();
+		
+		// A NEW CONTROLLER OBJECT FOR THE SAME DEVICE DOES NOT REPLACE THE DEVICE
+		assertSame(mouse, DeviceManager.getMice().get(0));
+		assertTrue(DeviceManager.getKeyboards().isEmpty());
+		assertEquals(List.of("+Test Mouse", "-Test Keyboard"), changes);
+		
+		DeviceManager.destroy();
+		DeviceManager.removeHotPlugListener(listener);
+	}
+	
+	@Test
+	public void testRemovalIsTheSameTeardownAsADisconnect() {
+		
+		TestEnvironment environment = new TestEnvironment(DeviceScannerTest.createKeyboard());
+		List<String> calls = new CopyOnWriteArrayList<>();
+		HotPlugListener listener = new HotPlugListener() {
+			
+			@Override public void onDeviceAdded(Device device) {}
+			@Override
+			public void onDeviceRemoved(Device device) {
+				
+				calls.add("removed, locked: " + Thread.holdsLock(DeviceManager.class));
+			}
+		};
+		
+		DeviceManager.addHotPlugListener(listener);
+		DeviceManager.create(environment);
+		Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+		keyboard.addBatchListener(new BatchListener() {
+			
+			@Override public void onBatch(EventBatch batch) {}
+			@Override public void onRemove() {calls.add("batch");}
+		});
+		
+		environment.setControllers();
+		DeviceManager.rescan();
+		
+		assertEquals(List.of("batch", "removed, locked: false"), calls);
+		assertEquals(1L, keyboard.getMetrics().getDisconnectCount());
+		
+		// THE DEVICE IS GONE, LATER POLLS DO NOTHING AND DO NOT REMOVE IT AGAIN
+		assertFalse(keyboard.poll());
+		assertEquals(2, calls.size());
+		assertEquals(1L, keyboard.getMetrics().getDisconnectCount());
+		
+		DeviceManager.destroy();
+		DeviceManager.removeHotPlugListener(listener);
+	}
+	
+	@Test
+	public void testIdenticalDevicesAfterReenumeration() {
+		
+		AtomicBoolean unplugged = new AtomicBoolean();
+		TestController first = new TestController("Test Keyboard", Type.KEYBOARD, new Key[] {Key.A}, false, new float[] {0, 1, 0, 0}, 2) {
+			
+			@Override
+			public synchronized boolean poll() {
+				
+				return !unplugged.get() && super.poll();
+			}
+		};
+		
+		TestEnvironment environment = new TestEnvironment(first, DeviceScannerTest.createKeyboard());
+		List<Device> changes = new CopyOnWriteArrayList<>();
+		HotPlugListener listener = new HotPlugListener() {
+			
+			@Override public void onDeviceAdded(Device device) {changes.add(device);}
+			@Override public void onDeviceRemoved(Device device) {changes.add(device);}
+		};
+		
+		DeviceManager.addHotPlugListener(listener);
+		DeviceManager.create(environment);
+		Keyboard unpluggedKeyboard = DeviceManager.getKeyboards().get(0);
+		Keyboard keyboard = DeviceManager.getKeyboards().get(1);
+		
+		// A NATIVE RE-ENUMERATION CREATES NEW CONTROLLER OBJECTS; THE FIRST KEYBOARD WAS UNPLUGGED BUT ITS POLL DID NOT FAIL YET
+		unplugged.set(true);
+		environment.setControllers(DeviceScannerTest.createKeyboard());
+		DeviceManager.rescan();
+		
+		// THE NAMES ARE THE SAME, SO THE SCAN CANNOT KNOW WHICH ONE IS GONE
+		assertEquals(2, DeviceManager.getKeyboards().size());
+		assertTrue(changes.isEmpty());
+		
+		assertFalse(unpluggedKeyboard.poll());
+		assertTrue(keyboard.poll());
+		assertEquals(List.of(keyboard), DeviceManager.getKeyboards());
+		assertEquals(List.of(unpluggedKeyboard), changes);
+		
+		// LATER SCANS KEEP THE KEYBOARD THAT IS STILL CONNECTED
+		DeviceManager.rescan();
+		assertEquals(List.of(keyboard), DeviceManager.getKeyboards());
+		assertEquals(1, changes.size());
+		
+		DeviceManager.destroy();
+		DeviceManager.removeHotPlugListener(listener);
+	}
+	
+	@Test
+	public void testBackgroundScanner() throws InterruptedException {
+		
+		TestEnvironment environment = new TestEnvironment(DeviceScannerTest.createKeyboard());
+		DeviceManager.create(environment);
+		DeviceScanner scanner = DeviceManager.startRescanning(Duration.ofMillis(5));
+		environment.setControllers(DeviceScannerTest.createMouse());
+		long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+		
+		while(scanner.getRemovedDeviceCount() == 0 && System.nanoTime() < deadline) {
+			
+			Thread.sleep(5);
+		}
+		
+		assertEquals(1L, scanner.getAddedDeviceCount());
+		assertEquals(1L, scanner.getRemovedDeviceCount());
+		assertEquals(1, DeviceManager.getMice().size());
+		assertTrue(DeviceManager.getKeyboards().isEmpty());
+		assertTrue(scanner.getScanCount() > 0);
+		assertTrue(scanner.getScanDuration().getMax() > 0);
+		
+		// A NON NATIVE ENVIRONMENT IS NEVER CREATED AGAIN
+		assertFalse(scanner.isHotPlugSignalAvailable());
+		assertEquals(0L, scanner.getNativeScanCount());
+		assertSame(scanner, DeviceManager.getScanner());
+		
+		DeviceManager.destroy();
+		
+		assertFalse(scanner.isRunning());
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.Direction;
+import de.ralleytn.simple.input.DirectionClassifier;
+import de.ralleytn.simple.input.Gamepad;
+import de.ralleytn.simple.input.GamepadEvent;
+import de.ralleytn.simple.input.GamepadListener;
+import net.java.games.input.Component.Identifier.Axis;
+import net.java.games.input.Controller.Type;
+
+class DirectionClassifierTest {
+
+	private static final int classify(DirectionClassifier classifier, double degrees) {
+		
+		return classifier.classify((float)Math.cos(Math.toRadians(degrees)), (float)Math.sin(Math.toRadians(degrees)));
+	}
+	
+	@Test
+	public void testSectors() {
+		
+		for(int sectors : new int[] {4, 8, 16}) {
+			
+			DirectionClassifier classifier = new DirectionClassifier(sectors, 0.0F);
+			double width = 360.0 / sectors;
+			
+			for(int sector = 0; sector < sectors; sector++) {
+				
+				// THE CENTER AND BOTH EDGES OF EVERY SECTOR
+				assertEquals(sector, DirectionClassifierTest.classify(classifier, sector * width));
+				assertEquals(sector, DirectionClassifierTest.classify(classifier, sector * width - width / 2 + 0.1));
+				assertEquals(sector, DirectionClassifierTest.classify(classifier, sector * width + width / 2 - 0.1));
+			}
+			
+			assertEquals(-1, classifier.classify(0.0F, 0.0F));
+		}
+	}
+	
+	@Test
+	public void testDirections() {
+		
+		DirectionClassifier classifier = new DirectionClassifier(8, 0.0F);
+		
+		assertEquals(Direction.EAST, classifier.getDirection(classifier.classify(1.0F, 0.05F)));
+		assertEquals(Direction.NORTH_EAST, classifier.getDirection(classifier.classify(0.7F, 0.7F)));
+		assertEquals(Direction.NORTH, classifier.getDirection(classifier.classify(-0.05F, 1.0F)));
+		assertEquals(Direction.SOUTH_WEST, classifier.getDirection(classifier.classify(-0.5F, -0.6F)));
+		assertEquals(Direction.SOUTH, new DirectionClassifier(4, 0.0F).getDirection(3));
+		assertNull(new DirectionClassifier(16, 0.0F).getDirection(1));
+		assertEquals(Direction.NORTH_EAST, new DirectionClassifier(16, 0.0F).getDirection(2));
+		assertNull(classifier.getDirection(-1));
+		assertThrows(IllegalArgumentException.class, () -> new DirectionClassifier(6, 0.0F));
+		assertThrows(IllegalArgumentException.class, () -> new DirectionClassifier(8, 22.5F));
+	}
+	
+	@Test
+	public void testHysteresis() {
+		
+		DirectionClassifier classifier = new DirectionClassifier(8, 5.0F);
+		
+		// THE BORDER BETWEEN EAST AND NORTH EAST IS AT 22.5 DEGREES
+		float x = (float)Math.cos(Math.toRadians(25.0));
+		float y = (float)Math.sin(Math.toRadians(25.0));
+		assertEquals(0, classifier.classify(x, y, 0));
+		assertEquals(1, classifier.classify(x, y, 1));
+		assertEquals(1, classifier.classify(x, y, -1));
+		assertEquals(1, classifier.classify(x, y));
+		
+		x = (float)Math.cos(Math.toRadians(30.0));
+		y = (float)Math.sin(Math.toRadians(30.0));
+		assertEquals(1, classifier.classify(x, y, 0));
+		assertEquals(-1, classifier.classify(0.0F, 0.0F, 1));
+	}
+	
+	@Test
+	public void testGamepad() {
+		
+		// DIRECTINPUT GAMEPADS POINT UP WITH NEGATIVE Y VALUES
+		DeviceManager.create(new TestEnvironment(new TestController("Test Gamepad", Type.STICK, new Axis[] {Axis.X, Axis.Y}, false, new float[] {1, -0.9F, 0, 0.2F, 0, 0.6F}, 3)));
+		Gamepad gamepad = DeviceManager.getGamepads().get(0);
+		List<Direction> directions = new ArrayList<>();
+		gamepad.addGamepadListener(new GamepadListener() {
+			
+			@Override public void onAnalogStickPush(GamepadEvent event) {directions.add(event.getDirection());}
+			@Override public void onButtonPress(GamepadEvent event) {}
+			@Override public void onButtonRelease(GamepadEvent event) {}
+			@Override public void onPOVPress(GamepadEvent event) {}
+			@Override public void onPOVRelease(GamepadEvent event) {}
+		});
+		
+		gamepad.poll();
+		DeviceManager.destroy();
+		
+		assertEquals(List.of(Direction.NORTH, Direction.NORTH, Direction.NORTH_EAST), directions);
+		assertThrows(IllegalArgumentException.class, () -> gamepad.setDirectionClassifier(new DirectionClassifier(16, 0.0F)));
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.Device;
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.Gamepad;
+import de.ralleytn.simple.input.GamepadAdapter;
+import de.ralleytn.simple.input.GamepadEvent;
+import de.ralleytn.simple.input.Keyboard;
+import de.ralleytn.simple.input.KeyboardAdapter;
+import de.ralleytn.simple.input.KeyboardEvent;
+import de.ralleytn.simple.input.Mouse;
+import de.ralleytn.simple.input.MouseAdapter;
+import de.ralleytn.simple.input.MouseEvent;
+import net.java.games.input.Component.Identifier.Axis;
+import net.java.games.input.Component.Identifier.Button;
+import net.java.games.input.Component.Identifier.Key;
+import net.java.games.input.Controller.Type;
+
+class EventAllocationTest {
+
+	private static final int WARMUP_POLLS = 20_000;
+	private static final int MEASURED_POLLS = 100_000;
+	
+	@SuppressWarnings("restriction")
+	private static final long getAllocatedBytes() {
+		
+		com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+	
+	private static final long measureAllocatedBytes(Device device) {
+		
+		for(int poll = 0; poll < WARMUP_POLLS; poll++) {
+			
+			device.poll();
+		}
+		
+		long before = EventAllocationTest.getAllocatedBytes();
+		
+		for(int poll = 0; poll < MEASURED_POLLS; poll++) {
+			
+			device.poll();
+		}
+		
+		return EventAllocationTest.getAllocatedBytes() - before;
+	}
+	
+	@Test
+	public void testKeyboardPollIsAllocationFree() {
+		
+		DeviceManager.create(new TestEnvironment(new TestController("Test Keyboard", Type.KEYBOARD, new Key[] {Key.A, Key.S}, false, new float[] {0, 1, 1, 1, 0, 0, 1, 0}, 4)));
+		Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+		int[] presses = new int[1];
+		keyboard.setReusingEvents(true);
+		keyboard.addKeyboardListener(new KeyboardAdapter() {
+			
+			@Override
+			public void onKeyPress(KeyboardEvent event) {
+				
+				presses[0]++;
+			}
+		});
+		
+		long allocatedBytes = EventAllocationTest.measureAllocatedBytes(keyboard);
+		DeviceManager.destroy();
+		
+		assertEquals((WARMUP_POLLS + MEASURED_POLLS) * 2, presses[0]);
+		assertTrue(allocatedBytes < MEASURED_POLLS, allocatedBytes + " bytes allocated");
+	}
+	
+	@Test
+	public void testMousePollIsAllocationFree() {
+		
+		DeviceManager.create(new TestEnvironment(new TestController("Test Mouse", Type.MOUSE, new Axis[] {Axis.X, Axis.Y, Axis.Z}, true, new float[] {0, 3, 1, -2, 2, 1}, 3)));
+		Mouse mouse = DeviceManager.getMice().get(0);
+		float[] scrolled = new float[1];
+		mouse.setReusingEvents(true);
+		mouse.addMouseListener(new MouseAdapter() {
+			
+			@Override
+			public void onScroll(MouseEvent event) {
+				
+				scrolled[0] += event.getUnitsToScroll();
+			}
+		});
+		
+		long allocatedBytes = EventAllocationTest.measureAllocatedBytes(mouse);
+		DeviceManager.destroy();
+		
+		assertEquals((float)(WARMUP_POLLS + MEASURED_POLLS), scrolled[0]);
+		assertTrue(allocatedBytes < MEASURED_POLLS, allocatedBytes + " bytes allocated");
+	}
+	
+	@Test
+	public void testGamepadPollIsAllocationFree() {
+		
+		DeviceManager.create(new TestEnvironment(new TestController("Test Gamepad", Type.STICK, new Button[] {Button._0, Button._1}, false, new float[] {0, 1, 0, 0, 1, 1, 1, 0}, 4)));
+		Gamepad gamepad = DeviceManager.getGamepads().get(0);
+		int[] presses = new int[1];
+		gamepad.setReusingEvents(true);
+		gamepad.addGamepadListener(new GamepadAdapter() {
+			
+			@Override
+			public void onButtonPress(GamepadEvent event) {
+				
+				presses[0]++;
+			}
+		});
+		
+		long allocatedBytes = EventAllocationTest.measureAllocatedBytes(gamepad);
+		DeviceManager.destroy();
+		
+		assertEquals((WARMUP_POLLS + MEASURED_POLLS) * 2, presses[0]);
+		assertTrue(allocatedBytes < MEASURED_POLLS, allocatedBytes + " bytes allocated");
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.BatchListener;
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.EventBatch;
+import de.ralleytn.simple.input.Keyboard;
+import net.java.games.input.Component;
+import net.java.games.input.Component.Identifier.Key;
+import net.java.games.input.Controller.Type;
+import net.java.games.input.Event;
+
+class EventBatchTest {
+
+	@Test
+	public void testBatchContainsAllEventsOfAPoll() {
+		
+		TestController controller = new TestController("Test Keyboard", Type.KEYBOARD, new Key[] {Key.A, Key.S}, false, new float[] {0, 1, 1, 1, 0, 0, 1, 0}, 4);
+		DeviceManager.create(new TestEnvironment(controller));
+		Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+		int[] batches = new int[1];
+		keyboard.addBatchListener(new BatchListener() {
+			
+			@Override
+			public void onBatch(EventBatch batch) {
+				
+				batches[0]++;
+				
+				assertSame(keyboard, batch.getDevice());
+				assertEquals(4, batch.size());
+				assertEquals(0, batch.getComponentIndex(0));
+				assertEquals(1, batch.getComponentIndex(1));
+				assertSame(controller.getComponents()[1], batch.getComponent(1));
+				assertEquals(1.0F, batch.getValue(0));
+				assertEquals(0.0F, batch.getValue(3));
+			}
+			
+			@Override
+			public void onRemove() {}
+		});
+		
+		keyboard.poll();
+		keyboard.poll();
+		DeviceManager.destroy();
+		
+		assertEquals(2, batches[0]);
+	}
+	
+	@Test
+	public void testUnknownComponentsAreSkipped() {
+		
+		Component foreign = new TestController("Other Keyboard", Type.KEYBOARD, new Key[] {Key.B}, false, new float[0], 0).getComponents()[0];
+		
+		// A DOWN, AN EVENT OF A COMPONENT THE CONTROLLER DOES NOT KNOW, A UP
+		TestController controller = new TestController("Test Keyboard", Type.KEYBOARD, new Key[] {Key.A}, false, new float[] {0, 1, 0, 1, 0, 0}, 3) {
+			
+			private int events;
+			
+			@Override
+			protected synchronized boolean getNextDeviceEvent(Event event) {
+				
+				if(!super.getNextDeviceEvent(event)) {
+					
+					return false;
+				}
+				
+				if(++this.events == 2) {
+					
+					event.set(foreign, event.getValue(), event.getNanos());
+				}
+				
+				return true;
+			}
+		};
+		DeviceManager.create(new TestEnvironment(controller));
+		Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+		int[] batches = new int[1];
+		keyboard.addBatchListener(new BatchListener() {
+			
+			@Override
+			public void onBatch(EventBatch batch) {
+				
+				batches[0]++;
+				
+				assertEquals(2, batch.size());
+				assertSame(controller.getComponents()[0], batch.getComponent(0));
+				assertSame(controller.getComponents()[0], batch.getComponent(1));
+				assertEquals(0.0F, batch.getValue(1));
+			}
+			
+			@Override
+			public void onRemove() {}
+		});
+		
+		keyboard.poll();
+		DeviceManager.destroy();
+		
+		assertEquals(1, batches[0]);
+	}
+}
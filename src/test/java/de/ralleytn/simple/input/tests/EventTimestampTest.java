@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.DeviceEvent;
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.Keyboard;
+import de.ralleytn.simple.input.KeyboardEvent;
+import de.ralleytn.simple.input.KeyboardListener;
+import de.ralleytn.simple.input.OverflowPolicy;
+import net.java.games.input.Component.Identifier.Key;
+import net.java.games.input.Controller.Type;
+
+class EventTimestampTest {
+
+	private static final void testTimestamps(boolean async) throws InterruptedException {
+		
+		DeviceManager.create(new TestEnvironment(new TestController("Test Keyboard", Type.KEYBOARD, new Key[] {Key.A}, false, new float[] {0, 1, 0, 0}, 2)));
+		Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+		keyboard.setReusingEvents(true);
+		
+		if(async) {
+			
+			keyboard.enableAsyncDispatch(16, OverflowPolicy.BLOCK);
+		}
+		
+		long start = System.nanoTime();
+		long[] previous = new long[] {start};
+		CountDownLatch latch = new CountDownLatch(2);
+		keyboard.addKeyboardListener(new KeyboardListener() {
+			
+			@Override public void onKeyPress(KeyboardEvent event) {this.check(event);}
+			@Override public void onKeyRelease(KeyboardEvent event) {this.check(event);}
+			
+			private final void check(DeviceEvent event) {
+				
+				// THE TEST CONTROLLER USES System.nanoTime() AS DRIVER TIMESTAMP
+				assertTrue(event.getNanos() >= previous[0]);
+				assertTrue(event.getObservedNanos() >= event.getNanos());
+				assertTrue(System.nanoTime() >= event.getObservedNanos());
+				previous[0] = event.getNanos();
+				latch.countDown();
+			}
+		});
+		
+		keyboard.poll();
+		
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertTrue(previous[0] > start);
+		DeviceManager.destroy();
+	}
+	
+	@Test
+	public void testTimestamps() throws InterruptedException {
+		
+		EventTimestampTest.testTimestamps(false);
+	}
+	
+	@Test
+	public void testTimestampsWithAsyncDispatch() throws InterruptedException {
+		
+		EventTimestampTest.testTimestamps(true);
+	}
+	
+	@Test
+	public void testEventsWithoutDeviceHaveNoTimestamps() {
+		
+		KeyboardEvent event = new KeyboardEvent(null, KeyboardEvent.KEY_A, "A");
+		
+		assertEquals(0L, event.getNanos());
+		assertEquals(0L, event.getObservedNanos());
+	}
+}
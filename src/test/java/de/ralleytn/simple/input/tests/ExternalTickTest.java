@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.Mouse;
+import de.ralleytn.simple.input.MouseEvent;
+import de.ralleytn.simple.input.MouseListener;
+import de.ralleytn.simple.input.PollingScheduler;
+import net.java.games.input.Component.Identifier.Axis;
+import net.java.games.input.Controller.Type;
+
+class ExternalTickTest {
+
+	@Test
+	public void testTick() throws InterruptedException {
+		
+		DeviceManager.create(new TestEnvironment(new TestController("Test Mouse", Type.MOUSE, new Axis[] {Axis.X, Axis.Y}, true, new float[] {0, 3, 1, 4}, 2)), PollingScheduler.EXTERNAL_TICK, null);
+		Mouse mouse = DeviceManager.getMice().get(0);
+		mouse.setReusingEvents(true);
+		mouse.setCoalescingMotion(true);
+		List<String> moves = new ArrayList<>();
+		List<Thread> threads = new ArrayList<>();
+		mouse.addMouseListener(new MouseListener() {
+			
+			@Override public void onMove(MouseEvent event) {moves.add(event.getDeltaX() + "," + event.getDeltaY() + "@" + event.getObservedNanos()); threads.add(Thread.currentThread());}
+			@Override public void onDrag(MouseEvent event) {}
+			@Override public void onScroll(MouseEvent event) {}
+			@Override public void onClick(MouseEvent event) {}
+			@Override public void onRelease(MouseEvent event) {}
+		});
+		
+		mouse.startListening();
+		
+		// NO THREAD POLLS THE MOUSE IN THE MEANTIME
+		Thread.sleep(50);
+		assertTrue(moves.isEmpty());
+		assertEquals(PollingScheduler.EXTERNAL_TICK, DeviceManager.getPollingScheduler().getThreadCount());
+		assertEquals(1, DeviceManager.getPollingScheduler().getDeviceCount());
+		
+		DeviceManager.tick(1000L);
+		DeviceManager.tick(2000L);
+		mouse.stopListening();
+		DeviceManager.tick(3000L);
+		DeviceManager.destroy();
+		
+		// THE MOTION IS COALESCED BY THE UPDATE THAT RUNS RIGHT AFTER THE EVENTS OF EACH TICK
+		assertEquals(List.of("3,4@1000", "3,4@2000"), moves);
+		assertSame(Thread.currentThread(), threads.get(0));
+		assertSame(Thread.currentThread(), threads.get(1));
+	}
+	
+	@Test
+	public void testTickRequiresExternalTickMode() {
+		
+		assertThrows(IllegalStateException.class, () -> DeviceManager.tick(0L));
+		DeviceManager.create(new TestEnvironment());
+		assertThrows(IllegalStateException.class, () -> DeviceManager.tick(0L));
+		DeviceManager.destroy();
+	}
+}
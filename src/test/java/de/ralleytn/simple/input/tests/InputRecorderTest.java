@@ -0,0 +1,182 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.InputRecorder;
+import de.ralleytn.simple.input.Keyboard;
+import net.java.games.input.Component.Identifier.Key;
+import net.java.games.input.Controller.Type;
+
+class InputRecorderTest {
+
+	private static final void awaitSegments(InputRecorder recorder, int segments) {
+		
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		
+		while(recorder.getMappedSegmentCount() < segments && System.nanoTime() < deadline) {
+			
+			Thread.onSpinWait();
+		}
+	}
+	
+	@Test
+	public void testRecording() throws IOException {
+		
+		Path file = Files.createTempFile("simpleinput", ".journal");
+		
+		try {
+			
+			DeviceManager.create(new TestEnvironment(new TestController("Test Keyboard", Type.KEYBOARD, new Key[] {Key.A, Key.S}, false, new float[] {0, 1, 1, 1, 0, 0, 1, 0}, 4)));
+			Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+			
+			try(InputRecorder recorder = new InputRecorder(file, List.of(keyboard), InputRecorder.RECORD_SIZE * 8)) {
+				
+				keyboard.poll();
+				recorder.start();
+				
+				for(int poll = 0; poll < 5; poll++) {
+					
+					// THE POLL THREAD DROPS EVENTS INSTEAD OF WAITING FOR THE MAPPER
+					InputRecorderTest.awaitSegments(recorder, (int)((recorder.getRecordCount() + 4 + 7) / 8));
+					keyboard.poll();
+				}
+				
+				recorder.stop();
+				keyboard.poll();
+				
+				assertEquals(20L, recorder.getRecordCount());
+				assertEquals(0L, recorder.getDroppedRecordCount());
+			}
+			
+			DeviceManager.destroy();
+			
+			try(InputStream stream = Files.newInputStream(file); DataInputStream input = new DataInputStream(stream)) {
+				
+				assertEquals(InputRecorder.MAGIC, input.readInt());
+				assertEquals(InputRecorder.VERSION, input.readInt());
+				int headerSize = input.readInt();
+				assertEquals(InputRecorder.RECORD_SIZE, input.readInt());
+				assertEquals(20L, input.readLong());
+				assertEquals(headerSize + 20L * InputRecorder.RECORD_SIZE, Files.size(file));
+				input.readLong();
+				input.readLong();
+				assertEquals(1, input.readInt());
+				assertEquals("Test Keyboard", input.readUTF());
+				assertEquals(Type.KEYBOARD.toString(), input.readUTF());
+				assertEquals(false, input.readBoolean());
+				assertEquals(2, input.readInt());
+				assertEquals("Key", input.readUTF());
+				assertEquals(Key.A.getName(), input.readUTF());
+				assertEquals(false, input.readBoolean());
+				assertEquals("Key", input.readUTF());
+				assertEquals(Key.S.getName(), input.readUTF());
+				assertEquals(false, input.readBoolean());
+				
+				byte[] records = Files.readAllBytes(file);
+				DataInputStream recordInput = new DataInputStream(new ByteArrayInputStream(records, headerSize, records.length - headerSize));
+				float[] expectedValues = {1, 1, 0, 0};
+				
+				for(int record = 0; record < 20; record++) {
+					
+					recordInput.readLong();
+					recordInput.readLong();
+					assertEquals(0, recordInput.readInt());
+					assertEquals(record % 2, recordInput.readInt());
+					assertEquals(expectedValues[record % 4], recordInput.readFloat());
+					assertEquals(1, recordInput.readInt());
+				}
+			}
+			
+		} finally {
+			
+			Files.deleteIfExists(file);
+		}
+	}
+	
+	@Test
+	public void testCloseWhilePolling() throws IOException, InterruptedException {
+		
+		Path file = Files.createTempFile("simpleinput", ".journal");
+		
+		try {
+			
+			DeviceManager.create(new TestEnvironment(new TestController("Test Keyboard", Type.KEYBOARD, new Key[] {Key.A}, false, new float[] {0, 1, 0, 0}, 16)));
+			Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+			AtomicBoolean polling = new AtomicBoolean(true);
+			InputRecorder recorder = new InputRecorder(file, List.of(keyboard), InputRecorder.RECORD_SIZE * 64);
+			recorder.start();
+			
+			Thread poller = new Thread(() -> {
+				
+				while(polling.get()) {
+					
+					keyboard.poll();
+				}
+			});
+			
+			poller.start();
+			
+			while(recorder.getRecordCount() < 10000) {
+				
+				Thread.onSpinWait();
+			}
+			
+			// THE POLL THREAD IS STILL WRITING WHEN THE FILE IS TRUNCATED
+			recorder.close();
+			long recordCount = recorder.getRecordCount();
+			polling.set(false);
+			poller.join();
+			DeviceManager.destroy();
+			
+			try(InputStream stream = Files.newInputStream(file); DataInputStream input = new DataInputStream(stream)) {
+				
+				input.readInt();
+				input.readInt();
+				int headerSize = input.readInt();
+				input.readInt();
+				assertEquals(recordCount, input.readLong());
+				assertEquals(headerSize + recordCount * InputRecorder.RECORD_SIZE, Files.size(file));
+			}
+			
+		} finally {
+			
+			Files.deleteIfExists(file);
+		}
+	}
+}
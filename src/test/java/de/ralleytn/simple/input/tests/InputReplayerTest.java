@@ -0,0 +1,197 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.InputJournal;
+import de.ralleytn.simple.input.InputRecorder;
+import de.ralleytn.simple.input.InputReplayer;
+import de.ralleytn.simple.input.Keyboard;
+import de.ralleytn.simple.input.KeyboardAdapter;
+import de.ralleytn.simple.input.KeyboardEvent;
+import de.ralleytn.simple.input.SyntheticController;
+import de.ralleytn.simple.input.SyntheticEnvironment;
+import de.ralleytn.simple.input.XIGamepad;
+import net.java.games.input.Component.Identifier;
+import net.java.games.input.Component.Identifier.Button;
+import net.java.games.input.Controller.Type;
+
+class InputReplayerTest {
+
+	private static final List<String> listen(Keyboard keyboard) {
+		
+		List<String> events = new ArrayList<>();
+		keyboard.addKeyboardListener(new KeyboardAdapter() {
+			
+			@Override
+			public void onKeyPress(KeyboardEvent event) {
+				
+				events.add("+" + event.getKeyCode());
+			}
+			
+			@Override
+			public void onKeyRelease(KeyboardEvent event) {
+				
+				events.add("-" + event.getKeyCode());
+			}
+		});
+		
+		return events;
+	}
+	
+	private static final List<String> record(Path file) throws IOException {
+		
+		SyntheticController controller = SyntheticController.createKeyboard("Keyboard", 0.0D);
+		DeviceManager.create(new SyntheticEnvironment(controller));
+		Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+		List<String> events = InputReplayerTest.listen(keyboard);
+		
+		try(InputRecorder recorder = new InputRecorder(file)) {
+			
+			recorder.start();
+			
+			for(int poll = 0; poll < 10; poll++) {
+				
+				controller.enqueue(poll % 5, 1.0F, poll);
+				controller.enqueue(poll % 5 + 5, 1.0F, poll);
+				keyboard.poll();
+				controller.enqueue(poll % 5, 0.0F, poll);
+				controller.enqueue(poll % 5 + 5, 0.0F, poll);
+				keyboard.poll();
+			}
+		}
+		
+		DeviceManager.destroy();
+		return events;
+	}
+	
+	@Test
+	public void testReplayAsFastAsPossible() throws IOException {
+		
+		Path file = Files.createTempFile("simpleinput", ".journal");
+		
+		try {
+			
+			List<String> recorded = InputReplayerTest.record(file);
+			
+			try(InputJournal journal = new InputJournal(file)) {
+				
+				InputReplayer replayer = new InputReplayer(journal);
+				DeviceManager.create(replayer.getEnvironment());
+				List<String> replayed = InputReplayerTest.listen(DeviceManager.getKeyboards().get(0));
+				
+				assertEquals(40L, journal.getRecordCount());
+				assertEquals(20L, replayer.replay(InputReplayer.Mode.AS_FAST_AS_POSSIBLE));
+				assertFalse(replayer.hasNext());
+				assertEquals(recorded, replayed);
+				
+				DeviceManager.destroy();
+			}
+			
+		} finally {
+			
+			Files.deleteIfExists(file);
+		}
+	}
+	
+	@Test
+	public void testStepping() throws IOException {
+		
+		Path file = Files.createTempFile("simpleinput", ".journal");
+		
+		try {
+			
+			List<String> recorded = InputReplayerTest.record(file);
+			
+			try(InputJournal journal = new InputJournal(file)) {
+				
+				InputReplayer replayer = new InputReplayer(journal);
+				DeviceManager.create(replayer.getEnvironment());
+				Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+				List<String> replayed = InputReplayerTest.listen(keyboard);
+				
+				assertTrue(replayer.step());
+				assertEquals(recorded.subList(0, 2), replayed);
+				assertTrue(keyboard.isKeyDown(KeyboardEvent.KEY_A));
+				
+				assertTrue(replayer.advance(Duration.ofDays(1)) > 0);
+				assertFalse(replayer.step());
+				assertEquals(recorded, replayed);
+				
+				DeviceManager.destroy();
+			}
+			
+		} finally {
+			
+			Files.deleteIfExists(file);
+		}
+	}
+	
+	@Test
+	public void testXInputGamepadIsRestored() throws IOException {
+		
+		Path file = Files.createTempFile("simpleinput", ".journal");
+		
+		try {
+			
+			Identifier[] buttons = {Button._0, Button._1};
+			DeviceManager.create(new SyntheticEnvironment(new SyntheticController("XInput", Type.GAMEPAD, true, buttons, new boolean[2], new float[0], 0.0D)));
+			
+			try(InputRecorder recorder = new InputRecorder(file)) {
+				
+				assertTrue(recorder.getDevices().get(0) instanceof XIGamepad);
+			}
+			
+			DeviceManager.destroy();
+			
+			try(InputJournal journal = new InputJournal(file)) {
+				
+				DeviceManager.create(new InputReplayer(journal).getEnvironment());
+				
+				assertTrue(DeviceManager.getGamepads().get(0) instanceof XIGamepad);
+				assertEquals(Type.GAMEPAD, journal.getDeviceType(0));
+				assertEquals(Button._1, journal.getComponentIdentifiers(0)[1]);
+				
+				DeviceManager.destroy();
+			}
+			
+		} finally {
+			
+			Files.deleteIfExists(file);
+		}
+	}
+}
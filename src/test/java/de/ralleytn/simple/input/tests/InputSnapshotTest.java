@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.InputSnapshot;
+import de.ralleytn.simple.input.Keyboard;
+import de.ralleytn.simple.input.KeyboardEvent;
+import de.ralleytn.simple.input.Mouse;
+import net.java.games.input.Component.Identifier.Axis;
+import net.java.games.input.Component.Identifier.Key;
+import net.java.games.input.Controller.Type;
+
+class InputSnapshotTest {
+
+	@Test
+	public void testKeyEdges() {
+		
+		DeviceManager.create(new TestEnvironment(new TestController("Test Keyboard", Type.KEYBOARD, new Key[] {Key.A}, false, new float[] {0, 1, 0, 0}, 1)));
+		Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+		
+		InputSnapshot first = DeviceManager.snapshot();
+		assertFalse(first.isKeyDown(KeyboardEvent.KEY_A));
+		
+		keyboard.poll();
+		InputSnapshot second = DeviceManager.snapshot();
+		assertTrue(second.isKeyDown(KeyboardEvent.KEY_A));
+		assertTrue(second.isKeyPressed(KeyboardEvent.KEY_A));
+		assertFalse(second.isKeyReleased(KeyboardEvent.KEY_A));
+		assertEquals(first.getFrame() + 1, second.getFrame());
+		
+		InputSnapshot third = DeviceManager.snapshot();
+		assertTrue(third.isKeyDown(KeyboardEvent.KEY_A));
+		assertFalse(third.isKeyPressed(KeyboardEvent.KEY_A));
+		
+		keyboard.poll();
+		InputSnapshot fourth = DeviceManager.snapshot();
+		assertFalse(fourth.isKeyDown(KeyboardEvent.KEY_A));
+		assertTrue(fourth.isKeyReleased(KeyboardEvent.KEY_A));
+		assertTrue(second.isKeyDown(KeyboardEvent.KEY_A));
+		
+		DeviceManager.destroy();
+	}
+	
+	@Test
+	public void testCursorDeltas() {
+		
+		DeviceManager.create(new TestEnvironment(new TestController("Test Mouse", Type.MOUSE, new Axis[] {Axis.X, Axis.Y}, true, new float[] {0, 3, 1, -2}, 2)));
+		Mouse mouse = DeviceManager.getMice().get(0);
+		DeviceManager.snapshot();
+		
+		mouse.poll();
+		mouse.poll();
+		InputSnapshot snapshot = DeviceManager.snapshot();
+		assertEquals(6.0F, snapshot.getCursorDeltaX(mouse));
+		assertEquals(-4.0F, snapshot.getCursorDeltaY(mouse));
+		
+		mouse.poll();
+		snapshot = DeviceManager.snapshot();
+		assertEquals(3.0F, snapshot.getCursorDeltaX(mouse));
+		assertEquals(-2.0F, snapshot.getCursorDeltaY(mouse));
+		assertEquals(0.0F, DeviceManager.snapshot().getCursorDeltaX(mouse));
+		
+		DeviceManager.destroy();
+	}
+	
+	@Test
+	public void testPollsBeforeTheFirstSnapshot() {
+		
+		// X MOVES BY 3 PER POLL, A GOES DOWN AND STAYS DOWN
+		DeviceManager.create(new TestEnvironment(
+			new TestController("Test Mouse", Type.MOUSE, new Axis[] {Axis.X}, true, new float[] {0, 3}, 1),
+			new TestController("Test Keyboard", Type.KEYBOARD, new Key[] {Key.A}, false, new float[] {0, 1}, 1)));
+		Mouse mouse = DeviceManager.getMice().get(0);
+		Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+		
+		for(int poll = 0; poll < 100; poll++) {
+			
+			mouse.poll();
+		}
+		
+		keyboard.poll();
+		
+		InputSnapshot first = DeviceManager.snapshot();
+		assertEquals(0.0F, first.getCursorDeltaX(mouse));
+		assertTrue(first.isKeyDown(KeyboardEvent.KEY_A));
+		assertFalse(first.isKeyPressed(KeyboardEvent.KEY_A));
+		
+		mouse.poll();
+		keyboard.poll();
+		
+		InputSnapshot second = DeviceManager.snapshot();
+		assertEquals(3.0F, second.getCursorDeltaX(mouse));
+		assertTrue(second.isKeyDown(KeyboardEvent.KEY_A));
+		assertFalse(second.isKeyPressed(KeyboardEvent.KEY_A));
+		
+		DeviceManager.destroy();
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.Keyboard;
+import de.ralleytn.simple.input.KeyboardEvent;
+import de.ralleytn.simple.input.KeyboardListener;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import net.java.games.input.Component.Identifier.Key;
+import net.java.games.input.Controller.Type;
+
+class JfrEventsTest {
+
+	@Test
+	public void testEvents() throws Exception {
+		
+		Path file = Files.createTempFile("simpleinput", ".jfr");
+		Map<String, Integer> counts = new HashMap<>();
+		
+		try(Recording recording = new Recording()) {
+			
+			recording.enable("de.ralleytn.simple.input.Poll");
+			recording.enable("de.ralleytn.simple.input.Drain");
+			recording.enable("de.ralleytn.simple.input.SlowListener").withThreshold(Duration.ofMillis(5));
+			recording.enable("de.ralleytn.simple.input.DeviceAdded");
+			recording.start();
+			
+			DeviceManager.create(new TestEnvironment(new TestController("Test Keyboard", Type.KEYBOARD, new Key[] {Key.A}, false, new float[] {0, 1, 0, 0}, 2)));
+			Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+			keyboard.addKeyboardListener(new KeyboardListener() {
+				
+				@Override
+				public void onKeyPress(KeyboardEvent event) {
+					
+					try {
+						
+						Thread.sleep(10);
+						
+					} catch(InterruptedException exception) {
+						
+						Thread.currentThread().interrupt();
+					}
+				}
+				
+				@Override public void onKeyRelease(KeyboardEvent event) {}
+			});
+			
+			keyboard.poll();
+			keyboard.poll();
+			DeviceManager.destroy();
+			
+			recording.stop();
+			recording.dump(file);
+		}
+		
+		try {
+			
+			for(RecordedEvent event : RecordingFile.readAllEvents(file)) {
+				
+				counts.merge(event.getEventType().getName(), 1, Integer::sum);
+				
+				if(event.getEventType().getName().equals("de.ralleytn.simple.input.SlowListener")) {
+					
+					assertEquals("Test Keyboard", event.getString("device"));
+					assertEquals(1.0F, event.getFloat("value"));
+					assertTrue(event.getDuration().toMillis() >= 5);
+				}
+			}
+			
+		} finally {
+			
+			Files.delete(file);
+		}
+		
+		assertEquals(2, (int)counts.get("de.ralleytn.simple.input.Poll"));
+		assertEquals(2, (int)counts.get("de.ralleytn.simple.input.Drain"));
+		assertEquals(2, (int)counts.get("de.ralleytn.simple.input.SlowListener"));
+		assertEquals(1, (int)counts.get("de.ralleytn.simple.input.DeviceAdded"));
+	}
+}
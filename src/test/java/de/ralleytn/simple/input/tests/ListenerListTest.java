@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.Keyboard;
+import de.ralleytn.simple.input.KeyboardAdapter;
+import de.ralleytn.simple.input.KeyboardListener;
+import de.ralleytn.simple.input.internal.ListenerList;
+import net.java.games.input.Component.Identifier.Key;
+import net.java.games.input.Controller.Type;
+
+class ListenerListTest {
+
+	@Test
+	public void testAddAndRemove() {
+		
+		ListenerList<String> list = new ListenerList<>(new String[0]);
+		list.add("A");
+		list.add("B");
+		list.add("C");
+		String[] snapshot = list.getSnapshot();
+		
+		assertTrue(list.remove("B"));
+		assertFalse(list.remove("D"));
+		assertEquals("C", list.remove(1));
+		assertEquals(1, list.size());
+		assertEquals("A", list.get(0));
+		assertEquals(3, snapshot.length);
+	}
+	
+	@Test
+	public void testModificationWhilePolling() throws InterruptedException {
+		
+		DeviceManager.create(new TestEnvironment(new TestController("Test Keyboard", Type.KEYBOARD, new Key[] {Key.A}, false, new float[] {0, 1, 0, 0}, 2)));
+		Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+		KeyboardListener listener = new KeyboardAdapter();
+		
+		Thread modifier = new Thread(() -> {
+			
+			for(int index = 0; index < 10_000; index++) {
+				
+				keyboard.addKeyboardListener(listener);
+				keyboard.removeKeyboardListener(listener);
+			}
+			
+			keyboard.addKeyboardListener(listener);
+		});
+		modifier.start();
+		
+		while(modifier.isAlive()) {
+			
+			keyboard.poll();
+		}
+		
+		modifier.join();
+		assertEquals(1, keyboard.getKeyboardListeners().size());
+		assertSame(listener, keyboard.getKeyboardListener(0));
+		DeviceManager.destroy();
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.Gamepad;
+import de.ralleytn.simple.input.GamepadEvent;
+import de.ralleytn.simple.input.GamepadListener;
+import de.ralleytn.simple.input.Mouse;
+import de.ralleytn.simple.input.MouseEvent;
+import de.ralleytn.simple.input.MouseListener;
+import net.java.games.input.Component.Identifier.Axis;
+import net.java.games.input.Controller.Type;
+
+class MotionCoalescingTest {
+
+	private static final List<String> listenTo(Mouse mouse) {
+		
+		List<String> moves = new ArrayList<>();
+		mouse.addMouseListener(new MouseListener() {
+			
+			@Override public void onMove(MouseEvent event) {moves.add(event.getDeltaX() + "," + event.getDeltaY());}
+			@Override public void onDrag(MouseEvent event) {}
+			@Override public void onScroll(MouseEvent event) {moves.add("scroll");}
+			@Override public void onClick(MouseEvent event) {}
+			@Override public void onRelease(MouseEvent event) {}
+		});
+		
+		return moves;
+	}
+	
+	@Test
+	public void testMouseAxesAreSeparated() {
+		
+		DeviceManager.create(new TestEnvironment(new TestController("Test Mouse", Type.MOUSE, new Axis[] {Axis.X, Axis.Y}, true, new float[] {0, 3, 1, 4, 0, 1, 1, -2}, 4)));
+		Mouse mouse = DeviceManager.getMice().get(0);
+		mouse.setReusingEvents(true);
+		List<String> moves = MotionCoalescingTest.listenTo(mouse);
+		mouse.poll();
+		DeviceManager.destroy();
+		
+		assertEquals(List.of("3,0", "0,4", "1,0", "0,-2"), moves);
+	}
+	
+	@Test
+	public void testMouseMotionIsCoalescedPerPoll() {
+		
+		DeviceManager.create(new TestEnvironment(new TestController("Test Mouse", Type.MOUSE, new Axis[] {Axis.X, Axis.Y, Axis.Z}, true, new float[] {0, 3, 1, 4, 2, 1, 0, 1, 1, -2}, 5)));
+		Mouse mouse = DeviceManager.getMice().get(0);
+		mouse.setReusingEvents(true);
+		mouse.setCoalescingMotion(true);
+		List<String> moves = MotionCoalescingTest.listenTo(mouse);
+		mouse.poll();
+		DeviceManager.destroy();
+		
+		// THE MOVEMENT BEFORE THE SCROLL IS DELIVERED BEFORE IT
+		assertEquals(List.of("3,4", "scroll", "1,-2"), moves);
+	}
+	
+	@Test
+	public void testAnalogStickIsCoalescedPerPoll() {
+		
+		DeviceManager.create(new TestEnvironment(new TestController("Test Gamepad", Type.STICK, new Axis[] {Axis.X, Axis.Y}, false, new float[] {0, 0.5F, 1, 0.5F, 0, 0.8F}, 3)));
+		Gamepad gamepad = DeviceManager.getGamepads().get(0);
+		gamepad.setReusingEvents(true);
+		gamepad.setCoalescingMotion(true);
+		List<String> pushes = new ArrayList<>();
+		gamepad.addGamepadListener(new GamepadListener() {
+			
+			@Override public void onAnalogStickPush(GamepadEvent event) {pushes.add(event.getAnalogStick() + ":" + event.getX() + "," + event.getY());}
+			@Override public void onButtonPress(GamepadEvent event) {}
+			@Override public void onButtonRelease(GamepadEvent event) {}
+			@Override public void onPOVPress(GamepadEvent event) {}
+			@Override public void onPOVRelease(GamepadEvent event) {}
+		});
+		
+		gamepad.poll();
+		gamepad.setCoalescingMotion(false);
+		gamepad.poll();
+		DeviceManager.destroy();
+		
+		// JINPUT SKIPS THE SECOND Y EVENT BECAUSE ITS VALUE DID NOT CHANGE
+		assertEquals(List.of(GamepadEvent.ANALOG_STICK_LEFT + ":0.8,0.5", "0:0.5,0.5", "0:0.8,0.5"), pushes);
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.OutputQueue;
+
+class OutputQueueTest {
+
+	// THE TESTS RUN WITHOUT A DISPLAY, SO ONLY CUSTOM ACTIONS ARE EXECUTED
+	
+	@Test
+	public void testOrderAndCompletion() {
+		
+		OutputQueue queue = new OutputQueue(null);
+		List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+		CompletableFuture<Void> last = null;
+		
+		for(int index = 0; index < 100; index++) {
+			
+			int value = index;
+			last = queue.submit(robot -> executed.add(value));
+		}
+		
+		last.join();
+		queue.shutdown();
+		
+		assertEquals(100, executed.size());
+		
+		for(int index = 0; index < 100; index++) {
+			
+			assertEquals(index, (int)executed.get(index));
+		}
+		
+		assertEquals(0, queue.getQueueDepth());
+	}
+	
+	@Test
+	public void testFailedAction() {
+		
+		OutputQueue queue = new OutputQueue(null);
+		CompletableFuture<Void> future = queue.submit(robot -> {throw new IllegalStateException();});
+		
+		assertThrows(RuntimeException.class, () -> future.join());
+		assertTrue(future.isCompletedExceptionally());
+		queue.submit(robot -> {}).join();
+		queue.shutdown();
+	}
+	
+	@Test
+	public void testErrorKeepsTheWorkerAlive() {
+		
+		OutputQueue queue = new OutputQueue(null);
+		Error error = new Error("Test");
+		CompletableFuture<Void> future = queue.submit(robot -> {throw error;});
+		
+		CompletionException exception = assertThrows(CompletionException.class, () -> future.join());
+		assertSame(error, exception.getCause());
+		
+		// THE WORKER IS STILL RUNNING
+		queue.submit(robot -> {}).join();
+		assertTrue(queue.isRunning());
+		queue.shutdown();
+	}
+	
+	@Test
+	public void testFailedCharacter() {
+		
+		// WITHOUT A ROBOT THE FIRST CHARACTER ALREADY FAILS
+		OutputQueue queue = new OutputQueue(null);
+		CompletableFuture<Void> future = queue.type("ab");
+		
+		CompletionException exception = assertThrows(CompletionException.class, () -> future.join());
+		assertTrue(exception.getCause() instanceof NullPointerException);
+		queue.shutdown();
+	}
+	
+	@Test
+	public void testQueueDepthAndMergedMovements() throws InterruptedException {
+		
+		OutputQueue queue = new OutputQueue(null);
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		
+		queue.submit(robot -> {
+			
+			blocked.countDown();
+			
+			try {
+				
+				release.await();
+				
+			} catch(InterruptedException exception) {
+				
+				Thread.currentThread().interrupt();
+			}
+		});
+		
+		assertTrue(blocked.await(5, TimeUnit.SECONDS));
+		
+		CompletableFuture<Void> first = queue.mouseMoveBy(1.0F, 2.0F);
+		CompletableFuture<Void> second = queue.mouseMoveBy(3.0F, 4.0F);
+		CompletableFuture<Void> absolute = queue.mouseMove(10, 10);
+		queue.submit(robot -> {});
+		CompletableFuture<Void> pending = queue.submit(robot -> {});
+		
+		// THE RELATIVE MOVEMENTS WERE MERGED
+		assertSame(first, second);
+		assertEquals(4, queue.getQueueDepth());
+		
+		queue.shutdown();
+		release.countDown();
+		
+		assertTrue(pending.isCancelled());
+		assertTrue(absolute.isCancelled());
+		assertTrue(queue.submit(robot -> {}).isCancelled());
+	}
+	
+	@Test
+	public void testRate() {
+		
+		OutputQueue queue = new OutputQueue(null);
+		queue.setRate(200);
+		queue.setBatchSize(2);
+		
+		assertEquals(200, queue.getRate());
+		assertThrows(IllegalArgumentException.class, () -> queue.setBatchSize(0));
+		
+		long start = System.nanoTime();
+		CompletableFuture<Void> last = null;
+		
+		for(int index = 0; index < 11; index++) {
+			
+			last = queue.submit(robot -> {});
+		}
+		
+		last.join();
+		long duration = System.nanoTime() - start;
+		queue.shutdown();
+		
+		// AT 5 MILLISECONDS PER ACTION ONLY THE LAST BATCH OF AT MOST 2 ACTIONS DOES NOT HAVE TO WAIT
+		assertTrue(duration >= TimeUnit.MILLISECONDS.toNanos(45));
+		assertEquals(11, queue.getExecutedActionCount());
+	}
+}
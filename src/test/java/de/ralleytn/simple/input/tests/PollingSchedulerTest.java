@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.Keyboard;
+import de.ralleytn.simple.input.PollingScheduler;
+import net.java.games.input.Component.Identifier.Key;
+import net.java.games.input.Controller.Type;
+
+class PollingSchedulerTest {
+
+	private static final TestEnvironment createEnvironment(int keyboards) {
+		
+		TestController[] controllers = new TestController[keyboards];
+		
+		for(int index = 0; index < keyboards; index++) {
+			
+			// NO EVENTS, SO THE POLLING THREADS DO NOT INTERFERE
+			controllers[index] = new TestController("Test Keyboard " + index, Type.KEYBOARD, new Key[] {Key.A}, false, new float[0], 0);
+		}
+		
+		return new TestEnvironment(controllers);
+	}
+	
+	private static final ThreadFactory countingFactory(AtomicInteger threads) {
+		
+		return runnable -> {
+			
+			threads.incrementAndGet();
+			Thread thread = new Thread(runnable);
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+	
+	@Test
+	public void testDevicesGoToTheLeastBusyThread() {
+		
+		AtomicInteger threads = new AtomicInteger();
+		DeviceManager.create(PollingSchedulerTest.createEnvironment(3), 2, PollingSchedulerTest.countingFactory(threads));
+		PollingScheduler scheduler = DeviceManager.getPollingScheduler();
+		List<Keyboard> keyboards = DeviceManager.getKeyboards();
+		
+		// THREADS ARE ONLY STARTED WITH THE FIRST DEVICE
+		assertArrayEquals(new int[] {0, 0}, scheduler.getDeviceCounts());
+		assertEquals(0, threads.get());
+		
+		keyboards.get(0).startListening();
+		assertArrayEquals(new int[] {1, 0}, scheduler.getDeviceCounts());
+		
+		keyboards.get(1).startListening();
+		assertArrayEquals(new int[] {1, 1}, scheduler.getDeviceCounts());
+		
+		keyboards.get(2).startListening();
+		assertArrayEquals(new int[] {2, 1}, scheduler.getDeviceCounts());
+		assertEquals(2, threads.get());
+		
+		// REGISTERING TWICE DOES NOTHING
+		keyboards.get(2).startListening();
+		assertArrayEquals(new int[] {2, 1}, scheduler.getDeviceCounts());
+		
+		keyboards.get(0).stopListening();
+		assertArrayEquals(new int[] {1, 1}, scheduler.getDeviceCounts());
+		
+		keyboards.get(1).stopListening();
+		assertArrayEquals(new int[] {1, 0}, scheduler.getDeviceCounts());
+		
+		keyboards.get(0).startListening();
+		assertArrayEquals(new int[] {1, 1}, scheduler.getDeviceCounts());
+		assertEquals(2, scheduler.getDeviceCount());
+		assertEquals(2, scheduler.getThreadCount());
+		
+		DeviceManager.destroy();
+		
+		assertArrayEquals(new int[] {0, 0}, scheduler.getDeviceCounts());
+	}
+	
+	@Test
+	public void testThreadPerDevice() {
+		
+		AtomicInteger threads = new AtomicInteger();
+		DeviceManager.create(PollingSchedulerTest.createEnvironment(3), PollingScheduler.THREAD_PER_DEVICE, PollingSchedulerTest.countingFactory(threads));
+		PollingScheduler scheduler = DeviceManager.getPollingScheduler();
+		List<Keyboard> keyboards = DeviceManager.getKeyboards();
+		
+		assertArrayEquals(new int[0], scheduler.getDeviceCounts());
+		
+		for(Keyboard keyboard : keyboards) {
+			
+			keyboard.startListening();
+		}
+		
+		assertArrayEquals(new int[] {1, 1, 1}, scheduler.getDeviceCounts());
+		assertEquals(3, threads.get());
+		assertEquals(PollingScheduler.THREAD_PER_DEVICE, scheduler.getThreadCount());
+		
+		// THE WORKER OF A REMOVED DEVICE IS DROPPED
+		keyboards.get(1).stopListening();
+		assertArrayEquals(new int[] {1, 1}, scheduler.getDeviceCounts());
+		assertEquals(2, scheduler.getDeviceCount());
+		
+		DeviceManager.destroy();
+		
+		assertArrayEquals(new int[0], scheduler.getDeviceCounts());
+	}
+	
+	@Test
+	public void testExternalTickHasNoThreads() {
+		
+		AtomicInteger threads = new AtomicInteger();
+		DeviceManager.create(PollingSchedulerTest.createEnvironment(2), PollingScheduler.EXTERNAL_TICK, PollingSchedulerTest.countingFactory(threads));
+		PollingScheduler scheduler = DeviceManager.getPollingScheduler();
+		
+		for(Keyboard keyboard : DeviceManager.getKeyboards()) {
+			
+			keyboard.startListening();
+		}
+		
+		assertArrayEquals(new int[0], scheduler.getDeviceCounts());
+		assertEquals(2, scheduler.getDeviceCount());
+		assertEquals(0, threads.get());
+		
+		DeviceManager.destroy();
+	}
+}
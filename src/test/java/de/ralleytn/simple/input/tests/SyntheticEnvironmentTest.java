@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.input.DeviceManager;
+import de.ralleytn.simple.input.EnvironmentProvider;
+import de.ralleytn.simple.input.Keyboard;
+import de.ralleytn.simple.input.KeyboardAdapter;
+import de.ralleytn.simple.input.KeyboardEvent;
+import de.ralleytn.simple.input.Mouse;
+import de.ralleytn.simple.input.SyntheticController;
+import de.ralleytn.simple.input.SyntheticEnvironment;
+import net.java.games.input.Controller;
+import net.java.games.input.ControllerEvent;
+import net.java.games.input.ControllerListener;
+
+class SyntheticEnvironmentTest {
+
+	@Test
+	public void testSelectionByName() {
+		
+		System.setProperty(EnvironmentProvider.PROPERTY, "synthetic");
+		System.setProperty(SyntheticEnvironment.KEYBOARDS_PROPERTY, "2");
+		System.setProperty(SyntheticEnvironment.MICE_PROPERTY, "3");
+		System.setProperty(SyntheticEnvironment.GAMEPADS_PROPERTY, "4");
+		
+		try {
+			
+			DeviceManager.create();
+			
+			assertEquals(2, DeviceManager.getKeyboards().size());
+			assertEquals(3, DeviceManager.getMice().size());
+			assertEquals(4, DeviceManager.getGamepads().size());
+			
+		} finally {
+			
+			DeviceManager.destroy();
+			System.clearProperty(EnvironmentProvider.PROPERTY);
+			System.clearProperty(SyntheticEnvironment.KEYBOARDS_PROPERTY);
+			System.clearProperty(SyntheticEnvironment.MICE_PROPERTY);
+			System.clearProperty(SyntheticEnvironment.GAMEPADS_PROPERTY);
+		}
+	}
+	
+	@Test
+	public void testRate() throws InterruptedException {
+		
+		DeviceManager.create(SyntheticEnvironment.create(1, 0, 0, 10_000.0D));
+		Keyboard keyboard = DeviceManager.getKeyboards().get(0);
+		int[] events = new int[1];
+		keyboard.addKeyboardListener(new KeyboardAdapter() {
+			
+			@Override
+			public void onKeyPress(KeyboardEvent event) {
+				
+				events[0]++;
+			}
+			
+			@Override
+			public void onKeyRelease(KeyboardEvent event) {
+				
+				events[0]++;
+			}
+		});
+		
+		long start = System.nanoTime();
+		keyboard.poll();
+		Thread.sleep(200);
+		keyboard.poll();
+		double seconds = (System.nanoTime() - start) / 1_000_000_000.0D;
+		DeviceManager.destroy();
+		
+		assertTrue(events[0] > 1_000, events[0] + " events");
+		assertTrue(events[0] <= seconds * 10_000.0D + 1, events[0] + " events in " + seconds + " seconds");
+	}
+	
+	@Test
+	public void testEnqueue() {
+		
+		SyntheticController controller = SyntheticController.createMouse("Mouse", 0.0D);
+		DeviceManager.create(new SyntheticEnvironment(controller));
+		Mouse mouse = DeviceManager.getMice().get(0);
+		controller.enqueue(3, 1.0F, 1L);
+		controller.enqueue(0, 5.0F, 2L);
+		
+		assertEquals(2, controller.getQueuedEventCount());
+		
+		mouse.poll();
+		
+		assertEquals(0, controller.getQueuedEventCount());
+		assertTrue(mouse.isButtonDown(de.ralleytn.simple.input.MouseEvent.BUTTON_LEFT));
+		
+		DeviceManager.destroy();
+	}
+	
+	@Test
+	public void testAddAndRemove() {
+		
+		SyntheticEnvironment environment = new SyntheticEnvironment();
+		Controller controller = SyntheticController.createKeyboard("Keyboard", 0.0D);
+		int[] notifications = new int[2];
+		environment.addControllerListener(new ControllerListener() {
+			
+			@Override
+			public void controllerAdded(ControllerEvent event) {
+				
+				notifications[0]++;
+			}
+			
+			@Override
+			public void controllerRemoved(ControllerEvent event) {
+				
+				notifications[1]++;
+			}
+		});
+		
+		environment.addController(controller);
+		assertEquals(1, environment.getControllers().length);
+		assertTrue(environment.removeController(controller));
+		assertEquals(0, environment.getControllers().length);
+		assertEquals(1, notifications[0]);
+		assertEquals(1, notifications[1]);
+	}
+}
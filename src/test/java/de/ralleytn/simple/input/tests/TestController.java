@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.input.tests;
+
+import java.util.Arrays;
+
+import de.ralleytn.simple.input.SyntheticController;
+import net.java.games.input.Component.Identifier;
+
+/**
+ * {@linkplain SyntheticController} that emits a fixed number of events of its script with every poll.
+ */
+class TestController extends SyntheticController {
+
+	/**
+	 * @param name the name of the controller
+	 * @param type the type of the controller
+	 * @param identifiers the identifiers of the components
+	 * @param relative {@code true} if the components are relative (like mouse axes)
+	 * @param script pairs of component index and value
+	 * @param eventsPerPoll how many events of the script are emitted with each poll
+	 */
+	TestController(String name, Type type, Identifier[] identifiers, boolean relative, float[] script, int eventsPerPoll) {
+		
+		super(name, type, identifiers, TestController.fill(identifiers.length, relative), script, 0.0D);
+		
+		this.setEventsPerPoll(eventsPerPoll);
+	}
+	
+	private static final boolean[] fill(int length, boolean value) {
+		
+		boolean[] array = new boolean[length];
+		Arrays.fill(array, value);
+		return array;
+	}
+}